@@ -1,22 +1,104 @@
 package com.pokemonurpg;
 
+import com.pokemonurpg.service.DataSourceMetricsService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class AppConfig {
 
-    @Bean
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    @Value("${urpg.datasource.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    @Value("${urpg.datasource.minimum-idle:2}")
+    private int minimumIdle;
+
+    @Value("${urpg.datasource.connection-timeout-ms:10000}")
+    private long connectionTimeout;
+
+    @Value("${urpg.datasource.validation-timeout-ms:3000}")
+    private long validationTimeout;
+
+    @Value("${urpg.datasource.max-lifetime-ms:1800000}")
+    private long maxLifetime;
+
+    @Value("${urpg.datasource.leak-detection-threshold-ms:30000}")
+    private long leakDetectionThreshold;
+
+    @Value("${urpg.datasource.statement-cache-size:250}")
+    private int statementCacheSize;
+
+    @Value("${urpg.datasource.statement-cache-sql-limit:2048}")
+    private int statementCacheSqlLimit;
+
+    @Value("${urpg.discord.connect-timeout-ms:2000}")
+    private long discordConnectTimeout;
+
+    @Value("${urpg.discord.read-timeout-ms:5000}")
+    private long discordReadTimeout;
+
+    @Value("${urpg.discord.call-timeout-ms:8000}")
+    private long discordCallTimeout;
 
-        dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
-        dataSource.setUsername("urpg_secure");
-        dataSource.setPassword(System.getenv("URPG_DB_PASSWORD"));
-        dataSource.setUrl("jdbc:mysql://localhost:3306/urpg_db");
+    @Value("${urpg.discord.max-idle-connections:8}")
+    private int discordMaxIdleConnections;
+
+    @Value("${urpg.discord.keep-alive-ms:300000}")
+    private long discordKeepAlive;
+
+    @Value("${urpg.discord.max-requests:64}")
+    private int discordMaxRequests;
+
+    @Bean(destroyMethod = "close")
+    public DataSource dataSource(DataSourceMetricsService dataSourceMetricsService) {
+        HikariConfig config = new HikariConfig();
+
+        config.setPoolName("urpg-pool");
+        config.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        config.setUsername("urpg_secure");
+        config.setPassword(System.getenv("URPG_DB_PASSWORD"));
+        config.setJdbcUrl("jdbc:mysql://localhost:3306/urpg_db");
+
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMinimumIdle(minimumIdle);
+        config.setConnectionTimeout(connectionTimeout);
+        config.setValidationTimeout(validationTimeout);
+        config.setMaxLifetime(maxLifetime);
+        config.setLeakDetectionThreshold(leakDetectionThreshold);
+
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", statementCacheSize);
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", statementCacheSqlLimit);
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+
+        config.setMetricsTrackerFactory(dataSourceMetricsService);
+
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    public OkHttpClient discordHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(discordMaxRequests);
+        dispatcher.setMaxRequestsPerHost(discordMaxRequests);
 
-        return dataSource;
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(discordMaxIdleConnections, discordKeepAlive, TimeUnit.MILLISECONDS))
+                .connectTimeout(discordConnectTimeout, TimeUnit.MILLISECONDS)
+                .readTimeout(discordReadTimeout, TimeUnit.MILLISECONDS)
+                .writeTimeout(discordReadTimeout, TimeUnit.MILLISECONDS)
+                .callTimeout(discordCallTimeout, TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(true)
+                .build();
     }
 }
@@ -0,0 +1,62 @@
+package com.pokemonurpg.controller;
+
+import com.pokemonurpg.RestResponse;
+import com.pokemonurpg.dto.security.Authenticated;
+import com.pokemonurpg.service.DataSourceMetricsService;
+import com.pokemonurpg.service.LedgerService;
+import com.pokemonurpg.service.LogArchiveService;
+import com.pokemonurpg.service.LogService;
+import com.pokemonurpg.service.OAuthService;
+import com.pokemonurpg.service.RemoteWorkExecutor;
+import com.pokemonurpg.service.SpeciesPageCache;
+import com.pokemonurpg.service.VerifiedSessionCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin")
+@CrossOrigin
+public class AdminController {
+
+    private DataSourceMetricsService dataSourceMetricsService;
+    private VerifiedSessionCache verifiedSessionCache;
+    private SpeciesPageCache speciesPageCache;
+    private OAuthService oAuthService;
+    private RemoteWorkExecutor remoteWorkExecutor;
+    private LogService logService;
+    private LogArchiveService logArchiveService;
+    private LedgerService ledgerService;
+
+    @Autowired
+    public AdminController(DataSourceMetricsService dataSourceMetricsService, VerifiedSessionCache verifiedSessionCache,
+                           SpeciesPageCache speciesPageCache, OAuthService oAuthService, RemoteWorkExecutor remoteWorkExecutor,
+                           LogService logService, LogArchiveService logArchiveService, LedgerService ledgerService) {
+        this.dataSourceMetricsService = dataSourceMetricsService;
+        this.verifiedSessionCache = verifiedSessionCache;
+        this.speciesPageCache = speciesPageCache;
+        this.oAuthService = oAuthService;
+        this.remoteWorkExecutor = remoteWorkExecutor;
+        this.logService = logService;
+        this.logArchiveService = logArchiveService;
+        this.ledgerService = ledgerService;
+    }
+
+    @PostMapping(path = "/metrics")
+    @RequiresPermission("View Metrics")
+    public @ResponseBody
+    RestResponse getMetrics(@RequestBody Authenticated<Object> input) {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("dataSource", dataSourceMetricsService.getStats());
+        metrics.put("sessions", verifiedSessionCache.getStats());
+        metrics.put("speciesPages", speciesPageCache.getStats());
+        metrics.put("discord", oAuthService.getStats());
+        metrics.put("remoteWork", remoteWorkExecutor.getStats());
+        metrics.put("logWriter", logService.getStats());
+        metrics.put("logArchive", logArchiveService.getStats());
+        metrics.put("ledger", ledgerService.getStats());
+        return new RestResponse(200, metrics);
+    }
+}
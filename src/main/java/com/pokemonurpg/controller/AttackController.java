@@ -9,7 +9,6 @@ import com.pokemonurpg.object.AttackCategory;
 import com.pokemonurpg.object.Member;
 import com.pokemonurpg.dto.security.Authenticated;
 import com.pokemonurpg.service.AttackService;
-import com.pokemonurpg.service.MemberService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,14 +22,12 @@ import org.springframework.web.bind.annotation.*;
 public class AttackController {
 
     private AttackService attackService;
-    private MemberService memberService;
     private Logger logger = LogManager.getLogger(AttackController.class);
     private ObjectMapper mapper = new ObjectMapper();
 
     @Autowired
-    public AttackController(AttackService attackService, MemberService memberService) {
+    public AttackController(AttackService attackService) {
         this.attackService = attackService;
-        this.memberService = memberService;
     }
 
     @GetMapping
@@ -39,6 +36,12 @@ public class AttackController {
         return new RestResponse(200, attackService.findAll());
     }
 
+    @GetMapping(path="/suggest")
+    public @ResponseBody
+    RestResponse suggest(@RequestParam("q") String q, @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return new RestResponse(200, attackService.suggest(q, limit));
+    }
+
     @GetMapping(path="/{name}")
     public @ResponseBody
     RestResponse getAttackByName(@PathVariable("name") String name) {
@@ -54,40 +57,38 @@ public class AttackController {
     }
 
     @PostMapping
+    @RequiresPermission("Write Attack")
     public @ResponseBody
     RestResponse createAttack(@RequestBody Authenticated<AttackInputDto> input) {
-        if (memberService.authenticateAndAuthorize(input.getSession(), "Write Attack")) {
-            AttackInputDto attack = input.getPayload();
-            try {
-                logger.info("{} requested CREATE ATTACK with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
-            } catch (JsonProcessingException e) {
-                logger.catching(e);
-                return new RestResponse(500, "Internal server error. Please contact your system administrator.");
-            }
-            Errors errors = attackService.createAttack(attack);
-            if (errors.hasErrors()) {
-                return new RestResponse(400, errors.getAllErrors());
-            }
-            else return new RestResponse(200, "Attack " + attack.getName() + " was created successfully!");
-        } else return new RestResponse(401, "The current user is not logged in or does not have permissions to perform the requested action.");
+        AttackInputDto attack = input.getPayload();
+        try {
+            logger.info("{} requested CREATE ATTACK with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
+        } catch (JsonProcessingException e) {
+            logger.catching(e);
+            return new RestResponse(500, "Internal server error. Please contact your system administrator.");
+        }
+        Errors errors = attackService.createAttack(attack);
+        if (errors.hasErrors()) {
+            return new RestResponse(400, errors.getAllErrors());
+        }
+        else return new RestResponse(200, "Attack " + attack.getName() + " was created successfully!");
     }
 
     @PutMapping
+    @RequiresPermission("Write Attack")
     public @ResponseBody
     RestResponse updateAttack(@RequestBody Authenticated<AttackInputDto> input) {
-        if (memberService.authenticateAndAuthorize(input.getSession(), "Write Attack")) {
-            AttackInputDto attack = input.getPayload();
-            try {
-                logger.info("{} requested UPDATE ATTACK with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
-            } catch (JsonProcessingException e) {
-                logger.catching(e);
-                return new RestResponse(500, "Internal server error. Please contact your system administrator.");
-            }
-            Errors errors = attackService.updateAttack(attack);
-            if (errors.hasErrors()) {
-                return new RestResponse(400, errors.getAllErrors());
-            }
-            else return new RestResponse(200, "Attack " + attack.getName() + " was updated successfully!");
-        } else return new RestResponse(401, "The current user is not logged in or does not have permissions to perform the requested action.");
+        AttackInputDto attack = input.getPayload();
+        try {
+            logger.info("{} requested UPDATE ATTACK with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
+        } catch (JsonProcessingException e) {
+            logger.catching(e);
+            return new RestResponse(500, "Internal server error. Please contact your system administrator.");
+        }
+        Errors errors = attackService.updateAttack(attack);
+        if (errors.hasErrors()) {
+            return new RestResponse(400, errors.getAllErrors());
+        }
+        else return new RestResponse(200, "Attack " + attack.getName() + " was updated successfully!");
     }
 }
@@ -0,0 +1,79 @@
+package com.pokemonurpg.controller;
+
+import com.pokemonurpg.RestResponse;
+import com.pokemonurpg.dto.security.Authenticated;
+import com.pokemonurpg.service.AuthenticationContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+@ControllerAdvice
+public class AuthenticationAdvice extends RequestBodyAdviceAdapter {
+
+    static final String UNAUTHORIZED_MESSAGE = "The current user is not logged in or does not have permissions to perform the requested action.";
+
+    private AuthenticationContext authenticationContext;
+
+    @Autowired
+    public AuthenticationAdvice(AuthenticationContext authenticationContext) {
+        this.authenticationContext = authenticationContext;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return Authenticated.class.isAssignableFrom(methodParameter.getParameterType()) || methodParameter.hasMethodAnnotation(RequiresPermission.class);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        if (body instanceof Authenticated) {
+            authenticationContext.resolve(((Authenticated<?>) body).getSession());
+        }
+        checkPermission(parameter.getMethodAnnotation(RequiresPermission.class));
+        return body;
+    }
+
+    @Override
+    public Object handleEmptyBody(Object body, HttpInputMessage inputMessage, MethodParameter parameter, Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        checkPermission(parameter.getMethodAnnotation(RequiresPermission.class));
+        return body;
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public @ResponseBody
+    RestResponse handleUnauthorized() {
+        return new RestResponse(401, UNAUTHORIZED_MESSAGE);
+    }
+
+    private void checkPermission(RequiresPermission requirement) {
+        if (requirement == null) {
+            return;
+        }
+        if (!requirement.currentUser().isEmpty() && authenticationContext.isCurrentUser(findPathVariable(requirement.currentUser()))) {
+            return;
+        }
+        if (!authenticationContext.hasPermissions(requirement.value())) {
+            throw new UnauthorizedException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String findPathVariable(String name) {
+        Object variables = RequestContextHolder.currentRequestAttributes().getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return variables instanceof Map ? ((Map<String, String>) variables).get(name) : null;
+    }
+
+    static class UnauthorizedException extends RuntimeException {
+    }
+}
@@ -0,0 +1,18 @@
+package com.pokemonurpg.controller;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequiresPermission {
+
+    String[] value();
+
+    /**
+     * Name of a path variable; the request is also allowed when it matches the current user's name.
+     */
+    String currentUser() default "";
+}
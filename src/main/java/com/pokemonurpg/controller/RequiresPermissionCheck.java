@@ -0,0 +1,52 @@
+package com.pokemonurpg.controller;
+
+import com.pokemonurpg.dto.security.Authenticated;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link AuthenticationAdvice} enforces {@link RequiresPermission} while the request body is read, so every
+ * annotated handler must read an {@link Authenticated} body; startup fails otherwise.
+ */
+@Component
+public class RequiresPermissionCheck implements SmartInitializingSingleton {
+
+    private List<RequestMappingHandlerMapping> handlerMappings;
+
+    @Autowired
+    public RequiresPermissionCheck(List<RequestMappingHandlerMapping> handlerMappings) {
+        this.handlerMappings = handlerMappings;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (RequestMappingHandlerMapping handlerMapping : handlerMappings) {
+            verify(handlerMapping.getHandlerMethods().values());
+        }
+    }
+
+    static void verify(Collection<HandlerMethod> handlerMethods) {
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            if (handlerMethod.hasMethodAnnotation(RequiresPermission.class) && !readsAuthenticatedBody(handlerMethod)) {
+                throw new IllegalStateException(handlerMethod + " requires a permission but does not read an Authenticated request body.");
+            }
+        }
+    }
+
+    private static boolean readsAuthenticatedBody(HandlerMethod handlerMethod) {
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            if (parameter.hasParameterAnnotation(RequestBody.class) && Authenticated.class.isAssignableFrom(parameter.getParameterType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
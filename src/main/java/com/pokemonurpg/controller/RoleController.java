@@ -7,7 +7,6 @@ import com.pokemonurpg.dto.security.RoleDto;
 import com.pokemonurpg.dto.security.Authenticated;
 import com.pokemonurpg.dto.security.RoleInputDto;
 import com.pokemonurpg.object.Member;
-import com.pokemonurpg.service.MemberService;
 import com.pokemonurpg.service.RoleService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -20,14 +19,12 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin
 public class RoleController {
     private RoleService roleService;
-    private MemberService memberService;
     private Logger logger = LogManager.getLogger(RoleController.class);
     private ObjectMapper mapper = new ObjectMapper();
 
     @Autowired
-    public RoleController(RoleService roleService, MemberService memberService) {
+    public RoleController(RoleService roleService) {
         this.roleService = roleService;
-        this.memberService = memberService;
     }
 
     @GetMapping
@@ -36,6 +33,12 @@ public class RoleController {
         return new RestResponse(200, roleService.findAll());
     }
 
+    @GetMapping(path="/suggest")
+    public @ResponseBody
+    RestResponse suggest(@RequestParam("q") String q, @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return new RestResponse(200, roleService.suggest(q, limit));
+    }
+
     @GetMapping(path="/{name}")
     public @ResponseBody
     RestResponse getRoleByName(@PathVariable("name") String name) {
@@ -51,40 +54,38 @@ public class RoleController {
     }
 
     @PostMapping
+    @RequiresPermission("Write Role")
     public @ResponseBody
     RestResponse createRole(@RequestBody Authenticated<RoleInputDto> input) {
-        if (memberService.authenticateAndAuthorize(input.getSession(), "Write Role")) {
-            RoleInputDto role = input.getPayload();
-            try {
-                logger.info("{} requested CREATE ROLE with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
-            } catch (JsonProcessingException e) {
-                logger.catching(e);
-                return new RestResponse(500, "Internal server error. Please contact your system administrator.");
-            }
-            Errors errors = roleService.createRole(role);
-            if (errors.hasErrors()) {
-                return new RestResponse(400, errors.getAllErrors());
-            }
-            else return new RestResponse(200, "Role " + role.getName() + " was created successfully!");
-        } else return new RestResponse(401, "The current user is not logged in or does not have permissions to perform the requested action.");
+        RoleInputDto role = input.getPayload();
+        try {
+            logger.info("{} requested CREATE ROLE with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
+        } catch (JsonProcessingException e) {
+            logger.catching(e);
+            return new RestResponse(500, "Internal server error. Please contact your system administrator.");
+        }
+        Errors errors = roleService.createRole(role);
+        if (errors.hasErrors()) {
+            return new RestResponse(400, errors.getAllErrors());
+        }
+        else return new RestResponse(200, "Role " + role.getName() + " was created successfully!");
     }
 
     @PutMapping
+    @RequiresPermission("Write Role")
     public @ResponseBody
     RestResponse updateRole(@RequestBody Authenticated<RoleInputDto> input) {
-        if (memberService.authenticateAndAuthorize(input.getSession(), "Write Role")) {
-            RoleInputDto role = input.getPayload();
-            try {
-                logger.info("{} requested UPDATE ROLE with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
-            } catch (JsonProcessingException e) {
-                logger.catching(e);
-                return new RestResponse(500, "Internal server error. Please contact your system administrator.");
-            }
-            Errors errors = roleService.updateRole(role);
-            if (errors.hasErrors()) {
-                return new RestResponse(400, errors.getAllErrors());
-            }
-            else return new RestResponse(200, "Role " + role.getName() + " was updated successfully!");
-        } else return new RestResponse(401, "The current user is not logged in or does not have permissions to perform the requested action.");
+        RoleInputDto role = input.getPayload();
+        try {
+            logger.info("{} requested UPDATE ROLE with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
+        } catch (JsonProcessingException e) {
+            logger.catching(e);
+            return new RestResponse(500, "Internal server error. Please contact your system administrator.");
+        }
+        Errors errors = roleService.updateRole(role);
+        if (errors.hasErrors()) {
+            return new RestResponse(400, errors.getAllErrors());
+        }
+        else return new RestResponse(200, "Role " + role.getName() + " was updated successfully!");
     }
 }
@@ -5,10 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pokemonurpg.RestResponse;
 import com.pokemonurpg.dto.security.SessionDto;
 import com.pokemonurpg.dto.species.input.SpeciesInputDto;
-import com.pokemonurpg.dto.species.response.SpeciesDto;
 import com.pokemonurpg.object.Member;
 import com.pokemonurpg.dto.security.Authenticated;
-import com.pokemonurpg.service.MemberService;
+import com.pokemonurpg.dto.RawJsonDto;
+import com.pokemonurpg.service.SpeciesPageService;
 import com.pokemonurpg.service.SpeciesService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -22,15 +22,15 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin
 public class SpeciesController {
 
-    private MemberService memberService;
     private SpeciesService speciesService;
+    private SpeciesPageService speciesPageService;
     private Logger logger = LogManager.getLogger(SpeciesController.class);
     private ObjectMapper mapper = new ObjectMapper();
 
     @Autowired
-    public SpeciesController(MemberService memberService, SpeciesService speciesService) {
-        this.memberService = memberService;
+    public SpeciesController(SpeciesService speciesService, SpeciesPageService speciesPageService) {
         this.speciesService = speciesService;
+        this.speciesPageService = speciesPageService;
     }
 
     @GetMapping
@@ -39,11 +39,26 @@ public class SpeciesController {
         return new RestResponse(200, speciesService.findAll());
     }
 
+    @GetMapping(path="/suggest")
+    public @ResponseBody
+    RestResponse suggest(@RequestParam("q") String q, @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return new RestResponse(200, speciesService.suggest(q, limit));
+    }
+
+    @GetMapping(path="/range")
+    public @ResponseBody
+    RestResponse getSpeciesRange(@RequestParam("from") int from, @RequestParam("to") int to) {
+        if (from > to) {
+            return new RestResponse(400, null);
+        }
+        return new RestResponse(200, speciesService.findPageTabs(from, to));
+    }
+
     @GetMapping(path="/{name}")
     public @ResponseBody
     RestResponse getSpeciesByName(@PathVariable("name") String name) {
         try {
-            SpeciesDto dto = speciesService.findByName(name);
+            RawJsonDto dto = speciesPageService.findByName(name);
             if (dto != null) {
                 return new RestResponse(200, dto);
             }
@@ -54,39 +69,37 @@ public class SpeciesController {
     }
 
     @PostMapping
+    @RequiresPermission("Write Species")
     public @ResponseBody
     RestResponse createSpecies(@RequestBody Authenticated<SpeciesInputDto> input) {
-        if (memberService.authenticateAndAuthorize(input.getSession(), "Write Species")) {
-            SpeciesInputDto species = input.getPayload();
-            try {
-                logger.info("{} requested CREATE SPECIES with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
-            } catch (JsonProcessingException e) {
-                logger.catching(e);
-                return new RestResponse(500, "Internal server error. Please contact your system administrator.");
-            }
-            Errors errors = speciesService.createSpecies(species);
-            if (errors.hasErrors()) {
-                return new RestResponse(400, errors.getAllErrors());
-            } else return new RestResponse(200, "Pokemon " + species.getName() + " was created successfully!");
-        } else return new RestResponse(401, "The current user is not logged in or does not have permissions to perform the requested action.");
+        SpeciesInputDto species = input.getPayload();
+        try {
+            logger.info("{} requested CREATE SPECIES with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
+        } catch (JsonProcessingException e) {
+            logger.catching(e);
+            return new RestResponse(500, "Internal server error. Please contact your system administrator.");
+        }
+        Errors errors = speciesService.createSpecies(species);
+        if (errors.hasErrors()) {
+            return new RestResponse(400, errors.getAllErrors());
+        } else return new RestResponse(200, "Pokemon " + species.getName() + " was created successfully!");
     }
 
     @PutMapping
+    @RequiresPermission("Write Species")
     public @ResponseBody
     RestResponse updateSpecies(@RequestBody Authenticated<SpeciesInputDto> input) {
-        if (memberService.authenticateAndAuthorize(input.getSession(), "Write Species")) {
-            SpeciesInputDto species = input.getPayload();
-            try {
-                logger.info("{} requested UPDATE SPECIES with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
-            } catch (JsonProcessingException e) {
-                logger.catching(e);
-                return new RestResponse(500, "Internal server error. Please contact your system administrator.");
-            }
-            Errors errors = speciesService.updateSpecies(species);
-            if (errors.hasErrors()) {
-                return new RestResponse(400, errors.getAllErrors());
-            } else return new RestResponse(200, "Pokemon " + species.getName() + " was updated successfully!");
-        } else return new RestResponse(401, "The current user is not logged in or does not have permissions to perform the requested action.");
+        SpeciesInputDto species = input.getPayload();
+        try {
+            logger.info("{} requested UPDATE SPECIES with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
+        } catch (JsonProcessingException e) {
+            logger.catching(e);
+            return new RestResponse(500, "Internal server error. Please contact your system administrator.");
+        }
+        Errors errors = speciesService.updateSpecies(species);
+        if (errors.hasErrors()) {
+            return new RestResponse(400, errors.getAllErrors());
+        } else return new RestResponse(200, "Pokemon " + species.getName() + " was updated successfully!");
     }
 
     /*
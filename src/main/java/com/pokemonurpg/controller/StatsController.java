@@ -3,12 +3,17 @@ package com.pokemonurpg.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.pokemonurpg.RestResponse;
 import com.pokemonurpg.dto.security.Authenticated;
+import com.pokemonurpg.dto.stats.input.StatsDeltaInputDto;
 import com.pokemonurpg.dto.stats.input.StatsInputDto;
 import com.pokemonurpg.dto.stats.input.StatsPokemonInputDto;
+import com.pokemonurpg.dto.stats.response.LedgerBalanceDto;
+import com.pokemonurpg.dto.stats.response.LogPageDto;
 import com.pokemonurpg.dto.stats.response.OwnedPokemonDto;
+import com.pokemonurpg.dto.stats.response.OwnedPokemonPageDto;
+import com.pokemonurpg.dto.stats.response.StatsDeltaDto;
 import com.pokemonurpg.dto.stats.response.StatsDto;
 import com.pokemonurpg.object.Member;
-import com.pokemonurpg.service.MemberService;
+import com.pokemonurpg.service.AuthenticationContext;
 import com.pokemonurpg.service.StatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.validation.Errors;
@@ -19,19 +24,19 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin
 public class StatsController {
     private StatsService statsService;
-    private MemberService memberService;
+    private AuthenticationContext authenticationContext;
 
     @Autowired
-    public StatsController(StatsService statsService, MemberService memberService) {
+    public StatsController(StatsService statsService, AuthenticationContext authenticationContext) {
         this.statsService = statsService;
-        this.memberService = memberService;
+        this.authenticationContext = authenticationContext;
     }
 
     @GetMapping(path="/{name}")
     public @ResponseBody
-    RestResponse getStatsByName(@PathVariable("name") String name) {
+    RestResponse getStatsByName(@PathVariable("name") String name, @RequestParam(value = "summary", defaultValue = "false") boolean summary) {
         try {
-            StatsDto dto = statsService.findByName(name);
+            StatsDto dto = summary ? statsService.findSummaryByName(name) : statsService.findByName(name);
             if (dto != null) {
                 return new RestResponse(200, dto);
             }
@@ -41,16 +46,82 @@ public class StatsController {
         }
     }
 
+    @GetMapping(path="/{name}/pokemon")
+    public @ResponseBody
+    RestResponse getOwnedPokemonPage(@PathVariable("name") String name,
+                                     @RequestParam(value = "page", defaultValue = "0") int page,
+                                     @RequestParam(value = "size", defaultValue = "50") int size,
+                                     @RequestParam(value = "sort", required = false) String sort,
+                                     @RequestParam(value = "species", required = false) String species,
+                                     @RequestParam(value = "type", required = false) String type) {
+        try {
+            OwnedPokemonPageDto dto = statsService.findOwnedPokemonPage(name, page, size, sort, species, type);
+            if (dto != null) {
+                return new RestResponse(200, dto);
+            }
+            else return new RestResponse(404, null);
+        } catch (IllegalArgumentException e) {
+            return new RestResponse(400, e.getMessage());
+        }
+    }
+
+    @GetMapping(path="/{name}/logs")
+    public @ResponseBody
+    RestResponse getLogPage(@PathVariable("name") String name,
+                            @RequestParam(value = "before", required = false) String before,
+                            @RequestParam(value = "limit", defaultValue = "25") int limit) {
+        try {
+            LogPageDto dto = statsService.findLogPage(name, before, limit);
+            if (dto != null) {
+                return new RestResponse(200, dto);
+            }
+            else return new RestResponse(404, null);
+        } catch (IllegalArgumentException e) {
+            return new RestResponse(400, e.getMessage());
+        }
+    }
+
+    @GetMapping(path="/{name}/balance")
+    public @ResponseBody
+    RestResponse getBalance(@PathVariable("name") String name,
+                            @RequestParam(value = "item", required = false) String item,
+                            @RequestParam(value = "at", required = false) Long at) {
+        try {
+            LedgerBalanceDto dto = statsService.findBalance(name, item, at);
+            if (dto != null) {
+                return new RestResponse(200, dto);
+            }
+            else return new RestResponse(404, null);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return new RestResponse(400, e.getMessage());
+        }
+    }
+
     @PutMapping(path="/{name}")
+    @RequiresPermission(value = "Write User", currentUser = "name")
     public @ResponseBody
     RestResponse updateStats(@RequestBody Authenticated<StatsInputDto> input, @PathVariable("name") String name) {
-        if (memberService.isCurrentUser(input.getSession(), name) || memberService.authenticateAndAuthorize(input.getSession(), "Write User")) {
-            StatsInputDto stats = input.getPayload();
-            Errors errors = statsService.updateStats(input.getSession().getUsername(), stats, name);
-            if (errors.hasErrors()) {
-                return new RestResponse(400, errors.getAllErrors());
-            } else return new RestResponse(200, "Trainer " + name + " was updated successfully!");
-        } else return new RestResponse(401, "The current user is not logged in or does not have permissions to perform the requested action.");
+        StatsInputDto stats = input.getPayload();
+        Errors errors = statsService.updateStats(authenticationContext.getMember().getUsername(), stats, name);
+        if (errors.hasErrors()) {
+            return new RestResponse(400, errors.getAllErrors());
+        } else return new RestResponse(200, "Trainer " + name + " was updated successfully!");
+    }
+
+    @PostMapping(path="/{name}/{stat:money|wins|losses|draws}")
+    @RequiresPermission(value = "Write User", currentUser = "name")
+    public @ResponseBody
+    RestResponse applyDelta(@RequestBody Authenticated<StatsDeltaInputDto> input, @PathVariable("name") String name, @PathVariable("stat") String stat) {
+        try {
+            StatsDeltaInputDto payload = input.getPayload() != null ? input.getPayload() : new StatsDeltaInputDto();
+            StatsDeltaDto dto = statsService.applyDelta(authenticationContext.getMember().getUsername(), name, stat, payload.getDelta(), payload.getReason());
+            if (dto != null) {
+                return new RestResponse(200, dto);
+            }
+            else return new RestResponse(404, "Trainer " + name + " doesn't exist.");
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return new RestResponse(400, e.getMessage());
+        }
     }
 
     @GetMapping(path="/pokemon/{dbid}")
@@ -71,9 +142,9 @@ public class StatsController {
     public @ResponseBody
     RestResponse updatePokemon(@RequestBody Authenticated<StatsPokemonInputDto> input, @PathVariable("dbid") int dbid) {
         Member member = statsService.getPokemonOwner(dbid);
-        if (memberService.isCurrentUser(input.getSession(), member.getUsername()) || memberService.authenticateAndAuthorize(input.getSession(), "Write User")) {
+        if (authenticationContext.isCurrentUser(member.getUsername()) || authenticationContext.hasPermissions("Write User")) {
             StatsPokemonInputDto pokemon = input.getPayload();
-            Errors errors = statsService.updatePokemon(input.getSession().getUsername(), pokemon);
+            Errors errors = statsService.updatePokemon(authenticationContext.getMember().getUsername(), pokemon);
             if (errors.hasErrors()) {
                 return new RestResponse(400, errors.getAllErrors());
             } else return new RestResponse(200, "Saved!");
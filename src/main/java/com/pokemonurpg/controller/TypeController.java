@@ -1,6 +1,8 @@
 package com.pokemonurpg.controller;
 
 import com.pokemonurpg.RestResponse;
+import com.pokemonurpg.dto.type.TypePairDto;
+import com.pokemonurpg.service.TypeMatchupService;
 import com.pokemonurpg.service.TypeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
@@ -14,10 +16,12 @@ import java.util.Optional;
 public class TypeController {
 
     private TypeService typeService;
+    private TypeMatchupService typeMatchupService;
 
     @Autowired
-    public TypeController(TypeService typeService) {
+    public TypeController(TypeService typeService, TypeMatchupService typeMatchupService) {
         this.typeService = typeService;
+        this.typeMatchupService = typeMatchupService;
     }
 
     @GetMapping
@@ -25,4 +29,16 @@ public class TypeController {
     RestResponse getAllTypes() {
         return new RestResponse(200, typeService.findAll());
     }
+
+    @GetMapping(path = "/matchup")
+    public @ResponseBody
+    RestResponse getTypeChart() {
+        return new RestResponse(200, typeMatchupService.buildTypeChartDto());
+    }
+
+    @PostMapping(path = "/matchup")
+    public @ResponseBody
+    RestResponse getTypeMatchupsForPairs(@RequestBody List<TypePairDto> pairs) {
+        return new RestResponse(200, typeMatchupService.findTypeMatchupsByTypePairs(pairs));
+    }
 }
@@ -13,6 +13,7 @@ import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/user")
@@ -34,6 +35,12 @@ public class UserController {
         return new RestResponse(200, memberService.findAll());
     }
 
+    @GetMapping(path="/suggest")
+    public @ResponseBody
+    RestResponse suggest(@RequestParam("q") String q, @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return new RestResponse(200, memberService.suggest(q, limit));
+    }
+
     @GetMapping(path="/{name}")
     public @ResponseBody
     RestResponse getMember(@PathVariable("name") String name) {
@@ -50,60 +57,59 @@ public class UserController {
 
     @PostMapping("/session")
     public @ResponseBody
-    RestResponse session(@RequestBody SessionDto input) {
-        SessionDto currentSession = memberService.refreshCurrentUserSession(input);
-        if (currentSession != null) {
-            return new RestResponse(200, currentSession);
-        }
-        else return new RestResponse(404, "No current session found.");
+    CompletableFuture<RestResponse> session(@RequestBody SessionDto input) {
+        return memberService.refreshCurrentUserSessionAsync(input).thenApply(currentSession -> {
+            if (currentSession != null) {
+                return new RestResponse(200, currentSession);
+            }
+            else return new RestResponse(404, "No current session found.");
+        });
     }
 
     @PostMapping("/login")
     public @ResponseBody
-    RestResponse login(@RequestBody String code) {
-        code = code.replaceAll("\"", "");
-        SessionDto session = memberService.login(code);
-        if (session != null) {
-            return new RestResponse(200, session);
-        }
-        else return new RestResponse(401, "Couldn't log you in. Please contact your system administrator.");
+    CompletableFuture<RestResponse> login(@RequestBody String code) {
+        return memberService.loginAsync(code.replaceAll("\"", "")).thenApply(session -> {
+            if (session != null) {
+                return new RestResponse(200, session);
+            }
+            else return new RestResponse(401, "Couldn't log you in. Please contact your system administrator.");
+        });
     }
 
     @PostMapping("/invite")
+    @RequiresPermission("Invite User")
     public @ResponseBody
     RestResponse invite(@RequestBody Authenticated<InviteUserDto> input) {
-        if (memberService.authenticateAndAuthorize(input.getSession(), "Invite User")) {
-            try {
-                logger.info("{} requested INVITE USER with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
-            } catch (JsonProcessingException e) {
-                logger.catching(e);
-                return new RestResponse(500, "Internal server error. Please contact your system administrator.");
-            }
-            Errors errors = memberService.inviteUser(input.getPayload());
-            if (errors.hasErrors()) {
-                return new RestResponse(400, errors.getAllErrors());
-            }
-            else return new RestResponse(200,"User " + input.getPayload().getUsername() + " was created successfully!");
-        } else return new RestResponse(401, "The current user is not logged in or does not have permissions to perform the requested action.");
+        try {
+            logger.info("{} requested INVITE USER with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
+        } catch (JsonProcessingException e) {
+            logger.catching(e);
+            return new RestResponse(500, "Internal server error. Please contact your system administrator.");
+        }
+        Errors errors = memberService.inviteUser(input.getPayload());
+        if (errors.hasErrors()) {
+            return new RestResponse(400, errors.getAllErrors());
+        }
+        else return new RestResponse(200,"User " + input.getPayload().getUsername() + " was created successfully!");
     }
 
     @PutMapping
+    @RequiresPermission("Write Member")
     public @ResponseBody
     RestResponse updateMember(@RequestBody Authenticated<MemberInputDto> input) {
-        if (memberService.authenticateAndAuthorize(input.getSession(), "Write Member")) {
-            MemberInputDto memberToUpdate = input.getPayload();
-            try {
-                logger.info("{} requested UPDATE MEMBER with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
-            } catch (JsonProcessingException e) {
-                logger.catching(e);
-                return new RestResponse(500, "Internal server error. Please contact your system administrator.");
-            }
-            Errors errors = memberService.updateMember(memberToUpdate);
-            if (errors.hasErrors()) {
-                return new RestResponse(400, errors.getAllErrors());
-            } else
-                return new RestResponse(200, "User " + memberToUpdate.getName() + " was updated successfully!");
-        } else return new RestResponse(401, "The current user is not logged in or does not have permissions to perform the requested action.");
+        MemberInputDto memberToUpdate = input.getPayload();
+        try {
+            logger.info("{} requested UPDATE MEMBER with input={}", input.getSession().getId(), mapper.writerWithDefaultPrettyPrinter().writeValueAsString(input.getPayload()));
+        } catch (JsonProcessingException e) {
+            logger.catching(e);
+            return new RestResponse(500, "Internal server error. Please contact your system administrator.");
+        }
+        Errors errors = memberService.updateMember(memberToUpdate);
+        if (errors.hasErrors()) {
+            return new RestResponse(400, errors.getAllErrors());
+        } else
+            return new RestResponse(200, "User " + memberToUpdate.getName() + " was updated successfully!");
     }
 
     /*@PutMapping("/password")
@@ -5,6 +5,7 @@ public class SessionDto {
     private String id;
     private String accessToken;
     private String refreshToken;
+    private String token;
 
     public SessionDto() {
     }
@@ -47,4 +48,12 @@ public class SessionDto {
     public void setRefreshToken(String refreshToken) {
         this.refreshToken = refreshToken;
     }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
 }
@@ -13,6 +13,11 @@ public class SpeciesPageTabDto {
         }
     }
 
+    public SpeciesPageTabDto(int dexno, String name) {
+        this.dexno = dexno;
+        this.name = name;
+    }
+
     public int getDexno() {
         return dexno;
     }
@@ -0,0 +1,25 @@
+package com.pokemonurpg.dto.stats.input;
+
+public class StatsDeltaInputDto {
+    private Integer delta;
+    private String reason;
+
+    public StatsDeltaInputDto() {
+    }
+
+    public Integer getDelta() {
+        return delta;
+    }
+
+    public void setDelta(Integer delta) {
+        this.delta = delta;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
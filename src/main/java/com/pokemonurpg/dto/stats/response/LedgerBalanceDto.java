@@ -0,0 +1,50 @@
+package com.pokemonurpg.dto.stats.response;
+
+public class LedgerBalanceDto {
+    private String name;
+    private String asset;
+    private long balance;
+    private long at;
+
+    public LedgerBalanceDto() {
+    }
+
+    public LedgerBalanceDto(String name, String asset, long balance, long at) {
+        setName(name);
+        setAsset(asset);
+        setBalance(balance);
+        setAt(at);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAsset() {
+        return asset;
+    }
+
+    public void setAsset(String asset) {
+        this.asset = asset;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public void setBalance(long balance) {
+        this.balance = balance;
+    }
+
+    public long getAt() {
+        return at;
+    }
+
+    public void setAt(long at) {
+        this.at = at;
+    }
+}
@@ -0,0 +1,33 @@
+package com.pokemonurpg.dto.stats.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LogPageDto {
+    private List<LogRecordDto> logs = new ArrayList<>();
+    private String nextCursor;
+
+    public LogPageDto() {
+    }
+
+    public LogPageDto(List<LogRecordDto> logs, String nextCursor) {
+        setLogs(logs);
+        setNextCursor(nextCursor);
+    }
+
+    public List<LogRecordDto> getLogs() {
+        return logs;
+    }
+
+    public void setLogs(List<LogRecordDto> logs) {
+        this.logs = logs;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
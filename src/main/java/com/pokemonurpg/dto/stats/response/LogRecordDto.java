@@ -2,7 +2,10 @@ package com.pokemonurpg.dto.stats.response;
 
 import com.pokemonurpg.object.LogRecord;
 
+import java.util.Date;
+
 public class LogRecordDto {
+    private int dbid;
     private long timestamp;
     private String message;
 
@@ -11,11 +14,28 @@ public class LogRecordDto {
 
     public LogRecordDto(LogRecord log) {
         if (log != null) {
+            if (log.getDbid() != null) {
+                setDbid(log.getDbid());
+            }
             setTimestamp(log.getTimestamp().getTime());
             setMessage(log.getMessage());
         }
     }
 
+    public LogRecordDto(Integer dbid, Date timestamp, String message) {
+        setDbid(dbid);
+        setTimestamp(timestamp.getTime());
+        setMessage(message);
+    }
+
+    public int getDbid() {
+        return dbid;
+    }
+
+    public void setDbid(int dbid) {
+        this.dbid = dbid;
+    }
+
     public long getTimestamp() {
         return timestamp;
     }
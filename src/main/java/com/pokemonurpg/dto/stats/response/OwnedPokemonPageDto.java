@@ -0,0 +1,55 @@
+package com.pokemonurpg.dto.stats.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class OwnedPokemonPageDto {
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private List<OwnedPokemonBriefDto> pokemon = new ArrayList<>();
+
+    public OwnedPokemonPageDto() {
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public void setTotalPages(int totalPages) {
+        this.totalPages = totalPages;
+    }
+
+    public List<OwnedPokemonBriefDto> getPokemon() {
+        return pokemon;
+    }
+
+    public void setPokemon(List<OwnedPokemonBriefDto> pokemon) {
+        this.pokemon = pokemon;
+    }
+}
@@ -0,0 +1,50 @@
+package com.pokemonurpg.dto.stats.response;
+
+public class StatsDeltaDto {
+    private String name;
+    private String stat;
+    private int delta;
+    private int value;
+
+    public StatsDeltaDto() {
+    }
+
+    public StatsDeltaDto(String name, String stat, int delta, int value) {
+        setName(name);
+        setStat(stat);
+        setDelta(delta);
+        setValue(value);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getStat() {
+        return stat;
+    }
+
+    public void setStat(String stat) {
+        this.stat = stat;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    public void setDelta(int delta) {
+        this.delta = delta;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public void setValue(int value) {
+        this.value = value;
+    }
+}
@@ -15,10 +15,12 @@ public class StatsDto {
     private int draws;
     private String joinDate;
     private List<OwnedPokemonBriefDto> pokemon;
+    private int pokemonCount;
     private List<OwnedItemDto> items;
     private List<String> roles = new ArrayList<>();
     private AchievementsDto achievements = new AchievementsDto();
     private List<LogRecordDto> logs = new ArrayList<>();
+    private String logsCursor;
 
     private static final DateFormat MM_DD_YYYY = new SimpleDateFormat("MM-dd-yyyy");
 
@@ -165,6 +167,14 @@ public class StatsDto {
         this.pokemon = pokemon;
     }
 
+    public int getPokemonCount() {
+        return pokemonCount;
+    }
+
+    public void setPokemonCount(int pokemonCount) {
+        this.pokemonCount = pokemonCount;
+    }
+
     public List<OwnedItemDto> getItems() {
         return items;
     }
@@ -204,4 +214,12 @@ public class StatsDto {
     public void setLogs(List<LogRecordDto> logs) {
         this.logs = logs;
     }
+
+    public String getLogsCursor() {
+        return logsCursor;
+    }
+
+    public void setLogsCursor(String logsCursor) {
+        this.logsCursor = logsCursor;
+    }
 }
@@ -0,0 +1,35 @@
+package com.pokemonurpg.dto.type;
+
+import com.pokemonurpg.object.Type;
+import com.pokemonurpg.service.TypeChart;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TypeChartDto {
+    private List<String> types = new ArrayList<>();
+    private double[][] multipliers;
+
+    public TypeChartDto(TypeChart chart) {
+        for (Type type : chart.getTypes()) {
+            types.add(type.getName());
+        }
+        this.multipliers = chart.toMatrix();
+    }
+
+    public List<String> getTypes() {
+        return types;
+    }
+
+    public void setTypes(List<String> types) {
+        this.types = types;
+    }
+
+    public double[][] getMultipliers() {
+        return multipliers;
+    }
+
+    public void setMultipliers(double[][] multipliers) {
+        this.multipliers = multipliers;
+    }
+}
@@ -0,0 +1,44 @@
+package com.pokemonurpg.dto.type;
+
+import com.pokemonurpg.dto.species.response.TypeMatchupDto;
+
+import java.util.List;
+
+public class TypePairDto {
+    private String type1;
+    private String type2;
+    private List<TypeMatchupDto> matchups;
+
+    public TypePairDto() {
+    }
+
+    public TypePairDto(String type1, String type2, List<TypeMatchupDto> matchups) {
+        this.type1 = type1;
+        this.type2 = type2;
+        this.matchups = matchups;
+    }
+
+    public String getType1() {
+        return type1;
+    }
+
+    public void setType1(String type1) {
+        this.type1 = type1;
+    }
+
+    public String getType2() {
+        return type2;
+    }
+
+    public void setType2(String type2) {
+        this.type2 = type2;
+    }
+
+    public List<TypeMatchupDto> getMatchups() {
+        return matchups;
+    }
+
+    public void setMatchups(List<TypeMatchupDto> matchups) {
+        this.matchups = matchups;
+    }
+}
@@ -0,0 +1,99 @@
+package com.pokemonurpg.object;
+
+import javax.persistence.*;
+import java.util.Date;
+
+@Entity
+@Table(name = "ledger_entry")
+public class LedgerEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column
+    private Integer dbid;
+
+    @Column(name = "member_dbid")
+    private int memberDbid;
+
+    @Column(name = "item_dbid")
+    private int itemDbid;
+
+    @Column
+    private int delta;
+
+    @Column
+    private String reason;
+
+    @Column
+    private String referee;
+
+    @Column
+    private Date timestamp;
+
+    public LedgerEntry() {
+    }
+
+    public LedgerEntry(int memberDbid, int itemDbid, int delta, String reason, String referee) {
+        setMemberDbid(memberDbid);
+        setItemDbid(itemDbid);
+        setDelta(delta);
+        setReason(reason);
+        setReferee(referee);
+        setTimestamp(new Date());
+    }
+
+    public Integer getDbid() {
+        return dbid;
+    }
+
+    public void setDbid(Integer dbid) {
+        this.dbid = dbid;
+    }
+
+    public int getMemberDbid() {
+        return memberDbid;
+    }
+
+    public void setMemberDbid(int memberDbid) {
+        this.memberDbid = memberDbid;
+    }
+
+    public int getItemDbid() {
+        return itemDbid;
+    }
+
+    public void setItemDbid(int itemDbid) {
+        this.itemDbid = itemDbid;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    public void setDelta(int delta) {
+        this.delta = delta;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public String getReferee() {
+        return referee;
+    }
+
+    public void setReferee(String referee) {
+        this.referee = referee;
+    }
+
+    public Date getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Date timestamp) {
+        this.timestamp = timestamp;
+    }
+}
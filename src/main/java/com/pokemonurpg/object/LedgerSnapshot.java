@@ -0,0 +1,87 @@
+package com.pokemonurpg.object;
+
+import javax.persistence.*;
+import java.util.Date;
+
+@Entity
+@Table(name = "ledger_snapshot", uniqueConstraints = @UniqueConstraint(columnNames = {"member_dbid", "item_dbid", "last_entry_dbid"}))
+public class LedgerSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column
+    private Integer dbid;
+
+    @Column(name = "member_dbid")
+    private int memberDbid;
+
+    @Column(name = "item_dbid")
+    private int itemDbid;
+
+    @Column
+    private long balance;
+
+    @Column(name = "last_entry_dbid")
+    private int lastEntryDbid;
+
+    @Column
+    private Date timestamp;
+
+    public LedgerSnapshot() {
+    }
+
+    public LedgerSnapshot(int memberDbid, int itemDbid, long balance, int lastEntryDbid, Date timestamp) {
+        setMemberDbid(memberDbid);
+        setItemDbid(itemDbid);
+        setBalance(balance);
+        setLastEntryDbid(lastEntryDbid);
+        setTimestamp(timestamp);
+    }
+
+    public Integer getDbid() {
+        return dbid;
+    }
+
+    public void setDbid(Integer dbid) {
+        this.dbid = dbid;
+    }
+
+    public int getMemberDbid() {
+        return memberDbid;
+    }
+
+    public void setMemberDbid(int memberDbid) {
+        this.memberDbid = memberDbid;
+    }
+
+    public int getItemDbid() {
+        return itemDbid;
+    }
+
+    public void setItemDbid(int itemDbid) {
+        this.itemDbid = itemDbid;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public void setBalance(long balance) {
+        this.balance = balance;
+    }
+
+    public int getLastEntryDbid() {
+        return lastEntryDbid;
+    }
+
+    public void setLastEntryDbid(int lastEntryDbid) {
+        this.lastEntryDbid = lastEntryDbid;
+    }
+
+    public Date getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Date timestamp) {
+        this.timestamp = timestamp;
+    }
+}
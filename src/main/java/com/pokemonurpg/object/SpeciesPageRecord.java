@@ -0,0 +1,83 @@
+package com.pokemonurpg.object;
+
+import javax.persistence.*;
+import java.util.Date;
+
+@Entity
+@Table(name = "species_page")
+public class SpeciesPageRecord {
+    @Id
+    @Column(name = "species_dbid")
+    private int speciesDbid;
+
+    @Lob
+    @Column
+    private String json;
+
+    @Column
+    private String hash;
+
+    @Column
+    private int version;
+
+    @Column
+    private String dependencies;
+
+    @Column(name = "built_at")
+    private Date builtAt;
+
+    public SpeciesPageRecord() {
+    }
+
+    public SpeciesPageRecord(int speciesDbid) {
+        this.speciesDbid = speciesDbid;
+    }
+
+    public int getSpeciesDbid() {
+        return speciesDbid;
+    }
+
+    public void setSpeciesDbid(int speciesDbid) {
+        this.speciesDbid = speciesDbid;
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    public void setJson(String json) {
+        this.json = json;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public String getDependencies() {
+        return dependencies;
+    }
+
+    public void setDependencies(String dependencies) {
+        this.dependencies = dependencies;
+    }
+
+    public Date getBuiltAt() {
+        return builtAt;
+    }
+
+    public void setBuiltAt(Date builtAt) {
+        this.builtAt = builtAt;
+    }
+}
@@ -4,6 +4,7 @@ import com.pokemonurpg.object.Ability;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,7 @@ public interface AbilityRepository extends JpaRepository<Ability, Integer> {
     @Query("select a.name from Ability a")
     List<Object> findAllNames();
     Ability findByName(String name);
+    List<Ability> findByNameIn(Collection<String> names);
     Ability findByDbid(Integer dbid);
     List<Ability> findByNameStartingWith(String name);
 }
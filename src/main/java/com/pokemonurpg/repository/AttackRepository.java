@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,7 @@ public interface AttackRepository extends JpaRepository<Attack, Integer> {
     @Query("select a.name from Attack a")
     List<Object> findAllNames();
     Attack findByName(String name);
+    List<Attack> findByNameIn(Collection<String> names);
     Attack findByDbid(Integer dbid);
     List<Attack> findByNameStartingWith(String name);
 }
@@ -0,0 +1,7 @@
+package com.pokemonurpg.repository;
+
+import java.util.Collection;
+
+public interface BatchInsertRepository<T> {
+    void insertAll(Collection<T> entities);
+}
@@ -3,10 +3,22 @@ package com.pokemonurpg.repository;
 import com.pokemonurpg.object.CosmeticForm;
 import com.pokemonurpg.object.CosmeticFormKey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.transaction.Transactional;
+
+import java.util.Collection;
 import java.util.List;
 
-public interface CosmeticFormRepository extends JpaRepository<CosmeticForm, CosmeticFormKey> {
+public interface CosmeticFormRepository extends JpaRepository<CosmeticForm, CosmeticFormKey>, BatchInsertRepository<CosmeticForm> {
     List<CosmeticForm> findByIdSpeciesDbid(int speciesDbid);
     CosmeticForm findByIdSpeciesDbidAndIdName(int speciesDbid, String formName);
+    List<CosmeticForm> findByIdSpeciesDbidIn(Collection<Integer> speciesDbids);
+
+    @Modifying
+    @Transactional
+    @Query("delete from CosmeticForm cf where cf.id.speciesDbid = :speciesDbid and cf.id.name in :names")
+    void deleteBySpeciesDbidAndNameIn(@Param("speciesDbid") int speciesDbid, @Param("names") Collection<String> names);
 }
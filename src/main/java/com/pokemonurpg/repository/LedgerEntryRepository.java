@@ -0,0 +1,27 @@
+package com.pokemonurpg.repository;
+
+import com.pokemonurpg.object.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Integer> {
+    @Query("select coalesce(sum(e.delta), 0) from LedgerEntry e " +
+            "where e.memberDbid = :memberDbid and e.itemDbid = :itemDbid and e.dbid > :afterDbid")
+    long sumAfter(@Param("memberDbid") int memberDbid, @Param("itemDbid") int itemDbid, @Param("afterDbid") int afterDbid);
+
+    @Query("select coalesce(sum(e.delta), 0) from LedgerEntry e " +
+            "where e.memberDbid = :memberDbid and e.itemDbid = :itemDbid and e.dbid > :afterDbid and e.timestamp <= :until")
+    long sumAfterUntil(@Param("memberDbid") int memberDbid, @Param("itemDbid") int itemDbid,
+                       @Param("afterDbid") int afterDbid, @Param("until") Date until);
+
+    @Query("select max(e.dbid) from LedgerEntry e where e.timestamp < :settledBefore")
+    Integer findLastSettledDbid(@Param("settledBefore") Date settledBefore);
+
+    @Query("select e.memberDbid, e.itemDbid, sum(e.delta), max(e.timestamp) from LedgerEntry e " +
+            "where e.dbid > :fromDbid and e.dbid <= :toDbid group by e.memberDbid, e.itemDbid")
+    List<Object[]> sumByAssetBetween(@Param("fromDbid") int fromDbid, @Param("toDbid") int toDbid);
+}
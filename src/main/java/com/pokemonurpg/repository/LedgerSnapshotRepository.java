@@ -0,0 +1,29 @@
+package com.pokemonurpg.repository;
+
+import com.pokemonurpg.object.LedgerSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+public interface LedgerSnapshotRepository extends JpaRepository<LedgerSnapshot, Integer> {
+    LedgerSnapshot findFirstByMemberDbidAndItemDbidOrderByDbidDesc(int memberDbid, int itemDbid);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from LedgerSnapshot s where s.memberDbid = :memberDbid and s.itemDbid = :itemDbid and s.lastEntryDbid = 0")
+    LedgerSnapshot findOpeningForUpdate(@Param("memberDbid") int memberDbid, @Param("itemDbid") int itemDbid);
+
+    LedgerSnapshot findFirstByMemberDbidAndItemDbidAndTimestampLessThanEqualOrderByDbidDesc(int memberDbid, int itemDbid, Date timestamp);
+
+    @Query("select s from LedgerSnapshot s where s.memberDbid in :memberDbids and s.dbid = " +
+            "(select max(latest.dbid) from LedgerSnapshot latest where latest.memberDbid = s.memberDbid and latest.itemDbid = s.itemDbid)")
+    List<LedgerSnapshot> findLatestForMembers(@Param("memberDbids") Collection<Integer> memberDbids);
+
+    @Query("select coalesce(max(s.lastEntryDbid), 0) from LedgerSnapshot s")
+    int findCompactedThrough();
+}
@@ -0,0 +1,9 @@
+package com.pokemonurpg.repository;
+
+import com.pokemonurpg.object.LogRecord;
+
+import java.util.List;
+
+public interface LogRecordBatchRepository {
+    void insertBatch(List<LogRecord> records);
+}
@@ -0,0 +1,29 @@
+package com.pokemonurpg.repository;
+
+import com.pokemonurpg.object.LogRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+public class LogRecordBatchRepositoryImpl implements LogRecordBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO log_record (member_dbid, timestamp, message) VALUES (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertBatch(List<LogRecord> records) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (statement, record) -> {
+            if (record.getMember() != null) {
+                statement.setInt(1, record.getMember().getDbid());
+            }
+            else statement.setNull(1, Types.INTEGER);
+            statement.setTimestamp(2, new Timestamp(record.getTimestamp().getTime()));
+            statement.setString(3, record.getMessage());
+        });
+    }
+}
@@ -1,27 +1,35 @@
 package com.pokemonurpg.repository;
 
+import com.pokemonurpg.dto.stats.response.LogRecordDto;
 import com.pokemonurpg.object.LogRecord;
-import com.pokemonurpg.object.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
-public interface LogRecordRepository extends JpaRepository<LogRecord, Integer> {
-    @Query("select log from LogRecord log where log.timestamp > :date and log.member = :member order by log.timestamp")
-    List<LogRecord> findLogsSinceDateForMember(@Param("date") Date date, @Param("member") Member member);
+public interface LogRecordRepository extends JpaRepository<LogRecord, Integer>, LogRecordBatchRepository {
+    @Query("select new com.pokemonurpg.dto.stats.response.LogRecordDto(log.dbid, log.timestamp, log.message) from LogRecord log " +
+            "where log.member.dbid = :memberDbid order by log.timestamp desc, log.dbid desc")
+    List<LogRecordDto> findLatestForMember(@Param("memberDbid") int memberDbid, Pageable pageable);
 
-    //@Query("SELECT u FROM User u WHERE u.status = :status and u.name = :name")
-    //User findUserByStatusAndNameNamedParams(
-    //  @Param("status") Integer status,
-    //  @Param("name") String name);
+    @Query("select new com.pokemonurpg.dto.stats.response.LogRecordDto(log.dbid, log.timestamp, log.message) from LogRecord log " +
+            "where log.member.dbid = :memberDbid and log.timestamp <= :timestamp " +
+            "and (log.timestamp < :timestamp or log.dbid < :dbid) order by log.timestamp desc, log.dbid desc")
+    List<LogRecordDto> findBeforeForMember(@Param("memberDbid") int memberDbid, @Param("timestamp") Date timestamp,
+                                           @Param("dbid") int dbid, Pageable pageable);
 
-    /*@Query("select x.username from Member x")
-    List<Object> findAllNames();
-    LogRecord findByDbid(int dbid);
-    Member findByUsername(String name);
-    Member findByDiscordId(String discordId);
-    List<Member> findByUsernameStartingWith(String username);*/
+    @Query("select log.dbid, m.dbid, log.timestamp, log.message from LogRecord log left join log.member m " +
+            "where log.timestamp < :cutoff order by log.timestamp, log.dbid")
+    List<Object[]> findArchivableBefore(@Param("cutoff") Date cutoff, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from LogRecord log where log.dbid in :dbids")
+    int deleteByDbidIn(@Param("dbids") Collection<Integer> dbids);
 }
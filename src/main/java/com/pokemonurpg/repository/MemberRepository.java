@@ -1,9 +1,15 @@
 package com.pokemonurpg.repository;
 
 import com.pokemonurpg.object.Member;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
 import java.util.List;
 
 public interface MemberRepository extends JpaRepository<Member, Integer> {
@@ -11,6 +17,60 @@ public interface MemberRepository extends JpaRepository<Member, Integer> {
     List<Object> findAllNames();
     Member findByDbid(int dbid);
     Member findByUsername(String name);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Member m where m.username = :username")
+    Member findByUsernameForUpdate(@Param("username") String username);
     Member findByDiscordId(String discordId);
     List<Member> findByUsernameStartingWith(String username);
+    @EntityGraph(attributePaths = {"roles", "roles.role"})
+    @Query("select distinct m from Member m where m.dbid = :dbid")
+    Member fetchRolesByDbid(@Param("dbid") int dbid);
+    @EntityGraph(attributePaths = {"badges", "badges.gym", "badges.gym.owner", "badges.gym.league", "badges.gym.badge"})
+    @Query("select distinct m from Member m where m.dbid = :dbid")
+    Member fetchBadgesByDbid(@Param("dbid") int dbid);
+    @EntityGraph(attributePaths = {"championRecords", "championRecords.league", "championRecords.opponent"})
+    @Query("select distinct m from Member m where m.dbid = :dbid")
+    Member fetchChampionRecordsByDbid(@Param("dbid") int dbid);
+    @EntityGraph(attributePaths = {"pokemon", "pokemon.species", "pokemon.species.type1", "pokemon.species.type2",
+            "pokemon.species.storyRank", "pokemon.species.artRank", "pokemon.species.parkLocation", "pokemon.species.parkRank",
+            "pokemon.nature", "pokemon.obtained", "pokemon.hiddenPowerType"})
+    @Query("select distinct m from Member m where m.dbid = :dbid")
+    Member fetchPokemonByDbid(@Param("dbid") int dbid);
+    @EntityGraph(attributePaths = {"earnedLegendaries", "earnedLegendaries.section", "earnedLegendaries.pokemon", "earnedLegendaries.pokemon.species"})
+    @Query("select distinct m from Member m where m.dbid = :dbid")
+    Member fetchEarnedLegendariesByDbid(@Param("dbid") int dbid);
+    @EntityGraph(attributePaths = {"legendaryProgress", "legendaryProgress.section"})
+    @Query("select distinct m from Member m where m.dbid = :dbid")
+    Member fetchLegendaryProgressByDbid(@Param("dbid") int dbid);
+    @EntityGraph(attributePaths = {"items", "items.item"})
+    @Query("select distinct m from Member m where m.dbid = :dbid")
+    Member fetchItemsByDbid(@Param("dbid") int dbid);
+    @Modifying
+    @Transactional
+    @Query("update Member m set m.money = coalesce(m.money, 0) + :delta " +
+            "where m.dbid = :dbid and coalesce(m.money, 0) + :delta between :floor and :ceiling")
+    int addMoney(@Param("dbid") int dbid, @Param("delta") int delta, @Param("floor") int floor, @Param("ceiling") int ceiling);
+    @Modifying
+    @Transactional
+    @Query("update Member m set m.wins = coalesce(m.wins, 0) + :delta " +
+            "where m.dbid = :dbid and coalesce(m.wins, 0) + :delta between :floor and :ceiling")
+    int addWins(@Param("dbid") int dbid, @Param("delta") int delta, @Param("floor") int floor, @Param("ceiling") int ceiling);
+    @Modifying
+    @Transactional
+    @Query("update Member m set m.losses = coalesce(m.losses, 0) + :delta " +
+            "where m.dbid = :dbid and coalesce(m.losses, 0) + :delta between :floor and :ceiling")
+    int addLosses(@Param("dbid") int dbid, @Param("delta") int delta, @Param("floor") int floor, @Param("ceiling") int ceiling);
+    @Modifying
+    @Transactional
+    @Query("update Member m set m.draws = coalesce(m.draws, 0) + :delta " +
+            "where m.dbid = :dbid and coalesce(m.draws, 0) + :delta between :floor and :ceiling")
+    int addDraws(@Param("dbid") int dbid, @Param("delta") int delta, @Param("floor") int floor, @Param("ceiling") int ceiling);
+    @Modifying
+    @Transactional
+    @Query("update Member m set m.accessToken = :accessToken, m.refreshToken = :refreshToken, m.sessionExpire = :sessionExpire " +
+            "where m.dbid = :dbid")
+    int updateSession(@Param("dbid") int dbid, @Param("accessToken") String accessToken, @Param("refreshToken") String refreshToken,
+                      @Param("sessionExpire") long sessionExpire);
+    @Query("select coalesce(m.money, 0), coalesce(m.wins, 0), coalesce(m.losses, 0), coalesce(m.draws, 0) from Member m where m.dbid = :dbid")
+    List<Object[]> findCountersByDbid(@Param("dbid") int dbid);
 }
@@ -3,9 +3,15 @@ package com.pokemonurpg.repository;
 import com.pokemonurpg.object.OwnedItem;
 import com.pokemonurpg.object.OwnedItemKey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import javax.persistence.LockModeType;
 
 public interface OwnedItemRepository  extends JpaRepository<OwnedItem, OwnedItemKey> {
     OwnedItem findByIdTrainerDbidAndIdItemDbid(int trainerDbid, int itemDbid);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from OwnedItem o where o.id.trainerDbid = :trainerDbid and o.id.itemDbid = :itemDbid")
+    OwnedItem findForUpdate(@Param("trainerDbid") int trainerDbid, @Param("itemDbid") int itemDbid);
 }
@@ -1,8 +1,23 @@
 package com.pokemonurpg.repository;
 
 import com.pokemonurpg.object.OwnedPokemon;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface OwnedPokemonRepository  extends JpaRepository<OwnedPokemon, Integer> {
     OwnedPokemon findByDbid(int dbid);
+    @EntityGraph(attributePaths = {"species", "species.type1", "species.type2", "species.storyRank", "species.artRank",
+            "species.parkLocation", "species.parkRank", "nature", "obtained", "hiddenPowerType"})
+    @Query(value = "select p from OwnedPokemon p join p.species s left join s.type1 t1 left join s.type2 t2 " +
+            "where p.trainer.dbid = :trainerDbid and (:species is null or s.name = :species) " +
+            "and (:type is null or t1.name = :type or t2.name = :type)",
+            countQuery = "select count(p) from OwnedPokemon p join p.species s left join s.type1 t1 left join s.type2 t2 " +
+            "where p.trainer.dbid = :trainerDbid and (:species is null or s.name = :species) " +
+            "and (:type is null or t1.name = :type or t2.name = :type)")
+    Page<OwnedPokemon> findPageByTrainerDbid(@Param("trainerDbid") int trainerDbid, @Param("species") String species,
+                                             @Param("type") String type, Pageable pageable);
 }
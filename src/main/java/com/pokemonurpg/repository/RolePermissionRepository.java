@@ -4,9 +4,11 @@ import com.pokemonurpg.object.RolePermission;
 import com.pokemonurpg.object.RolePermissionKey;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface RolePermissionRepository extends JpaRepository<RolePermission, RolePermissionKey> {
     List<RolePermission> findByIdRoleDbid(int roleDbid);
+    List<RolePermission> findByIdRoleDbidIn(Collection<Integer> roleDbids);
     RolePermission findByIdRoleDbidAndIdPermissionDbid(int roleDbid, int permissionDbid);
 }
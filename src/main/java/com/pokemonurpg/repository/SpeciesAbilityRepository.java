@@ -3,16 +3,26 @@ package com.pokemonurpg.repository;
 import com.pokemonurpg.object.SpeciesAbility;
 import com.pokemonurpg.object.SpeciesAbilityKey;
 import com.pokemonurpg.object.SpeciesAttack;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import javax.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface SpeciesAbilityRepository extends JpaRepository<SpeciesAbility, SpeciesAbilityKey> {
+public interface SpeciesAbilityRepository extends JpaRepository<SpeciesAbility, SpeciesAbilityKey>, BatchInsertRepository<SpeciesAbility> {
     Optional<SpeciesAbility> findById(SpeciesAbilityKey key);
     List<SpeciesAbility> findByIdSpeciesDbid(int dbid);
     SpeciesAbility findByIdSpeciesDbidAndIdAbilityDbid(int speciesDbid, int abilityDbid);
+    @EntityGraph(attributePaths = {"ability"})
+    List<SpeciesAbility> findByIdSpeciesDbidIn(Collection<Integer> speciesDbids);
+
+    @Modifying
+    @Transactional
+    @Query("delete from SpeciesAbility sa where sa.id.speciesDbid = :speciesDbid and sa.id.abilityDbid in :abilityDbids")
+    void deleteBySpeciesDbidAndAbilityDbidIn(@Param("speciesDbid") int speciesDbid, @Param("abilityDbids") Collection<Integer> abilityDbids);
 }
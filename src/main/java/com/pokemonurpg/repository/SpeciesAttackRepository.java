@@ -2,18 +2,31 @@ package com.pokemonurpg.repository;
 
 import com.pokemonurpg.object.SpeciesAttack;
 import com.pokemonurpg.object.SpeciesAttackKey;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import javax.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface SpeciesAttackRepository  extends JpaRepository<SpeciesAttack, SpeciesAttackKey> {
+public interface SpeciesAttackRepository  extends JpaRepository<SpeciesAttack, SpeciesAttackKey>, BatchInsertRepository<SpeciesAttack> {
     Optional<SpeciesAttack> findById(SpeciesAttackKey key);
 
     List<SpeciesAttack> findByIdSpeciesDbid(int dbid);
 
     SpeciesAttack findByIdSpeciesDbidAndIdAttackDbid(int speciesDbid, int attackDbid);
+
+    @EntityGraph(attributePaths = {"attack", "attack.type", "attack.category", "attack.target",
+            "attack.rseContestMoveType", "attack.rseContestAttribute", "attack.orasContestMoveType",
+            "attack.orasContestAttribute", "attack.dppContestMoveType", "attack.dppContestAttribute"})
+    List<SpeciesAttack> findByIdSpeciesDbidIn(Collection<Integer> speciesDbids);
+
+    @Modifying
+    @Transactional
+    @Query("delete from SpeciesAttack sa where sa.id.speciesDbid = :speciesDbid and sa.id.attackDbid in :attackDbids")
+    void deleteBySpeciesDbidAndAttackDbidIn(@Param("speciesDbid") int speciesDbid, @Param("attackDbids") Collection<Integer> attackDbids);
 }
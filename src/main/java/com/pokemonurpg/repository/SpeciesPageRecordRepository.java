@@ -0,0 +1,14 @@
+package com.pokemonurpg.repository;
+
+import com.pokemonurpg.object.SpeciesPageRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpeciesPageRecordRepository extends JpaRepository<SpeciesPageRecord, Integer> {
+    SpeciesPageRecord findBySpeciesDbid(int speciesDbid);
+    @Query("select r.json from SpeciesPageRecord r where r.speciesDbid = :speciesDbid")
+    String findJsonBySpeciesDbid(@Param("speciesDbid") int speciesDbid);
+}
@@ -1,12 +1,14 @@
 package com.pokemonurpg.repository;
 
 import com.pokemonurpg.object.Species;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,8 +18,20 @@ public interface SpeciesRepository extends JpaRepository<Species, Integer> {
     Integer findMaxDexno();
     @Query("select s.name from Species s")
     List<Object> findAllNames();
+    @Query("select s.dbid, s.dexno from Species s order by s.dbid")
+    List<Object[]> findAllDbidsAndDexnos();
+    @Query("select s.dexno, s.dbid, s.name, s.displayName from Species s where s.dexno > 0 order by s.dexno, s.dbid")
+    List<Object[]> findAllFirstFormsByDexno();
+    @Query("select s.dbid from Species s")
+    List<Integer> findAllDbids();
+    @Query("select s.dbid from Species s where s.name = :name")
+    Integer findDbidByName(@Param("name") String name);
     Species findByName(String name);
     Species findByDbid(Integer dbid);
     List<Species> findByNameStartingWith(String name);
     List<Species> findByDexno(Integer dexno);
+    @EntityGraph(attributePaths = {"type1", "type2", "storyRank", "artRank", "parkLocation", "parkRank"})
+    List<Species> findByDexnoIn(Collection<Integer> dexnos);
+    @EntityGraph(attributePaths = {"type1", "type2", "storyRank", "artRank", "parkLocation", "parkRank"})
+    List<Species> findByDbidIn(Collection<Integer> dbids);
 }
\ No newline at end of file
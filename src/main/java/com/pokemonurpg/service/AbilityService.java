@@ -3,22 +3,25 @@ package com.pokemonurpg.service;
 import com.pokemonurpg.object.Ability;
 import com.pokemonurpg.repository.AbilityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.Errors;
 import org.springframework.validation.MapBindingResult;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 public class AbilityService {
 
     private AbilityRepository abilityRepository;
+    private NameIndex nameIndex;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public AbilityService(AbilityRepository abilityRepository) {
+    public AbilityService(AbilityRepository abilityRepository, ApplicationEventPublisher eventPublisher) {
         this.abilityRepository = abilityRepository;
+        this.eventPublisher = eventPublisher;
+        this.nameIndex = new NameIndex(abilityRepository::findAllNames);
     }
 
     public List<Object> findAll() {
@@ -36,14 +39,28 @@ public class AbilityService {
             return ability;
         }
         else {
-            List<Ability> results = abilityRepository.findByNameStartingWith(name);
-            if (!results.isEmpty()) {
-                return results.get(0);
+            String match = nameIndex.findFirst(name);
+            if (match != null) {
+                return abilityRepository.findByName(match);
             }
             else return null;
         }
     }
 
+    public List<String> suggest(String prefix, int limit) {
+        return nameIndex.suggest(prefix, limit);
+    }
+
+    public Map<String, Ability> findByNameIn(Collection<String> names) {
+        Map<String, Ability> abilities = new HashMap<>();
+        if (!names.isEmpty()) {
+            for (Ability ability : abilityRepository.findByNameIn(names)) {
+                abilities.put(ability.getName(), ability);
+            }
+        }
+        return abilities;
+    }
+
     public List<Ability> findByNameStartingWith(String name) {
         return abilityRepository.findByNameStartingWith(name);
     }
@@ -52,6 +69,7 @@ public class AbilityService {
         Errors errors = validateAbilityCreate(input);
         if (!errors.hasErrors()) {
             abilityRepository.save(input);
+            nameIndex.add(input.getName());
         }
         return errors;
     }
@@ -67,6 +85,8 @@ public class AbilityService {
                 existingAbility.setDescription(input.getDescription());
             }
             abilityRepository.save(existingAbility);
+            nameIndex.invalidate();
+            eventPublisher.publishEvent(SpeciesChangedEvent.of(SpeciesPageDependencies.Kind.ABILITY, existingAbility.getDbid()));
         }
         return errors;
     }
@@ -0,0 +1,125 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.MemberRole;
+import com.pokemonurpg.object.Permission;
+import com.pokemonurpg.object.Role;
+import com.pokemonurpg.object.RolePermission;
+import com.pokemonurpg.repository.MemberRoleRepository;
+import com.pokemonurpg.repository.PermissionRepository;
+import com.pokemonurpg.repository.RolePermissionRepository;
+import com.pokemonurpg.repository.RoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class AclService {
+
+    static final String BANNED_ROLE = "Banned";
+
+    private MemberRoleRepository memberRoleRepository;
+    private RoleRepository roleRepository;
+    private RolePermissionRepository rolePermissionRepository;
+    private PermissionRepository permissionRepository;
+
+    private final Map<Integer, MemberPermissions> memberPermissions = new ConcurrentHashMap<>();
+    private volatile Map<String, Integer> permissionDbids;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public AclService(MemberRoleRepository memberRoleRepository, RoleRepository roleRepository, RolePermissionRepository rolePermissionRepository, PermissionRepository permissionRepository) {
+        this.memberRoleRepository = memberRoleRepository;
+        this.roleRepository = roleRepository;
+        this.rolePermissionRepository = rolePermissionRepository;
+        this.permissionRepository = permissionRepository;
+    }
+
+    public boolean authorize(int memberDbid, String... permissions) {
+        return authorize(findMemberPermissions(memberDbid), permissions);
+    }
+
+    public boolean authorize(MemberPermissions resolved, String... permissions) {
+        Map<String, Integer> dbids = getPermissionDbids();
+        for (String permission : permissions) {
+            Integer permissionDbid = dbids.get(permission);
+            if (permissionDbid == null || !resolved.hasPermission(permissionDbid)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isBanned(int memberDbid) {
+        return findMemberPermissions(memberDbid).isBanned();
+    }
+
+    public MemberPermissions findMemberPermissions(int memberDbid) {
+        MemberPermissions resolved = memberPermissions.get(memberDbid);
+        if (resolved == null) {
+            long expectedGeneration = generation.get();
+            resolved = resolve(memberDbid);
+            if (generation.get() == expectedGeneration) {
+                memberPermissions.put(memberDbid, resolved);
+                if (generation.get() != expectedGeneration) {
+                    memberPermissions.remove(memberDbid, resolved);
+                }
+            }
+        }
+        return resolved;
+    }
+
+    public void invalidateMember(int memberDbid) {
+        generation.incrementAndGet();
+        memberPermissions.remove(memberDbid);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        memberPermissions.clear();
+    }
+
+    public void invalidatePermissions() {
+        permissionDbids = null;
+        invalidateAll();
+    }
+
+    private MemberPermissions resolve(int memberDbid) {
+        List<Integer> roleDbids = new ArrayList<>();
+        for (MemberRole memberRole : memberRoleRepository.findByIdMemberDbid(memberDbid)) {
+            roleDbids.add(memberRole.getId().getRoleDbid());
+        }
+
+        BitSet permissions = new BitSet();
+        boolean banned = false;
+        if (!roleDbids.isEmpty()) {
+            for (Role role : roleRepository.findAllById(roleDbids)) {
+                if (BANNED_ROLE.equals(role.getName())) {
+                    banned = true;
+                }
+            }
+            for (RolePermission rolePermission : rolePermissionRepository.findByIdRoleDbidIn(roleDbids)) {
+                int permissionDbid = rolePermission.getId().getPermissionDbid();
+                if (permissionDbid >= 0) {
+                    permissions.set(permissionDbid);
+                }
+            }
+        }
+
+        return new MemberPermissions(permissions, banned);
+    }
+
+    private Map<String, Integer> getPermissionDbids() {
+        Map<String, Integer> dbids = permissionDbids;
+        if (dbids == null) {
+            dbids = new HashMap<>();
+            for (Permission permission : permissionRepository.findAll()) {
+                dbids.put(permission.getName(), permission.getDbid());
+            }
+            permissionDbids = dbids;
+        }
+        return dbids;
+    }
+}
@@ -5,6 +5,7 @@ import com.pokemonurpg.dto.attack.AttackInputDto;
 import com.pokemonurpg.object.Attack;
 import com.pokemonurpg.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.Errors;
 import org.springframework.validation.MapBindingResult;
@@ -23,9 +24,11 @@ public class AttackService {
     private RSEContestMoveTypeRepository rseContestMoveTypeRepository;
     private ORASContestMoveTypeRepository orasContestMoveTypeRepository;
     private DPPContestMoveTypeRepository dppContestMoveTypeRepository;
+    private NameIndex nameIndex;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public AttackService(AttackRepository attackRepository, AttackCategoryRepository attackCategoryRepository, AttackTargetTypeRepository attackTargetTypeRepository, TypeRepository typeRepository, ContestAttributeRepository contestAttributeRepository, RSEContestMoveTypeRepository rseContestMoveTypeRepository, ORASContestMoveTypeRepository orasContestMoveTypeRepository, DPPContestMoveTypeRepository dppContestMoveTypeRepository) {
+    public AttackService(AttackRepository attackRepository, AttackCategoryRepository attackCategoryRepository, AttackTargetTypeRepository attackTargetTypeRepository, TypeRepository typeRepository, ContestAttributeRepository contestAttributeRepository, RSEContestMoveTypeRepository rseContestMoveTypeRepository, ORASContestMoveTypeRepository orasContestMoveTypeRepository, DPPContestMoveTypeRepository dppContestMoveTypeRepository, ApplicationEventPublisher eventPublisher) {
         this.attackRepository = attackRepository;
         this.attackCategoryRepository = attackCategoryRepository;
         this.attackTargetTypeRepository = attackTargetTypeRepository;
@@ -34,6 +37,8 @@ public class AttackService {
         this.rseContestMoveTypeRepository = rseContestMoveTypeRepository;
         this.orasContestMoveTypeRepository = orasContestMoveTypeRepository;
         this.dppContestMoveTypeRepository = dppContestMoveTypeRepository;
+        this.eventPublisher = eventPublisher;
+        this.nameIndex = new NameIndex(attackRepository::findAllNames);
     }
 
     public List<Object> findAll() {
@@ -46,14 +51,18 @@ public class AttackService {
             return new AttackDto(attack);
         }
         else {
-            List<Attack> results = attackRepository.findByNameStartingWith(name);
-            if (!results.isEmpty()) {
-                return new AttackDto(results.get(0));
+            String match = nameIndex.findFirst(name);
+            if (match != null) {
+                return new AttackDto(attackRepository.findByName(match));
             }
             else return null;
         }
     }
 
+    public List<String> suggest(String prefix, int limit) {
+        return nameIndex.suggest(prefix, limit);
+    }
+
     public Errors createAttack(AttackInputDto input) {
         Errors errors = validateAttackCreate(input);
         if (!errors.hasErrors()) {
@@ -80,6 +89,7 @@ public class AttackService {
                 attack.setOrasContestMoveType(orasContestMoveTypeRepository.findByName(input.getOrasContestMoveType()));
             }
             attackRepository.save(attack);
+            nameIndex.add(attack.getName());
         }
         return errors;
     }
@@ -146,6 +156,8 @@ public class AttackService {
                 existingAttack.setOrasContestMoveType(orasContestMoveTypeRepository.findByName(input.getOrasContestMoveType()));
             }
             attackRepository.save(existingAttack);
+            nameIndex.invalidate();
+            eventPublisher.publishEvent(SpeciesChangedEvent.of(SpeciesPageDependencies.Kind.ATTACK, existingAttack.getDbid()));
         }
         return errors;
     }
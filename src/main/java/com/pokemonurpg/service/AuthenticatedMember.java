@@ -0,0 +1,26 @@
+package com.pokemonurpg.service;
+
+public class AuthenticatedMember {
+
+    private final int dbid;
+    private final String username;
+    private final MemberPermissions permissions;
+
+    public AuthenticatedMember(int dbid, String username, MemberPermissions permissions) {
+        this.dbid = dbid;
+        this.username = username;
+        this.permissions = permissions;
+    }
+
+    public int getDbid() {
+        return dbid;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public MemberPermissions getPermissions() {
+        return permissions;
+    }
+}
@@ -0,0 +1,46 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.security.SessionDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+@Component
+@RequestScope
+public class AuthenticationContext {
+
+    private MemberService memberService;
+    private AclService aclService;
+
+    private boolean resolved;
+    private AuthenticatedMember member;
+
+    @Autowired
+    public AuthenticationContext(MemberService memberService, AclService aclService) {
+        this.memberService = memberService;
+        this.aclService = aclService;
+    }
+
+    public void resolve(SessionDto session) {
+        if (!resolved) {
+            member = memberService.authenticate(session);
+            resolved = true;
+        }
+    }
+
+    public boolean isAuthenticated() {
+        return member != null;
+    }
+
+    public AuthenticatedMember getMember() {
+        return member;
+    }
+
+    public boolean isCurrentUser(String name) {
+        return member != null && name != null && name.equals(member.getUsername());
+    }
+
+    public boolean hasPermissions(String... permissions) {
+        return member != null && aclService.authorize(member.getPermissions(), permissions);
+    }
+}
@@ -6,10 +6,9 @@ import com.pokemonurpg.object.CosmeticForm;
 import com.pokemonurpg.repository.CosmeticFormRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 @Service
 public class CosmeticFormService
@@ -42,11 +41,13 @@ public class CosmeticFormService
 
     public void createAll(int speciesDbid, List<CosmeticFormInputDto> input, String formChangeMethod) {
         if (input != null) {
+            Map<String, CosmeticForm> forms = new LinkedHashMap<>();
             for (CosmeticFormInputDto dto : input) {
                 if (!dto.isDeleted()) {
-                    create(speciesDbid, dto, formChangeMethod);
+                    forms.put(dto.getName(), new CosmeticForm(speciesDbid, dto.getName(), dto.getFormName(), formChangeMethod));
                 }
             }
+            cosmeticFormRepository.insertAll(forms.values());
         }
     }
 
@@ -65,23 +66,60 @@ public class CosmeticFormService
         }
     }
 
+    @Transactional
     public void updateAll(int speciesDbid, List<CosmeticFormInputDto> input, String formChangeMethod) {
+        Map<String, CosmeticForm> existingRecords = new HashMap<>();
+        for (CosmeticForm existingRecord : cosmeticFormRepository.findByIdSpeciesDbid(speciesDbid)) {
+            existingRecords.put(existingRecord.getName(), existingRecord);
+        }
+
+        Map<String, CosmeticForm> inserts = new LinkedHashMap<>();
+        Map<String, CosmeticForm> updates = new LinkedHashMap<>();
+        Set<String> deletes = new HashSet<>();
         if (input != null) {
             for (CosmeticFormInputDto record : input) {
-                CosmeticForm existingRecord = cosmeticFormRepository.findByIdSpeciesDbidAndIdName(speciesDbid, record.getName());
-                if (existingRecord != null) {
-                    update(existingRecord, record, formChangeMethod);
-                } else {
-                    create(speciesDbid, record, formChangeMethod);
+                String name = record.getName();
+                CosmeticForm existingRecord = existingRecords.get(name);
+                if (existingRecord == null) {
+                    if (record.isDeleted()) {
+                        inserts.remove(name);
+                    }
+                    else {
+                        inserts.put(name, new CosmeticForm(speciesDbid, name, record.getFormName(), formChangeMethod));
+                    }
+                }
+                else if (record.isDeleted()) {
+                    deletes.add(name);
+                    updates.remove(name);
+                }
+                else {
+                    deletes.remove(name);
+                    if (record.getFormName() != null && !record.getFormName().equals(existingRecord.getFormName())) {
+                        existingRecord.setFormName(record.getFormName());
+                        updates.put(name, existingRecord);
+                    }
                 }
             }
         }
+
         if (formChangeMethod != null) {
-            List<CosmeticForm> existingForms = cosmeticFormRepository.findByIdSpeciesDbid(speciesDbid);
-            for (CosmeticForm existingForm : existingForms) {
-                existingForm.setMethod(formChangeMethod);
-                cosmeticFormRepository.save(existingForm);
+            for (CosmeticForm existingRecord : existingRecords.values()) {
+                String name = existingRecord.getName();
+                if (!deletes.contains(name) && !formChangeMethod.equals(existingRecord.getMethod())) {
+                    existingRecord.setMethod(formChangeMethod);
+                    updates.put(name, existingRecord);
+                }
             }
         }
+
+        if (!deletes.isEmpty()) {
+            cosmeticFormRepository.deleteBySpeciesDbidAndNameIn(speciesDbid, deletes);
+        }
+        if (!updates.isEmpty()) {
+            cosmeticFormRepository.saveAll(updates.values());
+        }
+        if (!inserts.isEmpty()) {
+            cosmeticFormRepository.insertAll(inserts.values());
+        }
     }
 }
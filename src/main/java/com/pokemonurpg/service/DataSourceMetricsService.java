@@ -0,0 +1,95 @@
+package com.pokemonurpg.service;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Service
+public class DataSourceMetricsService implements MetricsTrackerFactory {
+
+    static final long[] ACQUIRE_BUCKETS_MILLIS = {1, 5, 10, 50, 100, 500, 1000};
+
+    private volatile PoolStats poolStats;
+
+    private final AtomicLongArray acquireHistogram = new AtomicLongArray(ACQUIRE_BUCKETS_MILLIS.length + 1);
+    private final AtomicLong acquireCount = new AtomicLong();
+    private final AtomicLong acquireTotalNanos = new AtomicLong();
+    private final AtomicLong acquireMaxNanos = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong connectionsCreated = new AtomicLong();
+    private final AtomicLong usageTotalMillis = new AtomicLong();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                connectionsCreated.incrementAndGet();
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                recordAcquire(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageTotalMillis.addAndGet(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.incrementAndGet();
+            }
+        };
+    }
+
+    void recordAcquire(long nanos) {
+        acquireCount.incrementAndGet();
+        acquireTotalNanos.addAndGet(nanos);
+        acquireMaxNanos.accumulateAndGet(nanos, Math::max);
+
+        int bucket = 0;
+        while (bucket < ACQUIRE_BUCKETS_MILLIS.length && nanos > TimeUnit.MILLISECONDS.toNanos(ACQUIRE_BUCKETS_MILLIS[bucket])) {
+            bucket++;
+        }
+        acquireHistogram.incrementAndGet(bucket);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        PoolStats pool = poolStats;
+        if (pool != null) {
+            stats.put("active", pool.getActiveConnections());
+            stats.put("idle", pool.getIdleConnections());
+            stats.put("pending", pool.getPendingThreads());
+            stats.put("total", pool.getTotalConnections());
+            stats.put("max", pool.getMaxConnections());
+        }
+
+        long count = acquireCount.get();
+        stats.put("acquireCount", count);
+        stats.put("acquireMeanMillis", count == 0 ? 0.0 : acquireTotalNanos.get() / (double) count / 1000000);
+        stats.put("acquireMaxMillis", acquireMaxNanos.get() / 1000000.0);
+
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < ACQUIRE_BUCKETS_MILLIS.length; i++) {
+            histogram.put("<=" + ACQUIRE_BUCKETS_MILLIS[i] + "ms", acquireHistogram.get(i));
+        }
+        histogram.put(">" + ACQUIRE_BUCKETS_MILLIS[ACQUIRE_BUCKETS_MILLIS.length - 1] + "ms", acquireHistogram.get(ACQUIRE_BUCKETS_MILLIS.length));
+        stats.put("acquireHistogram", histogram);
+
+        stats.put("timeouts", timeouts.get());
+        stats.put("connectionsCreated", connectionsCreated.get());
+        stats.put("usageTotalMillis", usageTotalMillis.get());
+        return stats;
+    }
+}
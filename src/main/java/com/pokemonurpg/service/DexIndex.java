@@ -0,0 +1,109 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.species.response.SpeciesPageTabDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class DexIndex {
+
+    public static final int NONE = -1;
+
+    private final int[] dexnos;
+    private final int[] dbids;
+    private final String[] names;
+    private final String[] displayNames;
+    private final int[] positions;
+
+    public DexIndex(List<Object[]> firstForms) {
+        int[] dexnos = new int[firstForms.size()];
+        int[] dbids = new int[firstForms.size()];
+        String[] names = new String[firstForms.size()];
+        String[] displayNames = new String[firstForms.size()];
+        int count = 0;
+        for (Object[] row : firstForms) {
+            int dexno = ((Number) row[0]).intValue();
+            if (dexno > 0 && (count == 0 || dexnos[count - 1] < dexno)) {
+                dexnos[count] = dexno;
+                dbids[count] = ((Number) row[1]).intValue();
+                names[count] = (String) row[2];
+                displayNames[count] = (String) row[3];
+                count++;
+            }
+        }
+        this.dexnos = Arrays.copyOf(dexnos, count);
+        this.dbids = Arrays.copyOf(dbids, count);
+        this.names = Arrays.copyOf(names, count);
+        this.displayNames = Arrays.copyOf(displayNames, count);
+
+        positions = new int[count == 0 ? 1 : this.dexnos[count - 1] + 1];
+        Arrays.fill(positions, NONE);
+        for (int i = 0; i < count; i++) {
+            positions[this.dexnos[i]] = i;
+        }
+    }
+
+    private int positionOf(int dexno) {
+        return dexno >= 0 && dexno < positions.length ? positions[dexno] : NONE;
+    }
+
+    public int size() {
+        return dexnos.length;
+    }
+
+    public int getMaxDexno() {
+        return dexnos.length == 0 ? 0 : dexnos[dexnos.length - 1];
+    }
+
+    public boolean contains(int dexno) {
+        return positionOf(dexno) != NONE;
+    }
+
+    public int getFirstFormDbid(int dexno) {
+        int position = positionOf(dexno);
+        return position == NONE ? NONE : dbids[position];
+    }
+
+    public String getFirstFormName(int dexno) {
+        int position = positionOf(dexno);
+        return position == NONE ? null : names[position];
+    }
+
+    public int getPrevDex(int dexno) {
+        int position = positionOf(dexno);
+        if (position == NONE) {
+            return NONE;
+        }
+        return dexnos[(position + dexnos.length - 1) % dexnos.length];
+    }
+
+    public int getNextDex(int dexno) {
+        int position = positionOf(dexno);
+        if (position == NONE) {
+            return NONE;
+        }
+        return dexnos[(position + 1) % dexnos.length];
+    }
+
+    public SpeciesPageTabDto getPageTab(int dexno) {
+        int position = positionOf(dexno);
+        return position == NONE ? null : new SpeciesPageTabDto(dexnos[position], displayNames[position]);
+    }
+
+    public List<SpeciesPageTabDto> getPageTabs(int from, int to) {
+        int start = Arrays.binarySearch(dexnos, from);
+        if (start < 0) {
+            start = -start - 1;
+        }
+        if (start >= dexnos.length || dexnos[start] > to) {
+            return Collections.emptyList();
+        }
+        List<SpeciesPageTabDto> tabs = new ArrayList<>();
+        for (int i = start; i < dexnos.length && dexnos[i] <= to; i++) {
+            tabs.add(new SpeciesPageTabDto(dexnos[i], displayNames[i]));
+        }
+        return tabs;
+    }
+}
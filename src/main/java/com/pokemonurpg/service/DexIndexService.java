@@ -0,0 +1,38 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.repository.SpeciesRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+
+@Service
+public class DexIndexService {
+
+    private SpeciesRepository speciesRepository;
+
+    private volatile DexIndex dexIndex;
+
+    @Autowired
+    public DexIndexService(SpeciesRepository speciesRepository) {
+        this.speciesRepository = speciesRepository;
+    }
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        dexIndex = new DexIndex(speciesRepository.findAllFirstFormsByDexno());
+    }
+
+    public void requestRebuild() {
+        TransactionHooks.runAfterCommit(this, this::rebuild);
+    }
+
+    public DexIndex getIndex() {
+        DexIndex index = dexIndex;
+        if (index == null) {
+            rebuild();
+            index = dexIndex;
+        }
+        return index;
+    }
+}
@@ -18,11 +18,13 @@ public class EvolutionService {
 
     private EvolutionRepository evolutionRepository;
     private SpeciesRepository speciesRepository;
+    private SpeciesGraphService speciesGraphService;
 
     @Autowired
-    public EvolutionService(EvolutionRepository evolutionRepository, SpeciesRepository speciesRepository) {
+    public EvolutionService(EvolutionRepository evolutionRepository, SpeciesRepository speciesRepository, SpeciesGraphService speciesGraphService) {
         this.evolutionRepository = evolutionRepository;
         this.speciesRepository = speciesRepository;
+        this.speciesGraphService = speciesGraphService;
     }
 
     public int getPreEvolutionDbid(int evolutionDbid) {
@@ -67,6 +69,7 @@ public class EvolutionService {
             Species prevo = speciesRepository.findByName(input.getName());
             Evolution evolution = new Evolution(evoDbid, prevo.getDbid(), input.getMethod());
             evolutionRepository.save(evolution);
+            speciesGraphService.requestRebuild();
         }
     }
 
@@ -81,6 +84,7 @@ public class EvolutionService {
                     existingRecord.setNumBattles(input.getNumBattles());
                 }
                 evolutionRepository.save(existingRecord);
+                speciesGraphService.requestRebuild();
             }
             else {
                 create(evoDbid, input);
@@ -0,0 +1,104 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.Attack;
+import com.pokemonurpg.object.SpeciesAttack;
+
+import java.util.*;
+
+final class FormLearnsets {
+
+    private static final byte NOT_LEARNED = 0;
+
+    private final int formCount;
+    private final BitSet[] learned;
+    private final byte[][] methodCodes;
+    private final String[] attackNames;
+    private final List<String> methods = new ArrayList<>();
+
+    FormLearnsets(List<List<SpeciesAttack>> learnsets) {
+        formCount = learnsets.size();
+        int maxDbid = 0;
+        for (List<SpeciesAttack> learnset : learnsets) {
+            for (SpeciesAttack speciesAttack : learnset) {
+                Attack attack = speciesAttack.getAttack();
+                if (attack != null) {
+                    maxDbid = Math.max(maxDbid, attack.getDbid());
+                }
+            }
+        }
+
+        learned = new BitSet[formCount];
+        methodCodes = new byte[formCount][maxDbid + 1];
+        attackNames = new String[maxDbid + 1];
+        for (int form = 0; form < formCount; form++) {
+            BitSet bits = new BitSet(maxDbid + 1);
+            for (SpeciesAttack speciesAttack : learnsets.get(form)) {
+                Attack attack = speciesAttack.getAttack();
+                if (attack != null) {
+                    int dbid = attack.getDbid();
+                    bits.set(dbid);
+                    methodCodes[form][dbid] = encode(speciesAttack.getMethod());
+                    attackNames[dbid] = attack.getName();
+                }
+            }
+            learned[form] = bits;
+        }
+    }
+
+    BitSet findUnique() {
+        BitSet unique = new BitSet();
+        BitSet shared = null;
+        for (BitSet bits : learned) {
+            unique.or(bits);
+            if (shared == null) {
+                shared = (BitSet) bits.clone();
+            }
+            else shared.and(bits);
+        }
+        if (shared == null) {
+            return unique;
+        }
+
+        for (int dbid = shared.nextSetBit(0); dbid >= 0; dbid = shared.nextSetBit(dbid + 1)) {
+            byte code = methodCodes[0][dbid];
+            boolean sameMethod = true;
+            for (int form = 1; form < formCount && sameMethod; form++) {
+                sameMethod = methodCodes[form][dbid] == code;
+            }
+            if (sameMethod) {
+                unique.clear(dbid);
+            }
+        }
+        return unique;
+    }
+
+    List<String> getNames(BitSet attacks) {
+        List<String> names = new ArrayList<>(attacks.cardinality());
+        for (int dbid = attacks.nextSetBit(0); dbid >= 0; dbid = attacks.nextSetBit(dbid + 1)) {
+            names.add(attackNames[dbid]);
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    HashMap<String, String> getMethods(int form, BitSet attacks) {
+        HashMap<String, String> formMethods = new HashMap<>();
+        for (int dbid = attacks.nextSetBit(0); dbid >= 0; dbid = attacks.nextSetBit(dbid + 1)) {
+            formMethods.put(attackNames[dbid], decode(methodCodes[form][dbid]));
+        }
+        return formMethods;
+    }
+
+    private byte encode(String method) {
+        int index = methods.indexOf(method);
+        if (index < 0) {
+            methods.add(method);
+            index = methods.size() - 1;
+        }
+        return (byte) (index + 1);
+    }
+
+    private String decode(byte code) {
+        return code == NOT_LEARNED ? null : methods.get((code & 0xFF) - 1);
+    }
+}
@@ -0,0 +1,161 @@
+package com.pokemonurpg.service;
+
+import com.google.common.collect.Lists;
+import com.pokemonurpg.object.LedgerEntry;
+import com.pokemonurpg.object.LedgerSnapshot;
+import com.pokemonurpg.repository.LedgerEntryRepository;
+import com.pokemonurpg.repository.LedgerSnapshotRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class LedgerService {
+
+    public static final int MONEY = 0;
+    public static final String REASON_ADJUSTMENT = "Adjustment";
+    public static final String REASON_STATS_UPDATE = "Stats update";
+    static final int MAX_REASON_LENGTH = 100;
+    private static final int MEMBER_CHUNK_SIZE = 500;
+
+    private static final Logger logger = LogManager.getLogger(LedgerService.class);
+
+    private LedgerEntryRepository ledgerEntryRepository;
+    private LedgerSnapshotRepository ledgerSnapshotRepository;
+    private final boolean compactionEnabled;
+    private final long settleMillis;
+    private final int batchSize;
+
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong snapshots = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile int compactedThrough;
+    private volatile long lastRunMillis;
+
+    @Autowired
+    public LedgerService(LedgerEntryRepository ledgerEntryRepository, LedgerSnapshotRepository ledgerSnapshotRepository,
+                         @Value("${urpg.ledger.compaction.enabled:true}") boolean compactionEnabled,
+                         @Value("${urpg.ledger.compaction.settle-ms:60000}") long settleMillis,
+                         @Value("${urpg.ledger.compaction.batch-size:10000}") int batchSize) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.ledgerSnapshotRepository = ledgerSnapshotRepository;
+        this.compactionEnabled = compactionEnabled;
+        this.settleMillis = settleMillis;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public void record(int memberDbid, int itemDbid, int delta, long balanceAfter, String reason, String referee) {
+        if (delta == 0) {
+            return;
+        }
+        if (ledgerSnapshotRepository.findOpeningForUpdate(memberDbid, itemDbid) == null) {
+            ledgerSnapshotRepository.save(new LedgerSnapshot(memberDbid, itemDbid, balanceAfter - delta, 0, new Date()));
+        }
+        ledgerEntryRepository.save(new LedgerEntry(memberDbid, itemDbid, delta, reason, referee));
+        appended.incrementAndGet();
+    }
+
+    @Transactional(readOnly = true)
+    public Long getBalance(int memberDbid, int itemDbid) {
+        LedgerSnapshot snapshot = ledgerSnapshotRepository.findFirstByMemberDbidAndItemDbidOrderByDbidDesc(memberDbid, itemDbid);
+        if (snapshot == null) {
+            return null;
+        }
+        return snapshot.getBalance() + ledgerEntryRepository.sumAfter(memberDbid, itemDbid, snapshot.getLastEntryDbid());
+    }
+
+    @Transactional(readOnly = true)
+    public Long getBalanceAt(int memberDbid, int itemDbid, Date at) {
+        LedgerSnapshot snapshot = ledgerSnapshotRepository
+                .findFirstByMemberDbidAndItemDbidAndTimestampLessThanEqualOrderByDbidDesc(memberDbid, itemDbid, at);
+        if (snapshot == null) {
+            return null;
+        }
+        return snapshot.getBalance() + ledgerEntryRepository.sumAfterUntil(memberDbid, itemDbid, snapshot.getLastEntryDbid(), at);
+    }
+
+    @Scheduled(initialDelayString = "${urpg.ledger.compaction.initial-delay-ms:120000}", fixedDelayString = "${urpg.ledger.compaction.interval-ms:300000}")
+    public void compactLedger() {
+        if (compactionEnabled) {
+            try {
+                int written = compact(new Date(System.currentTimeMillis() - settleMillis));
+                if (written > 0) {
+                    logger.info("Wrote {} ledger snapshots through entry {}.", written, compactedThrough);
+                }
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+                logger.error("Ledger compaction failed; balances are still read from the previous snapshots and the ledger tail.", e);
+            }
+        }
+    }
+
+    int compact(Date settledBefore) {
+        runs.incrementAndGet();
+        int written = 0;
+        int from = ledgerSnapshotRepository.findCompactedThrough();
+        Integer last = ledgerEntryRepository.findLastSettledDbid(settledBefore);
+        int through = last != null ? last : 0;
+
+        while (from < through) {
+            int to = (int) Math.min((long) from + batchSize, through);
+            List<Object[]> sums = ledgerEntryRepository.sumByAssetBetween(from, to);
+            if (!sums.isEmpty()) {
+                written += writeSnapshots(sums, to);
+            }
+            from = to;
+        }
+
+        compactedThrough = Math.max(compactedThrough, from);
+        lastRunMillis = System.currentTimeMillis();
+        return written;
+    }
+
+    private int writeSnapshots(List<Object[]> sums, int lastEntryDbid) {
+        Set<Integer> memberDbids = new HashSet<>();
+        for (Object[] row : sums) {
+            memberDbids.add((Integer) row[0]);
+        }
+        Map<List<Integer>, LedgerSnapshot> previous = new HashMap<>();
+        for (List<Integer> chunk : Lists.partition(new ArrayList<>(memberDbids), MEMBER_CHUNK_SIZE)) {
+            for (LedgerSnapshot snapshot : ledgerSnapshotRepository.findLatestForMembers(chunk)) {
+                previous.put(Arrays.asList(snapshot.getMemberDbid(), snapshot.getItemDbid()), snapshot);
+            }
+        }
+
+        List<LedgerSnapshot> compacted = new ArrayList<>(sums.size());
+        for (Object[] row : sums) {
+            int memberDbid = (Integer) row[0];
+            int itemDbid = (Integer) row[1];
+            long sum = ((Number) row[2]).longValue();
+            Date newest = (Date) row[3];
+            LedgerSnapshot prior = previous.get(Arrays.asList(memberDbid, itemDbid));
+            long balance = prior != null ? prior.getBalance() + sum : sum;
+            Date timestamp = prior != null && prior.getTimestamp().after(newest) ? prior.getTimestamp() : newest;
+            compacted.add(new LedgerSnapshot(memberDbid, itemDbid, balance, lastEntryDbid, timestamp));
+        }
+        ledgerSnapshotRepository.saveAll(compacted);
+        snapshots.addAndGet(compacted.size());
+        return compacted.size();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("compactionEnabled", compactionEnabled);
+        stats.put("appended", appended.get());
+        stats.put("runs", runs.get());
+        stats.put("snapshots", snapshots.get());
+        stats.put("compactedThrough", compactedThrough);
+        stats.put("failures", failures.get());
+        stats.put("lastRun", lastRunMillis);
+        return stats;
+    }
+}
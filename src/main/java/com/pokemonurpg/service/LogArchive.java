@@ -0,0 +1,283 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.stats.response.LogRecordDto;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+final class LogArchive {
+
+    private static final Logger logger = LogManager.getLogger(LogArchive.class);
+
+    private static final Comparator<LogRecordDto> NEWEST_FIRST = Comparator.comparingLong(LogRecordDto::getTimestamp)
+            .thenComparingInt(LogRecordDto::getDbid).reversed();
+
+    private static final String PREFIX = "log-";
+    private static final String DATA_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int INDEX_ENTRY_BYTES = 36;
+
+    private final Path directory;
+    private final ConcurrentSkipListMap<YearMonth, Segment> segments = new ConcurrentSkipListMap<>();
+
+    static LogArchive empty() {
+        return new LogArchive();
+    }
+
+    private LogArchive() {
+        this.directory = null;
+    }
+
+    LogArchive(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + INDEX_SUFFIX)) {
+            for (Path index : files) {
+                String name = index.getFileName().toString();
+                YearMonth month = YearMonth.parse(name.substring(PREFIX.length(), name.length() - INDEX_SUFFIX.length()));
+                Segment segment = new Segment(month);
+                segment.load();
+                segments.put(month, segment);
+            }
+        }
+    }
+
+    synchronized int append(Map<Integer, List<LogRecordDto>> logsByMember) throws IOException {
+        if (directory == null) {
+            throw new IllegalStateException("Log archiving is disabled and no archive directory was opened.");
+        }
+        Map<YearMonth, Map<Integer, List<LogRecordDto>>> byMonth = new TreeMap<>();
+        for (Map.Entry<Integer, List<LogRecordDto>> member : logsByMember.entrySet()) {
+            for (LogRecordDto log : member.getValue()) {
+                byMonth.computeIfAbsent(monthOf(log.getTimestamp()), month -> new TreeMap<>())
+                        .computeIfAbsent(member.getKey(), dbid -> new ArrayList<>())
+                        .add(log);
+            }
+        }
+
+        int appended = 0;
+        for (Map.Entry<YearMonth, Map<Integer, List<LogRecordDto>>> month : byMonth.entrySet()) {
+            Segment segment = segments.computeIfAbsent(month.getKey(), Segment::new);
+            appended += segment.append(month.getValue());
+        }
+        return appended;
+    }
+
+    List<LogRecordDto> readBefore(int memberDbid, long beforeTimestamp, int beforeDbid, int limit) throws IOException {
+        List<LogRecordDto> result = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+        for (Segment segment : segments.headMap(monthOf(beforeTimestamp), true).descendingMap().values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            List<LogRecordDto> monthLogs = segment.read(memberDbid, beforeTimestamp);
+            monthLogs.sort(NEWEST_FIRST);
+            for (LogRecordDto log : monthLogs) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                boolean before = log.getTimestamp() < beforeTimestamp || (log.getTimestamp() == beforeTimestamp && log.getDbid() < beforeDbid);
+                if (before && seen.add(log.getDbid())) {
+                    result.add(log);
+                }
+            }
+        }
+        return result;
+    }
+
+    Map<String, Object> getStats() {
+        long records = 0;
+        long bytes = 0;
+        for (Segment segment : segments.values()) {
+            records += segment.records;
+            bytes += segment.bytes;
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("directory", directory != null ? directory.toAbsolutePath().toString() : null);
+        stats.put("segments", segments.size());
+        stats.put("oldestSegment", segments.isEmpty() ? null : segments.firstKey().toString());
+        stats.put("records", records);
+        stats.put("bytes", bytes);
+        return stats;
+    }
+
+    private static YearMonth monthOf(long timestamp) {
+        if (timestamp == Long.MAX_VALUE) {
+            return YearMonth.of(9999, 12);
+        }
+        return YearMonth.from(Instant.ofEpochMilli(timestamp).atZone(ZoneOffset.UTC));
+    }
+
+    private static final class BlockRef {
+        final long offset;
+        final int length;
+        final int count;
+        final long oldest;
+        final long newest;
+
+        BlockRef(long offset, int length, int count, long oldest, long newest) {
+            this.offset = offset;
+            this.length = length;
+            this.count = count;
+            this.oldest = oldest;
+            this.newest = newest;
+        }
+    }
+
+    private final class Segment {
+        private final Path data;
+        private final Path index;
+        private volatile Map<Integer, List<BlockRef>> blocks = Collections.emptyMap();
+        private volatile long records;
+        private volatile long bytes;
+
+        Segment(YearMonth month) {
+            this.data = directory.resolve(PREFIX + month + DATA_SUFFIX);
+            this.index = directory.resolve(PREFIX + month + INDEX_SUFFIX);
+        }
+
+        void load() throws IOException {
+            long dataSize = Files.exists(data) ? Files.size(data) : 0;
+            Map<Integer, List<BlockRef>> loaded = new HashMap<>();
+            long loadedRecords = 0;
+            long complete;
+            try (FileChannel channel = FileChannel.open(index, StandardOpenOption.WRITE)) {
+                complete = channel.size() - channel.size() % INDEX_ENTRY_BYTES;
+                if (complete != channel.size()) {
+                    logger.warn("Truncating partial entry at the end of {}", index);
+                    channel.truncate(complete);
+                }
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(index));
+            while (buffer.remaining() >= INDEX_ENTRY_BYTES) {
+                int memberDbid = buffer.getInt();
+                BlockRef ref = new BlockRef(buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getLong());
+                if (ref.offset + ref.length <= dataSize) {
+                    loaded.computeIfAbsent(memberDbid, dbid -> new ArrayList<>()).add(ref);
+                    loadedRecords += ref.count;
+                }
+                else logger.warn("Ignoring index entry in {} that points past the end of {}", index, data);
+            }
+            blocks = loaded;
+            records = loadedRecords;
+            bytes = dataSize + complete;
+        }
+
+        int append(Map<Integer, List<LogRecordDto>> logsByMember) throws IOException {
+            Map<Integer, List<BlockRef>> updated = new HashMap<>(blocks);
+            ByteBuffer entries = ByteBuffer.allocate(logsByMember.size() * INDEX_ENTRY_BYTES);
+            int appended = 0;
+
+            try (FileChannel channel = FileChannel.open(data, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                long offset = channel.size();
+                for (Map.Entry<Integer, List<LogRecordDto>> member : logsByMember.entrySet()) {
+                    List<LogRecordDto> logs = member.getValue();
+                    byte[] block = compress(logs);
+                    ByteBuffer buffer = ByteBuffer.wrap(block);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer, offset + buffer.position());
+                    }
+
+                    long oldest = Long.MAX_VALUE;
+                    long newest = Long.MIN_VALUE;
+                    for (LogRecordDto log : logs) {
+                        oldest = Math.min(oldest, log.getTimestamp());
+                        newest = Math.max(newest, log.getTimestamp());
+                    }
+                    BlockRef ref = new BlockRef(offset, block.length, logs.size(), oldest, newest);
+                    entries.putInt(member.getKey()).putLong(ref.offset).putInt(ref.length).putInt(ref.count).putLong(ref.oldest).putLong(ref.newest);
+                    List<BlockRef> refs = new ArrayList<>(updated.getOrDefault(member.getKey(), Collections.emptyList()));
+                    refs.add(ref);
+                    updated.put(member.getKey(), refs);
+
+                    offset += block.length;
+                    appended += logs.size();
+                }
+                channel.force(true);
+            }
+
+            try (FileChannel channel = FileChannel.open(index, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                long position = channel.size();
+                entries.flip();
+                while (entries.hasRemaining()) {
+                    position += channel.write(entries, position);
+                }
+                channel.force(true);
+            }
+
+            blocks = updated;
+            records += appended;
+            bytes = Files.size(data) + Files.size(index);
+            return appended;
+        }
+
+        List<LogRecordDto> read(int memberDbid, long beforeTimestamp) throws IOException {
+            List<BlockRef> refs = blocks.get(memberDbid);
+            List<LogRecordDto> result = new ArrayList<>();
+            if (refs == null) {
+                return result;
+            }
+            try (FileChannel channel = FileChannel.open(data, StandardOpenOption.READ)) {
+                for (BlockRef ref : refs) {
+                    if (ref.oldest > beforeTimestamp) {
+                        continue;
+                    }
+                    ByteBuffer buffer = ByteBuffer.allocate(ref.length);
+                    while (buffer.hasRemaining()) {
+                        if (channel.read(buffer, ref.offset + buffer.position()) < 0) {
+                            throw new EOFException("Block at " + ref.offset + " in " + data + " is truncated.");
+                        }
+                    }
+                    result.addAll(decompress(buffer.array()));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static byte[] compress(List<LogRecordDto> logs) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(logs.size());
+            for (LogRecordDto log : logs) {
+                byte[] message = log.getMessage() != null ? log.getMessage().getBytes(StandardCharsets.UTF_8) : new byte[0];
+                out.writeInt(log.getDbid());
+                out.writeLong(log.getTimestamp());
+                out.writeInt(message.length);
+                out.write(message);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<LogRecordDto> decompress(byte[] block) throws IOException {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(block)))) {
+            int count = in.readInt();
+            List<LogRecordDto> logs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int dbid = in.readInt();
+                long timestamp = in.readLong();
+                byte[] message = new byte[in.readInt()];
+                in.readFully(message);
+                logs.add(new LogRecordDto(dbid, new Date(timestamp), new String(message, StandardCharsets.UTF_8)));
+            }
+            return logs;
+        }
+    }
+}
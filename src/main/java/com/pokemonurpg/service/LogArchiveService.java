@@ -0,0 +1,130 @@
+package com.pokemonurpg.service;
+
+import com.google.common.collect.Lists;
+import com.pokemonurpg.dto.stats.response.LogRecordDto;
+import com.pokemonurpg.repository.LogRecordRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class LogArchiveService {
+
+    static final int NO_MEMBER = -1;
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final Logger logger = LogManager.getLogger(LogArchiveService.class);
+
+    private LogRecordRepository logRecordRepository;
+    private final LogArchive logArchive;
+    private final boolean enabled;
+    private final long retentionMillis;
+    private final int batchSize;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong archived = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile long lastRunMillis;
+
+    @Autowired
+    public LogArchiveService(LogRecordRepository logRecordRepository,
+                             @Value("${urpg.log.archive.enabled:false}") boolean enabled,
+                             @Value("${urpg.log.archive.directory:log-archive}") String directory,
+                             @Value("${urpg.log.archive.retention-days:90}") int retentionDays,
+                             @Value("${urpg.log.archive.batch-size:5000}") int batchSize) throws IOException {
+        this(logRecordRepository, openArchive(enabled, Paths.get(directory)), enabled, retentionDays, batchSize);
+    }
+
+    LogArchiveService(LogRecordRepository logRecordRepository, LogArchive logArchive, boolean enabled, int retentionDays, int batchSize) {
+        this.logRecordRepository = logRecordRepository;
+        this.logArchive = logArchive;
+        this.enabled = enabled;
+        this.retentionMillis = TimeUnit.DAYS.toMillis(retentionDays);
+        this.batchSize = batchSize;
+    }
+
+    static LogArchive openArchive(boolean enabled, Path directory) throws IOException {
+        return enabled || Files.isDirectory(directory) ? new LogArchive(directory) : LogArchive.empty();
+    }
+
+    @Scheduled(initialDelayString = "${urpg.log.archive.initial-delay-ms:60000}", fixedDelayString = "${urpg.log.archive.interval-ms:3600000}")
+    public void archiveExpiredLogs() {
+        if (enabled) {
+            try {
+                int count = archiveOlderThan(new Date(System.currentTimeMillis() - retentionMillis));
+                if (count > 0) {
+                    logger.info("Archived {} log records older than {} days.", count, TimeUnit.MILLISECONDS.toDays(retentionMillis));
+                }
+            } catch (IOException | RuntimeException e) {
+                failures.incrementAndGet();
+                logger.error("Log archiving failed; the remaining records stay in log_record until the next run.", e);
+            }
+        }
+    }
+
+    int archiveOlderThan(Date cutoff) throws IOException {
+        runs.incrementAndGet();
+        int total = 0;
+        List<Object[]> rows;
+        do {
+            rows = logRecordRepository.findArchivableBefore(cutoff, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            Map<Integer, List<LogRecordDto>> logsByMember = new HashMap<>();
+            List<Integer> dbids = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                Integer dbid = (Integer) row[0];
+                Integer memberDbid = (Integer) row[1];
+                logsByMember.computeIfAbsent(memberDbid != null ? memberDbid : NO_MEMBER, key -> new ArrayList<>())
+                        .add(new LogRecordDto(dbid, (Date) row[2], (String) row[3]));
+                dbids.add(dbid);
+            }
+
+            logArchive.append(logsByMember);
+            for (List<Integer> chunk : Lists.partition(dbids, DELETE_CHUNK_SIZE)) {
+                logRecordRepository.deleteByDbidIn(chunk);
+            }
+            total += rows.size();
+            archived.addAndGet(rows.size());
+        } while (rows.size() == batchSize);
+
+        lastRunMillis = System.currentTimeMillis();
+        return total;
+    }
+
+    public List<LogRecordDto> findBefore(int memberDbid, long beforeTimestamp, int beforeDbid, int limit) {
+        try {
+            return logArchive.readBefore(memberDbid, beforeTimestamp, beforeDbid, limit);
+        } catch (IOException e) {
+            failures.incrementAndGet();
+            logger.error("Could not read archived logs for member {}.", memberDbid, e);
+            return Collections.emptyList();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("retentionDays", TimeUnit.MILLISECONDS.toDays(retentionMillis));
+        stats.put("runs", runs.get());
+        stats.put("archived", archived.get());
+        stats.put("failures", failures.get());
+        stats.put("lastRun", lastRunMillis);
+        stats.putAll(logArchive.getStats());
+        return stats;
+    }
+}
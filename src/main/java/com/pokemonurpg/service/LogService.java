@@ -1,42 +1,161 @@
 package com.pokemonurpg.service;
 
+import com.pokemonurpg.dto.stats.response.LogPageDto;
 import com.pokemonurpg.dto.stats.response.LogRecordDto;
 import com.pokemonurpg.object.LogRecord;
 import com.pokemonurpg.object.Member;
 import com.pokemonurpg.repository.LogRecordRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class LogService {
 
+    static final int DEFAULT_LOG_PAGE_SIZE = 25;
+    static final int MAX_LOG_PAGE_SIZE = 100;
+
     public LogRecordRepository logRecordRepository;
+    private LogArchiveService logArchiveService;
+    private final LogWriter logWriter;
+    private final long shutdownTimeoutMillis;
+    private final AtomicLong synchronousWrites = new AtomicLong();
+    private final Object transactionBufferKey = new Object();
 
     @Autowired
-    public LogService(LogRecordRepository logRecordRepository) {
+    public LogService(LogRecordRepository logRecordRepository, LogArchiveService logArchiveService,
+                      @Value("${urpg.log.write-behind.enabled:true}") boolean writeBehind,
+                      @Value("${urpg.log.write-behind.capacity:10000}") int capacity,
+                      @Value("${urpg.log.write-behind.flush-size:100}") int flushSize,
+                      @Value("${urpg.log.write-behind.flush-interval-ms:500}") long flushIntervalMillis,
+                      @Value("${urpg.log.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
         this.logRecordRepository = logRecordRepository;
+        this.logArchiveService = logArchiveService;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        if (writeBehind) {
+            this.logWriter = new LogWriter(logRecordRepository::insertBatch, logRecordRepository::save, capacity, flushSize, flushIntervalMillis);
+            this.logWriter.start();
+        }
+        else this.logWriter = null;
     }
 
     public void log(Member member, String message) {
-        LogRecord log = new LogRecord(member, message);
-        logRecordRepository.save(log);
+        log(new LogRecord(member, message));
     }
 
     public void log(LogRecord log) {
-        logRecordRepository.save(log);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            writeInCurrentTransaction(log);
+        }
+        else if (logWriter == null || !logWriter.offer(log)) {
+            synchronousWrites.incrementAndGet();
+            logRecordRepository.save(log);
+        }
+    }
+
+    public void logInCurrentTransaction(Member member, String message) {
+        writeInCurrentTransaction(new LogRecord(member, message));
+    }
+
+    private void writeInCurrentTransaction(LogRecord log) {
+        synchronousWrites.incrementAndGet();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            logRecordRepository.save(log);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<LogRecord> pending = (List<LogRecord>) TransactionSynchronizationManager.getResource(transactionBufferKey);
+        if (pending == null) {
+            List<LogRecord> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(transactionBufferKey, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(transactionBufferKey);
+                    if (!buffer.isEmpty()) {
+                        logRecordRepository.insertBatch(buffer);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(transactionBufferKey);
+                }
+            });
+            pending = buffer;
+        }
+        pending.add(log);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("writeBehind", logWriter != null);
+        stats.put("synchronousWrites", synchronousWrites.get());
+        if (logWriter != null) {
+            stats.putAll(logWriter.getStats());
+        }
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (logWriter != null) {
+            logWriter.shutdown(shutdownTimeoutMillis);
+        }
+    }
+
+    public LogPageDto findPageForMember(int memberDbid, String before, int limit) {
+        if (limit < 1 || limit > MAX_LOG_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LOG_PAGE_SIZE + ".");
+        }
+
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        long[] cursor = before == null || before.isEmpty() ? null : parseCursor(before);
+        List<LogRecordDto> logs;
+        if (cursor == null) {
+            logs = logRecordRepository.findLatestForMember(memberDbid, pageable);
+        }
+        else logs = logRecordRepository.findBeforeForMember(memberDbid, new Date(cursor[0]), (int) cursor[1], pageable);
+
+        if (logs.size() <= limit) {
+            logs = new ArrayList<>(logs);
+            if (!logs.isEmpty()) {
+                LogRecordDto oldest = logs.get(logs.size() - 1);
+                cursor = new long[] { oldest.getTimestamp(), oldest.getDbid() };
+            }
+            else if (cursor == null) {
+                cursor = new long[] { Long.MAX_VALUE, Integer.MAX_VALUE };
+            }
+            logs.addAll(logArchiveService.findBefore(memberDbid, cursor[0], (int) cursor[1], limit + 1 - logs.size()));
+        }
+
+        String nextCursor = null;
+        if (logs.size() > limit) {
+            logs = new ArrayList<>(logs.subList(0, limit));
+            LogRecordDto last = logs.get(limit - 1);
+            nextCursor = last.getTimestamp() + ":" + last.getDbid();
+        }
+        return new LogPageDto(logs, nextCursor);
     }
 
-    public List<LogRecordDto> findLogsSinceDateForMember(Date date, Member member) {
-        List<LogRecordDto> dtos = new ArrayList<>();
-        List<LogRecord> logs = logRecordRepository.findLogsSinceDateForMember(date, member);
-        for (LogRecord log : logs) {
-            LogRecordDto dto = new LogRecordDto(log);
-            dtos.add(dto);
+    private static long[] parseCursor(String cursor) {
+        try {
+            int separator = cursor.indexOf(':');
+            if (separator < 0) {
+                return new long[] { Long.parseLong(cursor), Integer.MAX_VALUE };
+            }
+            return new long[] { Long.parseLong(cursor.substring(0, separator)), Integer.parseInt(cursor.substring(separator + 1)) };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor " + cursor + " is invalid.");
         }
-        return dtos;
     }
 }
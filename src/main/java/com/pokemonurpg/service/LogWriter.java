@@ -0,0 +1,144 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.LogRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+final class LogWriter {
+
+    private static final Logger logger = LogManager.getLogger(LogWriter.class);
+
+    private final ConcurrentLinkedQueue<LogRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Consumer<List<LogRecord>> batchSink;
+    private final Consumer<LogRecord> recordSink;
+    private final int capacity;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final Thread writer;
+    private volatile boolean running;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong lost = new AtomicLong();
+
+    LogWriter(Consumer<List<LogRecord>> batchSink, Consumer<LogRecord> recordSink, int capacity, int flushSize, long flushIntervalMillis) {
+        this.batchSink = batchSink;
+        this.recordSink = recordSink;
+        this.capacity = capacity;
+        this.flushSize = flushSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.writer = new Thread(this::run, "log-writer");
+        this.writer.setDaemon(true);
+    }
+
+    void start() {
+        running = true;
+        writer.start();
+    }
+
+    boolean offer(LogRecord record) {
+        if (!running) {
+            return false;
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            rejected.incrementAndGet();
+            return false;
+        }
+        queue.offer(record);
+        enqueued.incrementAndGet();
+        if (size.get() >= flushSize) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    void shutdown(long timeoutMillis) {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warn("Log writer did not finish within {} ms; {} log records may not have been written.", timeoutMillis, size.get());
+        }
+        else drain();
+    }
+
+    Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", size.get());
+        stats.put("capacity", capacity);
+        stats.put("enqueued", enqueued.get());
+        stats.put("rejected", rejected.get());
+        stats.put("written", written.get());
+        stats.put("batches", batches.get());
+        stats.put("failedBatches", failedBatches.get());
+        stats.put("lost", lost.get());
+        return stats;
+    }
+
+    private void run() {
+        while (running) {
+            if (size.get() < flushSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            drain();
+        }
+        drain();
+    }
+
+    private void drain() {
+        List<LogRecord> batch = new ArrayList<>(flushSize);
+        LogRecord record;
+        while ((record = queue.poll()) != null) {
+            batch.add(record);
+            if (batch.size() == flushSize) {
+                write(batch);
+                batch = new ArrayList<>(flushSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<LogRecord> batch) {
+        size.addAndGet(-batch.size());
+        try {
+            batchSink.accept(batch);
+            batches.incrementAndGet();
+            written.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failedBatches.incrementAndGet();
+            logger.warn("Batched write of {} log records failed; writing them one at a time.", batch.size(), e);
+            for (LogRecord record : batch) {
+                try {
+                    recordSink.accept(record);
+                    written.incrementAndGet();
+                } catch (RuntimeException recordFailure) {
+                    lost.incrementAndGet();
+                    logger.error("Could not write log record for member {}: {}",
+                            record.getMember() != null ? record.getMember().getDbid() : null, record.getMessage(), recordFailure);
+                }
+            }
+        }
+    }
+}
@@ -23,17 +23,18 @@ public class MegaEvolutionService {
     private MegaEvolutionRepository megaEvolutionRepository;
     private SpeciesRepository speciesRepository;
     private SpeciesAbilityService speciesAbilityService;
+    private SpeciesGraphService speciesGraphService;
 
     @Autowired
-    public MegaEvolutionService(MegaEvolutionRepository megaEvolutionRepository, SpeciesRepository speciesRepository, SpeciesAbilityService speciesAbilityService) {
+    public MegaEvolutionService(MegaEvolutionRepository megaEvolutionRepository, SpeciesRepository speciesRepository, SpeciesAbilityService speciesAbilityService, SpeciesGraphService speciesGraphService) {
         this.megaEvolutionRepository = megaEvolutionRepository;
         this.speciesRepository = speciesRepository;
         this.speciesAbilityService = speciesAbilityService;
+        this.speciesGraphService = speciesGraphService;
     }
 
     public boolean isMegaEvolution(int dbid) {
-        MegaEvolution mega = megaEvolutionRepository.findByIdMegaEvolutionDbid(dbid);
-        return mega != null;
+        return speciesGraphService.getGraph().isMegaEvolution(dbid);
     }
 
     public MegaEvolutionBriefDto findByMegaDbid(int dbid) {
@@ -74,6 +75,7 @@ public class MegaEvolutionService {
             Species species = speciesRepository.findByName(input.getName());
             MegaEvolution mega = new MegaEvolution(megaEvolutionDbid, species.getDbid(), input.getMegaStone());
             megaEvolutionRepository.save(mega);
+            speciesGraphService.requestRebuild();
         }
     }
 
@@ -84,6 +86,7 @@ public class MegaEvolutionService {
                 if (input.getMegaStone() != null) {
                     existingRecord.setMegaStone(input.getMegaStone());
                     megaEvolutionRepository.save(existingRecord);
+                    speciesGraphService.requestRebuild();
                 }
             }
             else {
@@ -0,0 +1,26 @@
+package com.pokemonurpg.service;
+
+import java.util.BitSet;
+
+public class MemberPermissions {
+
+    private final BitSet permissions;
+    private final boolean banned;
+
+    public MemberPermissions(BitSet permissions, boolean banned) {
+        this.permissions = permissions;
+        this.banned = banned;
+    }
+
+    public boolean isBanned() {
+        return banned;
+    }
+
+    public boolean hasPermission(int permissionDbid) {
+        return permissionDbid >= 0 && permissions.get(permissionDbid);
+    }
+
+    public byte[] toByteArray() {
+        return permissions.toByteArray();
+    }
+}
@@ -16,11 +16,13 @@ public class MemberRoleService {
 
     private MemberRoleRepository memberRoleRepository;
     private RoleRepository roleRepository;
+    private AclService aclService;
 
     @Autowired
-    public MemberRoleService(MemberRoleRepository memberRoleRepository, RoleRepository roleRepository) {
+    public MemberRoleService(MemberRoleRepository memberRoleRepository, RoleRepository roleRepository, AclService aclService) {
         this.memberRoleRepository = memberRoleRepository;
         this.roleRepository = roleRepository;
+        this.aclService = aclService;
     }
 
     public void create(int memberDbid, MemberRoleInputDto input) {
@@ -53,6 +55,7 @@ public class MemberRoleService {
                     create(memberDbid, record);
                 }
             }
+            TransactionHooks.runAfterCommit(() -> aclService.invalidateMember(memberDbid));
         }
     }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.Errors;
 import org.springframework.validation.MapBindingResult;
 
@@ -18,6 +19,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,9 +31,12 @@ public class MemberService
     private RoleRepository roleRepository;
     private MemberRoleService memberRoleService;
     private MemberRoleRepository memberRoleRepository;
-    private PermissionRepository permissionRepository;
-    private RolePermissionRepository rolePermissionRepository;
     private OAuthService oAuthService;
+    private VerifiedSessionCache verifiedSessionCache;
+    private AclService aclService;
+    private SessionTokenService sessionTokenService;
+    private RemoteWorkExecutor remoteWorkExecutor;
+    private NameIndex nameIndex;
 
     private Matcher matcher;
 
@@ -42,20 +48,33 @@ public class MemberService
     Random rand = new Random();
 
     @Autowired
-    public MemberService(MemberRepository memberRepository, RoleRepository roleRepository, MemberRoleService memberRoleService, MemberRoleRepository memberRoleRepository, PermissionRepository permissionRepository, RolePermissionRepository rolePermissionRepository, OAuthService oAuthService) {
+    public MemberService(MemberRepository memberRepository, RoleRepository roleRepository, MemberRoleService memberRoleService, MemberRoleRepository memberRoleRepository, OAuthService oAuthService, VerifiedSessionCache verifiedSessionCache, AclService aclService,
+                         SessionTokenService sessionTokenService, RemoteWorkExecutor remoteWorkExecutor) {
         this.memberRepository = memberRepository;
         this.roleRepository = roleRepository;
         this.memberRoleService = memberRoleService;
         this.memberRoleRepository = memberRoleRepository;
-        this.permissionRepository = permissionRepository;
-        this.rolePermissionRepository = rolePermissionRepository;
         this.oAuthService = oAuthService;
+        this.verifiedSessionCache = verifiedSessionCache;
+        this.aclService = aclService;
+        this.sessionTokenService = sessionTokenService;
+        this.remoteWorkExecutor = remoteWorkExecutor;
+        this.nameIndex = new NameIndex(memberRepository::findAllNames);
     }
 
     public List<Object> findAll() {
         return memberRepository.findAllNames();
     }
 
+    public Member findByUsernameStartingWith(String prefix) {
+        String match = nameIndex.findFirst(prefix);
+        return match != null ? memberRepository.findByUsername(match) : null;
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        return nameIndex.suggest(prefix, limit);
+    }
+
     public Member findByDiscordId(String id) { return memberRepository.findByDiscordId(id); }
 
     public MemberDto findByName(String name) {
@@ -65,9 +84,8 @@ public class MemberService
             dto = new MemberDto(member);
         }
         else {
-            List<Member> results = memberRepository.findByUsernameStartingWith(name);
-            if (!results.isEmpty()) {
-                member = results.get(0);
+            member = findByUsernameStartingWith(name);
+            if (member != null) {
                 dto = new MemberDto(member);
             }
             else return null;
@@ -92,39 +110,33 @@ public class MemberService
     }
 
     public boolean authorize(Member member, String... permissions) {
-        List<MemberRole> roles = memberRoleRepository.findByIdMemberDbid(member.getDbid());
-
-        for (String permission : permissions) {
-            boolean found = false;
-            for (MemberRole record : roles) {
-                Role role = roleRepository.findByDbid(record.getId().getRoleDbid());
-                if (role != null) {
-                    List<RolePermission> rolePermissions = rolePermissionRepository.findByIdRoleDbid(role.getDbid());
-                    for (RolePermission rolePermission : rolePermissions) {
-                        Permission perm = permissionRepository.findByDbid(rolePermission.getId().getPermissionDbid());
-                        if (perm != null && permission.equals(perm.getName())) {
-                            found = true;
-                        }
-                    }
-                }
+        return aclService.authorize(member.getDbid(), permissions);
+    }
+
+    public AuthenticatedMember authenticate(SessionDto session) {
+        if (session != null && session.getToken() != null) {
+            AuthenticatedMember tokenMember = sessionTokenService.verify(session.getToken());
+            if (tokenMember != null && tokenMember.getUsername().equals(session.getUsername())) {
+                return tokenMember;
             }
-            if (!found) return false;
         }
 
-        return true;
-    }
-
-    public boolean authenticateAndAuthorize(SessionDto session, String... permissions) {
         SessionDto currentSession = getCurrentUserSession(session);
         if (currentSession != null) {
             Member member = findByDiscordId(currentSession.getId());
             if (member != null) {
-                if (!isBanned(member) && authorize(member, permissions)) {
-                    return true;
+                MemberPermissions permissions = aclService.findMemberPermissions(member.getDbid());
+                if (!permissions.isBanned()) {
+                    return new AuthenticatedMember(member.getDbid(), member.getUsername(), permissions);
                 }
             }
         }
-        return false;
+        return null;
+    }
+
+    public boolean authenticateAndAuthorize(SessionDto session, String... permissions) {
+        AuthenticatedMember member = authenticate(session);
+        return member != null && aclService.authorize(member.getPermissions(), permissions);
     }
 
     public Errors inviteUser(InviteUserDto input) {
@@ -139,6 +151,7 @@ public class MemberService
                 member.setSalt(salt);
 
                 memberRepository.save(member);
+                nameIndex.add(member.getUsername());
             } catch (Exception e) {
                 logger.catching(e);
             }
@@ -146,6 +159,7 @@ public class MemberService
         return errors;
     }
 
+    @Transactional
     public Errors updateMember(MemberInputDto input) {
         Errors errors = validateMemberUpdate(input);
         if (!errors.hasErrors()) {
@@ -155,6 +169,9 @@ public class MemberService
             }
 
             memberRepository.save(existingMember);
+            nameIndex.invalidate();
+            String discordId = existingMember.getDiscordId();
+            TransactionHooks.runAfterCommit(() -> verifiedSessionCache.invalidate(discordId));
             int dbid = existingMember.getDbid();
 
             memberRoleService.updateAll(dbid, input.getRoles());
@@ -186,72 +203,75 @@ public class MemberService
         return errors;
     }
 
-    public SessionDto login(String code) {
-        try {
-            if (code != null && !code.isEmpty() && !code.equals("")) {
-                OAuthAccessTokenResponse accessTokenResponse = oAuthService.exchangeCodeForAccessToken(code);
-                if (validateAccessTokenResponse(accessTokenResponse)) {
-                    String id = oAuthService.getDiscordId(accessTokenResponse.getAccessToken());
-                    if (id != null) {
-                        Member member = memberRepository.findByDiscordId(id);
-                        if (member != null) {
-                            return startSecureSession(member, accessTokenResponse);
-                        }
-                        else throw new IllegalStateException("No user was found with Discord ID: " + id);
-                    }
-                    else throw new IllegalStateException("No ID was returned from the Discord request.");
-                }
-                else throw new IllegalStateException("No access token was returned from the Discord exchange.");
-            }
-            else return null;
-        } catch (Exception e) {
-            logger.catching(e);
-            return null;
+    public CompletableFuture<SessionDto> loginAsync(String code) {
+        if (code == null || code.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
         }
+        return oAuthService.exchangeCodeForAccessTokenAsync(code)
+                .thenCompose(accessTokenResponse -> {
+                    if (!validateAccessTokenResponse(accessTokenResponse)) {
+                        throw new IllegalStateException("No access token was returned from the Discord exchange.");
+                    }
+                    return oAuthService.getDiscordIdAsync(accessTokenResponse.getAccessToken())
+                            .thenCompose(id -> remoteWorkExecutor.supply(() -> {
+                                if (id == null) {
+                                    throw new IllegalStateException("No ID was returned from the Discord request.");
+                                }
+                                Member member = memberRepository.findByDiscordId(id);
+                                if (member == null) {
+                                    throw new IllegalStateException("No user was found with Discord ID: " + id);
+                                }
+                                return startSession(member, accessTokenResponse);
+                            }));
+                })
+                .exceptionally(this::logFailure);
     }
 
-    public SessionDto refreshCurrentUserSession(SessionDto input) {
-        try {
-            SessionDto currentSession = getCurrentUserSession(input);
-            if (currentSession != null) {
-                OAuthAccessTokenResponse refreshedAccessTokenResponse = oAuthService.refreshAccessToken(input.getRefreshToken());
-                if (validateAccessTokenResponse(refreshedAccessTokenResponse)) {
-                    Member memberToAuthenticate = memberRepository.findByDiscordId(input.getId());
-                    return startSecureSession(memberToAuthenticate, refreshedAccessTokenResponse);
-                }
-                return null;
-            }
-            return null;
-        } catch (Exception e) {
-            logger.catching(e);
-            return null;
-        }
+    public CompletableFuture<SessionDto> refreshCurrentUserSessionAsync(SessionDto input) {
+        return getCurrentUserSessionAsync(input)
+                .thenCompose(currentSession -> {
+                    if (currentSession == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return oAuthService.refreshAccessTokenAsync(input.getRefreshToken())
+                            .thenCompose(refreshedAccessTokenResponse -> {
+                                if (!validateAccessTokenResponse(refreshedAccessTokenResponse)) {
+                                    return CompletableFuture.completedFuture(null);
+                                }
+                                return remoteWorkExecutor.supply(() -> startSession(memberRepository.findByDiscordId(input.getId()), refreshedAccessTokenResponse));
+                            });
+                })
+                .exceptionally(this::logFailure);
     }
 
-    public boolean isCurrentUser(SessionDto input, String name) {
-        SessionDto session = getCurrentUserSession(input);
-        if (name != null && session != null) {
-            return name.equals(session.getUsername());
+    public CompletableFuture<SessionDto> getCurrentUserSessionAsync(SessionDto input) {
+        if (!validateSessionDto(input)) {
+            return CompletableFuture.completedFuture(null);
         }
-        return false;
+        if (verifiedSessionCache.isVerified(input)) {
+            return CompletableFuture.completedFuture(input);
+        }
+        return remoteWorkExecutor.supply(() -> memberRepository.findByDiscordId(input.getId()))
+                .thenCompose(memberToAuthenticate -> {
+                    if (!hasCorrectAccessToken(memberToAuthenticate, input.getAccessToken())) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return oAuthService.getDiscordIdAsync(input.getAccessToken())
+                            .thenApply(id -> verifyIdentity(input, memberToAuthenticate, id));
+                });
     }
 
-
-
     public SessionDto getCurrentUserSession(SessionDto input) {
         try {
             if (validateSessionDto(input)) {
+                if (verifiedSessionCache.isVerified(input)) {
+                    return input;
+                }
+
                 Member memberToAuthenticate = memberRepository.findByDiscordId(input.getId());
                 if (hasCorrectAccessToken(memberToAuthenticate, input.getAccessToken())) {
                     String id = oAuthService.getDiscordId(input.getAccessToken());
-                    if (input.getId().equals(id) && input.getUsername().equals(memberToAuthenticate.getUsername())) {
-                        long expireTime = memberToAuthenticate.getSessionExpire();
-                        if ((System.currentTimeMillis() / 1000) < expireTime - 60) {
-                            return input;
-                        }
-                        return null;
-                    }
-                    return null;
+                    return verifyIdentity(input, memberToAuthenticate, id);
                 }
                 return null;
             }
@@ -262,6 +282,30 @@ public class MemberService
         }
     }
 
+    private SessionDto verifyIdentity(SessionDto input, Member memberToAuthenticate, String id) {
+        if (input.getId().equals(id) && input.getUsername().equals(memberToAuthenticate.getUsername())) {
+            long expireTime = memberToAuthenticate.getSessionExpire();
+            if ((System.currentTimeMillis() / 1000) < expireTime - 60) {
+                verifiedSessionCache.put(input, memberToAuthenticate);
+                return input;
+            }
+        }
+        return null;
+    }
+
+    private SessionDto startSession(Member member, OAuthAccessTokenResponse accessTokenResponse) {
+        try {
+            return startSecureSession(member, accessTokenResponse);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private SessionDto logFailure(Throwable e) {
+        logger.catching(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+        return null;
+    }
+
     public SessionDto startSecureSession(Member member, OAuthAccessTokenResponse accessTokenResponse) throws NoSuchAlgorithmException {
         String accessToken = accessTokenResponse.getAccessToken();
         String refreshToken = accessTokenResponse.getRefreshToken();
@@ -272,20 +316,21 @@ public class MemberService
         member.setRefreshToken(hash(refreshToken + salt));
         member.setSessionExpire(expiresIn + (System.currentTimeMillis() / 1000));
 
-        memberRepository.save(member);
+        memberRepository.updateSession(member.getDbid(), member.getAccessToken(), member.getRefreshToken(), member.getSessionExpire());
+        verifiedSessionCache.invalidate(member.getDiscordId());
 
-        return new SessionDto(member.getUsername(), member.getDiscordId(), accessToken, refreshToken);
+        SessionDto session = new SessionDto(member.getUsername(), member.getDiscordId(), accessToken, refreshToken);
+        if (sessionTokenService.isEnabled()) {
+            MemberPermissions permissions = aclService.findMemberPermissions(member.getDbid());
+            if (!permissions.isBanned()) {
+                session.setToken(sessionTokenService.issue(new AuthenticatedMember(member.getDbid(), member.getUsername(), permissions)));
+            }
+        }
+        return session;
     }
 
     public boolean isBanned(Member member) {
-        List<MemberRole> roles = memberRoleRepository.findByIdMemberDbid(member.getDbid());
-        for (MemberRole record : roles) {
-            Role role = roleRepository.findByDbid(record.getId().getRoleDbid());
-            if (role.getName().equals("Banned")) {
-                return true;
-            }
-        }
-        return false;
+        return aclService.isBanned(member.getDbid());
     }
 
     public boolean hasCorrectAccessToken(Member member, String accessTokenToVerify) {
@@ -0,0 +1,136 @@
+package com.pokemonurpg.service;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+public class NameIndex {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final Comparator<String> ORDER = Comparator.comparing((String name) -> name.toLowerCase(Locale.ROOT)).thenComparing(Comparator.naturalOrder());
+
+    private final Supplier<List<Object>> loader;
+    private volatile Entries entries;
+    private long generation;
+
+    public NameIndex(Supplier<List<Object>> loader) {
+        this.loader = loader;
+    }
+
+    public String findFirst(String prefix) {
+        if (prefix == null) {
+            return null;
+        }
+        Entries current = getEntries();
+        int start = current.lowerBound(prefix.toLowerCase(Locale.ROOT));
+        return current.matches(start, prefix.toLowerCase(Locale.ROOT)) ? current.names[start] : null;
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        String key = prefix.toLowerCase(Locale.ROOT);
+        Entries current = getEntries();
+        List<String> suggestions = new ArrayList<>();
+        for (int i = current.lowerBound(key); suggestions.size() < max && current.matches(i, key); i++) {
+            suggestions.add(current.names[i]);
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return getEntries().names.length;
+    }
+
+    public void add(String name) {
+        if (name != null) {
+            TransactionHooks.runAfterCommit(() -> insert(name));
+        }
+    }
+
+    public void invalidate() {
+        TransactionHooks.runAfterCommit(this, this::clear);
+    }
+
+    private synchronized void clear() {
+        generation++;
+        entries = null;
+    }
+
+    private synchronized void insert(String name) {
+        generation++;
+        Entries current = entries;
+        if (current != null) {
+            int position = Arrays.binarySearch(current.names, name, ORDER);
+            if (position < 0) {
+                position = -position - 1;
+                String[] names = new String[current.names.length + 1];
+                System.arraycopy(current.names, 0, names, 0, position);
+                names[position] = name;
+                System.arraycopy(current.names, position, names, position + 1, current.names.length - position);
+                entries = new Entries(names);
+            }
+        }
+    }
+
+    private Entries getEntries() {
+        Entries current = entries;
+        if (current == null) {
+            long expectedGeneration;
+            synchronized (this) {
+                expectedGeneration = generation;
+            }
+
+            List<Object> loaded = loader.get();
+            Set<String> names = new TreeSet<>(ORDER);
+            for (Object name : loaded) {
+                if (name != null) {
+                    names.add(name.toString());
+                }
+            }
+            current = new Entries(names.toArray(new String[0]));
+
+            synchronized (this) {
+                if (generation == expectedGeneration) {
+                    if (entries == null) {
+                        entries = current;
+                    }
+                    else current = entries;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static class Entries {
+        private final String[] names;
+        private final String[] keys;
+
+        private Entries(String[] names) {
+            this.names = names;
+            this.keys = new String[names.length];
+            for (int i = 0; i < names.length; i++) {
+                keys[i] = names[i].toLowerCase(Locale.ROOT);
+            }
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                }
+                else high = mid;
+            }
+            return low;
+        }
+
+        private boolean matches(int position, String key) {
+            return position < keys.length && keys[position].startsWith(key);
+        }
+    }
+}
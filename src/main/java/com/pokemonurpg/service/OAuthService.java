@@ -1,24 +1,75 @@
 package com.pokemonurpg.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.pokemonurpg.object.DiscordUser;
 import com.pokemonurpg.object.OAuthAccessTokenResponse;
 import okhttp3.*;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 @Service
 public class OAuthService {
-    private static final String CLIENT_ID = System.getenv("CLIENT_ID");
-    private static final String CLIENT_SECRET = System.getenv("CLIENT_SECRET");
-    public static final String REDIRECT_URI = System.getenv("REDIRECT_URI");
+    private static final String CLIENT_ID = Objects.toString(System.getenv("CLIENT_ID"), "");
+    private static final String CLIENT_SECRET = Objects.toString(System.getenv("CLIENT_SECRET"), "");
+    public static final String REDIRECT_URI = Objects.toString(System.getenv("REDIRECT_URI"), "");
 
-    private final OkHttpClient httpClient = new OkHttpClient();
+    private final OkHttpClient httpClient;
+    private final String baseUrl;
+    private final CircuitBreaker circuitBreaker;
     private Logger logger = LogManager.getLogger(OAuthService.class);
-    private ObjectMapper mapper = new ObjectMapper();
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader ACCESS_TOKEN_READER = MAPPER.readerFor(OAuthAccessTokenResponse.class);
+    private static final ObjectReader USER_READER = MAPPER.readerFor(DiscordUser.class);
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong latencyTotalNanos = new AtomicLong();
+    private final AtomicLong latencyMaxNanos = new AtomicLong();
+
+    @Autowired
+    public OAuthService(OkHttpClient discordHttpClient,
+                        @Value("${urpg.discord.base-url:https://discordapp.com/api}") String baseUrl,
+                        @Value("${urpg.discord.breaker.failure-threshold:5}") int failureThreshold,
+                        @Value("${urpg.discord.breaker.open-ms:30000}") long openMillis) {
+        this(discordHttpClient, baseUrl, new CircuitBreaker(failureThreshold, openMillis));
+    }
+
+    OAuthService(OkHttpClient httpClient, String baseUrl, CircuitBreaker circuitBreaker) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.circuitBreaker = circuitBreaker;
+    }
 
     public OAuthAccessTokenResponse exchangeCodeForAccessToken(String code) {
+        return await(exchangeCodeForAccessTokenAsync(code));
+    }
+
+    public String getDiscordId(String accessToken) {
+        return await(getDiscordIdAsync(accessToken));
+    }
+
+    public OAuthAccessTokenResponse refreshAccessToken(String refreshToken) {
+        return await(refreshAccessTokenAsync(refreshToken));
+    }
+
+    public CompletableFuture<OAuthAccessTokenResponse> exchangeCodeForAccessTokenAsync(String code) {
         RequestBody formBody = new FormBody.Builder()
                 .add("client_id", CLIENT_ID)
                 .add("client_secret", CLIENT_SECRET)
@@ -29,59 +80,30 @@ public class OAuthService {
                 .build();
 
         Request request = new Request.Builder()
-                .url("https://discordapp.com/api/oauth2/token")
+                .url(baseUrl + "/oauth2/token")
                 .addHeader("Content-Type", "application/x-www-form-urlencoded")
                 .post(formBody)
                 .build();
 
-        OAuthAccessTokenResponse accessTokenResponse = null;
-        try (Response response = httpClient.newCall(request).execute()) {
-            String responseBody = response.body().string();
-            if (response.isSuccessful()) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                accessTokenResponse = objectMapper.readValue(responseBody, OAuthAccessTokenResponse.class);
-            }
-            else {
-                throw new IllegalStateException("Failed exchange returned access token response.");
-            }
-        } catch (Exception e) {
-            logger.catching(e);
-            return null;
-        }
-
-        return accessTokenResponse;
+        return call(request, ACCESS_TOKEN_READER::readValue);
     }
 
-    public String getDiscordId(String accessToken) {
+    public CompletableFuture<String> getDiscordIdAsync(String accessToken) {
         Request request = new Request.Builder()
-                .url("https://discordapp.com/api/users/@me")
+                .url(baseUrl + "/users/@me")
                 .addHeader("Authorization", "Bearer " + accessToken)
                 .build();
 
-        try (Response response = httpClient.newCall(request).execute()){
-            String responseBody = response.body().string();
-            if (response.isSuccessful()) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                DiscordUser user = objectMapper.readValue(responseBody, DiscordUser.class);
-                if (user.getError() != null || user.getErrorDescription() != null) {
-                    throw new IllegalStateException(user.getErrorDescription());
-                }
-                if (user != null) {
-                    return user.getId();
-                }
-            }
-            else {
-                throw new IllegalStateException("Failed ID lookup returned user object response: " + responseBody);
+        return call(request, responseBody -> {
+            DiscordUser user = USER_READER.readValue(responseBody);
+            if (user.getError() != null || user.getErrorDescription() != null) {
+                throw new IllegalStateException(user.getErrorDescription());
             }
-        } catch (Exception e) {
-            logger.catching(e);
-            return null;
-        }
-
-        return null;
+            return user.getId();
+        });
     }
 
-    public OAuthAccessTokenResponse refreshAccessToken(String refreshToken) {
+    public CompletableFuture<OAuthAccessTokenResponse> refreshAccessTokenAsync(String refreshToken) {
         RequestBody formBody = new FormBody.Builder()
                 .add("client_id", CLIENT_ID)
                 .add("client_secret", CLIENT_SECRET)
@@ -92,23 +114,101 @@ public class OAuthService {
                 .build();
 
         Request request = new Request.Builder()
-                .url("https://discordapp.com/api/oauth2/token")
+                .url(baseUrl + "/oauth2/token")
                 .addHeader("Content-Type", "application/x-www-form-urlencoded")
                 .post(formBody)
                 .build();
 
-        OAuthAccessTokenResponse accessTokenResponse = null;
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (response.isSuccessful()) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                String responseBody = response.body().string();
-                accessTokenResponse = objectMapper.readValue(responseBody, OAuthAccessTokenResponse.class);
+        return call(request, ACCESS_TOKEN_READER::readValue);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long count = calls.get();
+        stats.put("calls", count);
+        stats.put("failures", failures.get());
+        stats.put("timeouts", timeouts.get());
+        stats.put("rejected", rejected.get());
+        stats.put("latencyMeanMillis", count == 0 ? 0.0 : latencyTotalNanos.get() / (double) count / 1000000);
+        stats.put("latencyMaxMillis", latencyMaxNanos.get() / 1000000.0);
+        stats.put("circuit", circuitBreaker.getState().name());
+        stats.put("circuitOpened", circuitBreaker.getOpenedCount());
+        stats.put("connections", httpClient.connectionPool().connectionCount());
+        stats.put("idleConnections", httpClient.connectionPool().idleConnectionCount());
+        return stats;
+    }
+
+    private <T> CompletableFuture<T> call(Request request, ResponseParser<T> parser) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (!circuitBreaker.allowRequest()) {
+            rejected.incrementAndGet();
+            future.completeExceptionally(new IllegalStateException("Discord is unavailable; request to " + request.url().encodedPath() + " was not attempted."));
+            return future;
+        }
+
+        long start = System.nanoTime();
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                recordLatency(start);
+                failures.incrementAndGet();
+                if (e instanceof InterruptedIOException) {
+                    timeouts.incrementAndGet();
+                }
+                circuitBreaker.recordFailure();
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                String responseBody;
+                try (ResponseBody body = response.body()) {
+                    responseBody = body != null ? body.string() : "";
+                } catch (IOException e) {
+                    onFailure(call, e);
+                    return;
+                }
+                recordLatency(start);
+
+                if (response.code() >= 500 || response.code() == 429) {
+                    failures.incrementAndGet();
+                    circuitBreaker.recordFailure();
+                }
+                else circuitBreaker.recordSuccess();
+
+                try {
+                    if (response.isSuccessful()) {
+                        future.complete(parser.parse(responseBody));
+                    }
+                    else throw new IllegalStateException("Discord request to " + request.url().encodedPath() + " failed with status " + response.code() + ": " + responseBody);
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
             }
-        } catch (Exception e) {
-            logger.catching(e);
+        });
+        return future;
+    }
+
+    private void recordLatency(long start) {
+        long nanos = System.nanoTime() - start;
+        calls.incrementAndGet();
+        latencyTotalNanos.addAndGet(nanos);
+        latencyMaxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            logger.warn("Discord request failed: {}", e.getCause().toString());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return null;
         }
+    }
 
-        return accessTokenResponse;
+    private interface ResponseParser<T> {
+        T parse(String responseBody) throws IOException;
     }
 }
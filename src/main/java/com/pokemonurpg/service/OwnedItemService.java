@@ -15,19 +15,28 @@ public class OwnedItemService {
     private ItemRepository itemRepository;
     private OwnedItemRepository ownedItemRepository;
     private LogService logService;
+    private LedgerService ledgerService;
 
     @Autowired
-    public OwnedItemService(ItemRepository itemRepository, OwnedItemRepository ownedItemRepository, LogService logService) {
+    public OwnedItemService(ItemRepository itemRepository, OwnedItemRepository ownedItemRepository, LogService logService,
+                            LedgerService ledgerService) {
         this.itemRepository = itemRepository;
         this.ownedItemRepository = ownedItemRepository;
         this.logService = logService;
+        this.ledgerService = ledgerService;
     }
 
-    public void create(Member member, OwnedItemDto input) {
+    public int findQuantity(int trainerDbid, int itemDbid) {
+        OwnedItem ownedItem = ownedItemRepository.findByIdTrainerDbidAndIdItemDbid(trainerDbid, itemDbid);
+        return ownedItem != null ? ownedItem.getQuantity() : 0;
+    }
+
+    public void create(String updater, Member member, OwnedItemDto input) {
         Item item = itemRepository.findByName(input.getName());
         if (item != null) {
             OwnedItem ownedItem = new OwnedItem(member.getDbid(), item.getDbid(), input.getQuantity());
             ownedItemRepository.save(ownedItem);
+            ledgerService.record(member.getDbid(), item.getDbid(), input.getQuantity(), input.getQuantity(), LedgerService.REASON_STATS_UPDATE, updater);
             logService.log(member, member.getUsername() + " gained " + input.getQuantity() + "x " + input.getName());
         }
     }
@@ -45,6 +54,7 @@ public class OwnedItemService {
             }
 
             int difference = input.getQuantity() - current;
+            ledgerService.record(member.getDbid(), existingRecord.getId().getItemDbid(), difference, input.getQuantity(), LedgerService.REASON_STATS_UPDATE, updater);
             if (difference > 0) {
                 logService.log(member, updater + " added " + difference + "x " + input.getName());
             } else if (difference < 0) {
@@ -58,11 +68,11 @@ public class OwnedItemService {
             for (OwnedItemDto record : input) {
                 Item item = itemRepository.findByName(record.getName());
 
-                OwnedItem existingRecord = ownedItemRepository.findByIdTrainerDbidAndIdItemDbid(member.getDbid(), item.getDbid());
+                OwnedItem existingRecord = ownedItemRepository.findForUpdate(member.getDbid(), item.getDbid());
                 if (existingRecord != null) {
                     update(updater, existingRecord, record);
                 } else if (record.getQuantity() > 0) {
-                    create(member, record);
+                    create(updater, member, record);
                 }
             }
         }
@@ -14,10 +14,12 @@ import java.util.List;
 public class PermissionService {
 
     private PermissionRepository permissionRepository;
+    private AclService aclService;
 
     @Autowired
-    public PermissionService(PermissionRepository permissionRepository) {
+    public PermissionService(PermissionRepository permissionRepository, AclService aclService) {
         this.permissionRepository = permissionRepository;
+        this.aclService = aclService;
     }
 
     public List<Object> findAll() {
@@ -41,6 +43,7 @@ public class PermissionService {
         if (!errors.hasErrors()) {
             Permission permission = new Permission(input);
             permissionRepository.save(permission);
+            aclService.invalidatePermissions();
         }
         return errors;
     }
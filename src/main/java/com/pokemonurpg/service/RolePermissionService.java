@@ -17,11 +17,13 @@ public class RolePermissionService {
 
     private RolePermissionRepository rolePermissionRepository;
     private PermissionRepository permissionRepository;
+    private AclService aclService;
 
     @Autowired
-    public RolePermissionService(RolePermissionRepository rolePermissionRepository, PermissionRepository permissionRepository) {
+    public RolePermissionService(RolePermissionRepository rolePermissionRepository, PermissionRepository permissionRepository, AclService aclService) {
         this.rolePermissionRepository = rolePermissionRepository;
         this.permissionRepository = permissionRepository;
+        this.aclService = aclService;
     }
 
     public void create(int roleDbid, RolePermissionInputDto input) {
@@ -39,6 +41,7 @@ public class RolePermissionService {
                 create(roleDbid, record);
             }
         }
+        aclService.invalidateAll();
     }
 
     public void update(RolePermission existingRecord, RolePermissionInputDto input) {
@@ -62,6 +65,7 @@ public class RolePermissionService {
                     create(roleDbid, record);
                 }
             }
+            aclService.invalidateAll();
         }
     }
 }
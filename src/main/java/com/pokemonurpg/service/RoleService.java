@@ -25,13 +25,17 @@ public class RoleService {
     private RolePermissionService rolePermissionService;
     private RolePermissionRepository rolePermissionRepository;
     private PermissionRepository permissionRepository;
+    private AclService aclService;
+    private NameIndex nameIndex;
 
     @Autowired
-    public RoleService(RoleRepository roleRepository, RolePermissionService rolePermissionService, RolePermissionRepository rolePermissionRepository, PermissionRepository permissionRepository) {
+    public RoleService(RoleRepository roleRepository, RolePermissionService rolePermissionService, RolePermissionRepository rolePermissionRepository, PermissionRepository permissionRepository, AclService aclService) {
         this.roleRepository = roleRepository;
         this.rolePermissionService = rolePermissionService;
         this.rolePermissionRepository = rolePermissionRepository;
         this.permissionRepository = permissionRepository;
+        this.aclService = aclService;
+        this.nameIndex = new NameIndex(roleRepository::findAllNames);
     }
 
     public List<Object> findAll() {
@@ -49,9 +53,9 @@ public class RoleService {
             dto = new RoleDto(role);
         }
         else {
-            List<Role> results = roleRepository.findByNameStartingWith(name);
-            if (!results.isEmpty()) {
-                role = results.get(0);
+            String match = nameIndex.findFirst(name);
+            if (match != null) {
+                role = roleRepository.findByName(match);
                 dto = new RoleDto(role);
             }
             else return null;
@@ -62,6 +66,10 @@ public class RoleService {
         return dto;
     }
 
+    public List<String> suggest(String prefix, int limit) {
+        return nameIndex.suggest(prefix, limit);
+    }
+
     public List<String> buildDtoPermissions(int roleDbid) {
         List<RolePermission> permissions = rolePermissionRepository.findByIdRoleDbid(roleDbid);
         List<String> dtoPermissions = new ArrayList<>();
@@ -80,6 +88,7 @@ public class RoleService {
         if (!errors.hasErrors()) {
             Role role = new Role(input);
             roleRepository.save(role);
+            nameIndex.add(role.getName());
 
             Role savedRole = roleRepository.findByName(input.getName());
             int dbid = savedRole.getDbid();
@@ -98,9 +107,11 @@ public class RoleService {
             }
 
             roleRepository.save(existingRole);
+            nameIndex.invalidate();
             int dbid = existingRole.getDbid();
 
             rolePermissionService.updateAll(dbid, input.getPermissions());
+            aclService.invalidateAll();
         }
         return errors;
     }
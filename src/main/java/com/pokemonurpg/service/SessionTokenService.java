@@ -0,0 +1,88 @@
+package com.pokemonurpg.service;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.BitSet;
+
+@Service
+public class SessionTokenService {
+
+    private static final String VERSION = "1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final boolean enabled;
+    private final long ttlSeconds;
+    private final HashFunction hmac;
+
+    @Autowired
+    public SessionTokenService(@Value("${urpg.session-token.enabled:false}") boolean enabled,
+                               @Value("${urpg.session-token.ttl-seconds:900}") long ttlSeconds,
+                               @Value("${urpg.session-token.secret:}") String secret) {
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+        this.hmac = Hashing.hmacSha256(secret.isEmpty() ? randomKey() : secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String issue(AuthenticatedMember member) {
+        long expiry = System.currentTimeMillis() / 1000 + ttlSeconds;
+        String payload = String.join("|", VERSION, Integer.toString(member.getDbid()), Long.toString(expiry),
+                ENCODER.encodeToString(member.getPermissions().toByteArray()), member.getUsername());
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + sign(encodedPayload);
+    }
+
+    public AuthenticatedMember verify(String token) {
+        if (!enabled || token == null) {
+            return null;
+        }
+        int separator = token.indexOf('.');
+        if (separator < 0) {
+            return null;
+        }
+
+        String encodedPayload = token.substring(0, separator);
+        byte[] expected = sign(encodedPayload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(separator + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+
+        try {
+            String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\\|", 5);
+            if (fields.length != 5 || !VERSION.equals(fields[0])) {
+                return null;
+            }
+            long expiry = Long.parseLong(fields[2]);
+            if (System.currentTimeMillis() / 1000 >= expiry) {
+                return null;
+            }
+            MemberPermissions permissions = new MemberPermissions(BitSet.valueOf(DECODER.decode(fields[3])), false);
+            return new AuthenticatedMember(Integer.parseInt(fields[1]), fields[4], permissions);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String sign(String encodedPayload) {
+        return ENCODER.encodeToString(hmac.hashString(encodedPayload, StandardCharsets.US_ASCII).asBytes());
+    }
+
+    private static byte[] randomKey() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+}
@@ -3,15 +3,15 @@ package com.pokemonurpg.service;
 import com.pokemonurpg.dto.species.input.SpeciesAbilityInputDto;
 import com.pokemonurpg.dto.species.response.SpeciesAbilityDto;
 import com.pokemonurpg.object.Ability;
+import com.pokemonurpg.object.Species;
 import com.pokemonurpg.object.SpeciesAbility;
 import com.pokemonurpg.object.SpeciesAbilityKey;
 import com.pokemonurpg.repository.SpeciesAbilityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 public class SpeciesAbilityService {
@@ -49,12 +49,31 @@ public class SpeciesAbilityService {
         speciesAbilityRepository.save(speciesAbility);
     }
 
-    public void createAll(int speciesDbid, List<SpeciesAbilityInputDto> input) {
+    public void createAll(Species species, List<SpeciesAbilityInputDto> input) {
+        if (input != null) {
+            Map<String, Ability> abilities = findAbilitiesByName(input);
+            Map<Integer, SpeciesAbility> records = new LinkedHashMap<>();
+            for (SpeciesAbilityInputDto record : input) {
+                Ability ability = abilities.get(record.getName());
+                if (!record.isDeleted() && ability != null) {
+                    SpeciesAbility speciesAbility = new SpeciesAbility(species.getDbid(), ability.getDbid(), record.isHidden());
+                    speciesAbility.setSpecies(species);
+                    speciesAbility.setAbility(ability);
+                    records.put(ability.getDbid(), speciesAbility);
+                }
+            }
+            speciesAbilityRepository.insertAll(records.values());
+        }
+    }
+
+    public Map<String, Ability> findAbilitiesByName(List<SpeciesAbilityInputDto> input) {
+        Set<String> names = new HashSet<>();
         for (SpeciesAbilityInputDto record : input) {
-            if (!record.isDeleted()) {
-                create(speciesDbid, record);
+            if (record.getName() != null) {
+                names.add(record.getName());
             }
         }
+        return abilityService.findByNameIn(names);
     }
 
     public void update(SpeciesAbility existingRecord, SpeciesAbilityInputDto input) {
@@ -69,18 +88,60 @@ public class SpeciesAbilityService {
         }
     }
 
-    public void updateAll(int speciesDbid, List<SpeciesAbilityInputDto> input) {
+    @Transactional
+    public void updateAll(Species species, List<SpeciesAbilityInputDto> input) {
         if (input != null) {
+            int speciesDbid = species.getDbid();
+            Map<Integer, SpeciesAbility> existingRecords = new HashMap<>();
+            for (SpeciesAbility existingRecord : speciesAbilityRepository.findByIdSpeciesDbid(speciesDbid)) {
+                existingRecords.put(existingRecord.internalGetId().getAbilityDbid(), existingRecord);
+            }
+
+            Map<String, Ability> abilities = findAbilitiesByName(input);
+            Map<Integer, SpeciesAbility> inserts = new LinkedHashMap<>();
+            Map<Integer, SpeciesAbility> updates = new LinkedHashMap<>();
+            Set<Integer> deletes = new HashSet<>();
             for (SpeciesAbilityInputDto record : input) {
-                Ability ability = abilityService.findByName(record.getName());
+                Ability ability = abilities.get(record.getName());
+                if (ability == null) {
+                    continue;
+                }
 
-                SpeciesAbility existingRecord = speciesAbilityRepository.findByIdSpeciesDbidAndIdAbilityDbid(speciesDbid, ability.getDbid());
-                if (existingRecord != null) {
-                    update(existingRecord, record);
-                } else if (!record.isDeleted()){
-                    create(speciesDbid, record);
+                int abilityDbid = ability.getDbid();
+                SpeciesAbility existingRecord = existingRecords.get(abilityDbid);
+                if (existingRecord == null) {
+                    if (record.isDeleted()) {
+                        inserts.remove(abilityDbid);
+                    }
+                    else {
+                        SpeciesAbility speciesAbility = new SpeciesAbility(speciesDbid, abilityDbid, record.isHidden());
+                        speciesAbility.setSpecies(species);
+                        speciesAbility.setAbility(ability);
+                        inserts.put(abilityDbid, speciesAbility);
+                    }
+                }
+                else if (record.isDeleted()) {
+                    deletes.add(abilityDbid);
+                    updates.remove(abilityDbid);
+                }
+                else {
+                    deletes.remove(abilityDbid);
+                    if (record.isHidden() != null && !record.isHidden().equals(existingRecord.getHidden())) {
+                        existingRecord.setHidden(record.isHidden());
+                        updates.put(abilityDbid, existingRecord);
+                    }
                 }
             }
+
+            if (!deletes.isEmpty()) {
+                speciesAbilityRepository.deleteBySpeciesDbidAndAbilityDbidIn(speciesDbid, deletes);
+            }
+            if (!updates.isEmpty()) {
+                speciesAbilityRepository.saveAll(updates.values());
+            }
+            if (!inserts.isEmpty()) {
+                speciesAbilityRepository.insertAll(inserts.values());
+            }
         }
     }
 }
@@ -3,14 +3,15 @@ package com.pokemonurpg.service;
 import com.pokemonurpg.dto.species.input.SpeciesAttackInputDto;
 import com.pokemonurpg.dto.species.response.SpeciesAttackDto;
 import com.pokemonurpg.object.Attack;
+import com.pokemonurpg.object.Species;
 import com.pokemonurpg.object.SpeciesAttack;
 import com.pokemonurpg.repository.AttackRepository;
 import com.pokemonurpg.repository.SpeciesAttackRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Service
 public class SpeciesAttackService {
@@ -47,12 +48,38 @@ public class SpeciesAttackService {
         }
     }
 
-    public void createAll(int speciesDbid, List<SpeciesAttackInputDto> input) {
+    public void createAll(Species species, List<SpeciesAttackInputDto> input) {
+        if (input != null) {
+            Map<String, Attack> attacks = findAttacksByName(input);
+            Map<Integer, SpeciesAttack> records = new LinkedHashMap<>();
+            for (SpeciesAttackInputDto record : input) {
+                Attack attack = attacks.get(record.getName());
+                if (!record.isDeleted() && attack != null) {
+                    SpeciesAttack speciesAttack = new SpeciesAttack(species.getDbid(), attack.getDbid(), record.getMethod(), record.getGeneration());
+                    speciesAttack.setSpecies(species);
+                    speciesAttack.setAttack(attack);
+                    records.put(attack.getDbid(), speciesAttack);
+                }
+            }
+            speciesAttackRepository.insertAll(records.values());
+        }
+    }
+
+    public Map<String, Attack> findAttacksByName(List<SpeciesAttackInputDto> input) {
+        Set<String> names = new HashSet<>();
         for (SpeciesAttackInputDto record : input) {
-            if (!record.isDeleted()) {
-                create(speciesDbid, record);
+            if (record.getName() != null) {
+                names.add(record.getName());
+            }
+        }
+
+        Map<String, Attack> attacks = new HashMap<>();
+        if (!names.isEmpty()) {
+            for (Attack attack : attackRepository.findByNameIn(names)) {
+                attacks.put(attack.getName(), attack);
             }
         }
+        return attacks;
     }
 
     public void update(SpeciesAttack existingRecord, SpeciesAttackInputDto input) {
@@ -70,18 +97,72 @@ public class SpeciesAttackService {
         }
     }
 
-    public void updateAll(int speciesDbid, List<SpeciesAttackInputDto> input) {
+    @Transactional
+    public void updateAll(Species species, List<SpeciesAttackInputDto> input) {
         if (input != null) {
+            int speciesDbid = species.getDbid();
+            Map<Integer, SpeciesAttack> existingRecords = new HashMap<>();
+            for (SpeciesAttack existingRecord : speciesAttackRepository.findByIdSpeciesDbid(speciesDbid)) {
+                existingRecords.put(existingRecord.internalGetId().getAttackDbid(), existingRecord);
+            }
+
+            Map<String, Attack> attacks = findAttacksByName(input);
+            Map<Integer, SpeciesAttack> inserts = new LinkedHashMap<>();
+            Map<Integer, SpeciesAttack> updates = new LinkedHashMap<>();
+            Set<Integer> deletes = new HashSet<>();
             for (SpeciesAttackInputDto record : input) {
-                Attack attack = attackRepository.findByName(record.getName());
+                Attack attack = attacks.get(record.getName());
+                if (attack == null) {
+                    continue;
+                }
 
-                SpeciesAttack existingRecord = speciesAttackRepository.findByIdSpeciesDbidAndIdAttackDbid(speciesDbid, attack.getDbid());
-                if (existingRecord != null) {
-                    update(existingRecord, record);
-                } else if (!record.isDeleted()) {
-                    create(speciesDbid, record);
+                int attackDbid = attack.getDbid();
+                SpeciesAttack existingRecord = existingRecords.get(attackDbid);
+                if (existingRecord == null) {
+                    if (record.isDeleted()) {
+                        inserts.remove(attackDbid);
+                    }
+                    else {
+                        SpeciesAttack speciesAttack = new SpeciesAttack(speciesDbid, attackDbid, record.getMethod(), record.getGeneration());
+                        speciesAttack.setSpecies(species);
+                        speciesAttack.setAttack(attack);
+                        inserts.put(attackDbid, speciesAttack);
+                    }
+                }
+                else if (record.isDeleted()) {
+                    deletes.add(attackDbid);
+                    updates.remove(attackDbid);
+                }
+                else {
+                    deletes.remove(attackDbid);
+                    if (applyChanges(existingRecord, record)) {
+                        updates.put(attackDbid, existingRecord);
+                    }
                 }
             }
+
+            if (!deletes.isEmpty()) {
+                speciesAttackRepository.deleteBySpeciesDbidAndAttackDbidIn(speciesDbid, deletes);
+            }
+            if (!updates.isEmpty()) {
+                speciesAttackRepository.saveAll(updates.values());
+            }
+            if (!inserts.isEmpty()) {
+                speciesAttackRepository.insertAll(inserts.values());
+            }
+        }
+    }
+
+    public boolean applyChanges(SpeciesAttack existingRecord, SpeciesAttackInputDto input) {
+        boolean changed = false;
+        if (input.getMethod() != null && !input.getMethod().equals(existingRecord.getMethod())) {
+            existingRecord.setMethod(input.getMethod());
+            changed = true;
+        }
+        if (input.getGeneration() != null && !input.getGeneration().equals(existingRecord.getGeneration())) {
+            existingRecord.setGeneration(input.getGeneration());
+            changed = true;
         }
+        return changed;
     }
 }
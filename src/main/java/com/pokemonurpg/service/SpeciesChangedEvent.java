@@ -0,0 +1,40 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.service.SpeciesPageDependencies.Kind;
+
+public class SpeciesChangedEvent {
+
+    private final Kind kind;
+    private final int dbid;
+    private final boolean all;
+
+    private SpeciesChangedEvent(Kind kind, int dbid, boolean all) {
+        this.kind = kind;
+        this.dbid = dbid;
+        this.all = all;
+    }
+
+    public static SpeciesChangedEvent of(int speciesDbid) {
+        return of(Kind.SPECIES, speciesDbid);
+    }
+
+    public static SpeciesChangedEvent of(Kind kind, int dbid) {
+        return new SpeciesChangedEvent(kind, dbid, false);
+    }
+
+    public static SpeciesChangedEvent all() {
+        return new SpeciesChangedEvent(null, 0, true);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public int getDbid() {
+        return dbid;
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+}
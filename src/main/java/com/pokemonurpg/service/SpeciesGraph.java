@@ -0,0 +1,180 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.Evolution;
+import com.pokemonurpg.object.MegaEvolution;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class SpeciesGraph {
+
+    public static final int NONE = -1;
+    static final int MAX_EVOLUTION_DEPTH = 3;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final int[] preEvolutions;
+    private final String[] evolutionMethods;
+    private final int[] evolutionOffsets;
+    private final int[] evolutionTargets;
+
+    private final int[] megaOriginals;
+    private final String[] megaStones;
+    private final int[] megaOffsets;
+    private final int[] megaTargets;
+
+    private final int[] dexnos;
+    private final int[] dexOffsets;
+    private final int[] dexMembers;
+
+    public SpeciesGraph(List<Object[]> speciesDexnos, List<Evolution> evolutions, List<MegaEvolution> megaEvolutions) {
+        int maxDbid = 0;
+        int maxDexno = 0;
+        for (Object[] row : speciesDexnos) {
+            maxDbid = Math.max(maxDbid, ((Number) row[0]).intValue());
+            maxDexno = Math.max(maxDexno, ((Number) row[1]).intValue());
+        }
+        for (Evolution evolution : evolutions) {
+            maxDbid = Math.max(maxDbid, Math.max(evolution.getId().getEvolutionDbid(), evolution.getId().getPreEvolutionDbid()));
+        }
+        for (MegaEvolution mega : megaEvolutions) {
+            maxDbid = Math.max(maxDbid, Math.max(mega.getId().getMegaEvolutionDbid(), mega.getId().getOriginalDbid()));
+        }
+        int size = maxDbid + 1;
+
+        preEvolutions = new int[size];
+        evolutionMethods = new String[size];
+        Arrays.fill(preEvolutions, NONE);
+        int[] evolutionSources = new int[evolutions.size()];
+        int[] evolutionEdges = new int[evolutions.size()];
+        int evolutionCount = 0;
+        for (Evolution evolution : evolutions) {
+            int evoDbid = evolution.getId().getEvolutionDbid();
+            int prevoDbid = evolution.getId().getPreEvolutionDbid();
+            if (evoDbid > 0 && prevoDbid > 0) {
+                preEvolutions[evoDbid] = prevoDbid;
+                evolutionMethods[evoDbid] = evolution.getMethod();
+                evolutionSources[evolutionCount] = prevoDbid;
+                evolutionEdges[evolutionCount] = evoDbid;
+                evolutionCount++;
+            }
+        }
+        evolutionOffsets = new int[size + 1];
+        evolutionTargets = new int[evolutionCount];
+        fill(evolutionOffsets, evolutionTargets, evolutionSources, evolutionEdges, evolutionCount);
+
+        megaOriginals = new int[size];
+        megaStones = new String[size];
+        Arrays.fill(megaOriginals, NONE);
+        int[] megaSources = new int[megaEvolutions.size()];
+        int[] megaEdges = new int[megaEvolutions.size()];
+        int megaCount = 0;
+        for (MegaEvolution mega : megaEvolutions) {
+            int megaDbid = mega.getId().getMegaEvolutionDbid();
+            int originalDbid = mega.getId().getOriginalDbid();
+            if (megaDbid > 0 && originalDbid > 0) {
+                megaOriginals[megaDbid] = originalDbid;
+                megaStones[megaDbid] = mega.getMegaStone();
+                megaSources[megaCount] = originalDbid;
+                megaEdges[megaCount] = megaDbid;
+                megaCount++;
+            }
+        }
+        megaOffsets = new int[size + 1];
+        megaTargets = new int[megaCount];
+        fill(megaOffsets, megaTargets, megaSources, megaEdges, megaCount);
+
+        dexnos = new int[size];
+        Arrays.fill(dexnos, NONE);
+        int[] dexSources = new int[speciesDexnos.size()];
+        int[] dexEdges = new int[speciesDexnos.size()];
+        int dexCount = 0;
+        for (Object[] row : speciesDexnos) {
+            int dbid = ((Number) row[0]).intValue();
+            int dexno = ((Number) row[1]).intValue();
+            if (dbid >= 0) {
+                dexnos[dbid] = dexno;
+            }
+            if (dexno > 0) {
+                dexSources[dexCount] = dexno;
+                dexEdges[dexCount] = dbid;
+                dexCount++;
+            }
+        }
+        dexOffsets = new int[maxDexno + 2];
+        dexMembers = new int[dexCount];
+        fill(dexOffsets, dexMembers, dexSources, dexEdges, dexCount);
+    }
+
+    private static void fill(int[] offsets, int[] targets, int[] sources, int[] edges, int count) {
+        for (int i = 0; i < count; i++) {
+            offsets[sources[i] + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int i = 0; i < count; i++) {
+            targets[next[sources[i]]++] = edges[i];
+        }
+    }
+
+    private static int[] slice(int[] offsets, int[] targets, int index) {
+        if (index < 0 || index >= offsets.length - 1 || offsets[index] == offsets[index + 1]) {
+            return EMPTY;
+        }
+        return Arrays.copyOfRange(targets, offsets[index], offsets[index + 1]);
+    }
+
+    private boolean isIndexed(int dbid) {
+        return dbid >= 0 && dbid < preEvolutions.length;
+    }
+
+    public int getPreEvolution(int dbid) {
+        return isIndexed(dbid) ? preEvolutions[dbid] : NONE;
+    }
+
+    public String getEvolutionMethod(int dbid) {
+        return isIndexed(dbid) ? evolutionMethods[dbid] : null;
+    }
+
+    public int[] getEvolutions(int dbid) {
+        return slice(evolutionOffsets, evolutionTargets, dbid);
+    }
+
+    public int getBasicForm(int dbid) {
+        int basic = dbid;
+        for (int depth = 0; depth < MAX_EVOLUTION_DEPTH; depth++) {
+            int prevo = getPreEvolution(basic);
+            if (prevo == NONE || prevo == basic) {
+                break;
+            }
+            basic = prevo;
+        }
+        return basic;
+    }
+
+    public boolean isMegaEvolution(int dbid) {
+        return getMegaOriginal(dbid) != NONE;
+    }
+
+    public int getMegaOriginal(int dbid) {
+        return isIndexed(dbid) ? megaOriginals[dbid] : NONE;
+    }
+
+    public String getMegaStone(int megaDbid) {
+        return isIndexed(megaDbid) ? megaStones[megaDbid] : null;
+    }
+
+    public int[] getMegaEvolutions(int originalDbid) {
+        return slice(megaOffsets, megaTargets, originalDbid);
+    }
+
+    public int getDexno(int dbid) {
+        return isIndexed(dbid) ? dexnos[dbid] : NONE;
+    }
+
+    public int[] getSpeciesAtDex(int dexno) {
+        return slice(dexOffsets, dexMembers, dexno);
+    }
+}
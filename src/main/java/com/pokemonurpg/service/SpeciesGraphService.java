@@ -0,0 +1,44 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.repository.EvolutionRepository;
+import com.pokemonurpg.repository.MegaEvolutionRepository;
+import com.pokemonurpg.repository.SpeciesRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+
+@Service
+public class SpeciesGraphService {
+
+    private SpeciesRepository speciesRepository;
+    private EvolutionRepository evolutionRepository;
+    private MegaEvolutionRepository megaEvolutionRepository;
+
+    private volatile SpeciesGraph speciesGraph;
+
+    @Autowired
+    public SpeciesGraphService(SpeciesRepository speciesRepository, EvolutionRepository evolutionRepository, MegaEvolutionRepository megaEvolutionRepository) {
+        this.speciesRepository = speciesRepository;
+        this.evolutionRepository = evolutionRepository;
+        this.megaEvolutionRepository = megaEvolutionRepository;
+    }
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        speciesGraph = new SpeciesGraph(speciesRepository.findAllDbidsAndDexnos(), evolutionRepository.findAll(), megaEvolutionRepository.findAll());
+    }
+
+    public void requestRebuild() {
+        TransactionHooks.runAfterCommit(this, this::rebuild);
+    }
+
+    public SpeciesGraph getGraph() {
+        SpeciesGraph graph = speciesGraph;
+        if (graph == null) {
+            rebuild();
+            graph = speciesGraph;
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,125 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.*;
+
+import java.util.*;
+
+public class SpeciesPage {
+
+    private Species species;
+    private List<Species> speciesAtThisDex = new ArrayList<>();
+    private String alteredFormMethod;
+
+    private Map<Integer, Species> speciesByDbid = new HashMap<>();
+    private Map<Integer, List<SpeciesAttack>> attacks = new HashMap<>();
+    private Map<Integer, List<SpeciesAbility>> abilities = new HashMap<>();
+    private Map<Integer, List<CosmeticForm>> cosmeticForms = new HashMap<>();
+
+    private Map<Integer, Evolution> preEvolutions = new HashMap<>();
+    private Map<Integer, List<Evolution>> evolutions = new HashMap<>();
+    private Map<Integer, MegaEvolution> megaEvolvesFrom = new HashMap<>();
+    private Map<Integer, List<MegaEvolution>> megaEvolutions = new HashMap<>();
+
+    public SpeciesPage(Species species) {
+        this.species = species;
+        addSpecies(species);
+    }
+
+    public Species getSpecies() {
+        return species;
+    }
+
+    public List<Species> getSpeciesAtThisDex() {
+        return speciesAtThisDex;
+    }
+
+    public void setSpeciesAtThisDex(List<Species> speciesAtThisDex) {
+        this.speciesAtThisDex = speciesAtThisDex;
+    }
+
+    public String getAlteredFormMethod() {
+        return alteredFormMethod;
+    }
+
+    public void setAlteredFormMethod(String alteredFormMethod) {
+        this.alteredFormMethod = alteredFormMethod;
+    }
+
+    public Species getSpecies(int dbid) {
+        return speciesByDbid.get(dbid);
+    }
+
+    public boolean hasSpecies(int dbid) {
+        return speciesByDbid.containsKey(dbid);
+    }
+
+    public void addSpecies(Species species) {
+        if (species != null) {
+            speciesByDbid.put(species.getDbid(), species);
+        }
+    }
+
+    public Collection<Species> getAllSpecies() {
+        return speciesByDbid.values();
+    }
+
+    public List<SpeciesAttack> getAttacks(int dbid) {
+        return attacks.getOrDefault(dbid, Collections.emptyList());
+    }
+
+    public void addAttack(SpeciesAttack speciesAttack) {
+        attacks.computeIfAbsent(speciesAttack.internalGetId().getSpeciesDbid(), k -> new ArrayList<>()).add(speciesAttack);
+    }
+
+    public List<SpeciesAbility> getAbilities(int dbid) {
+        return abilities.getOrDefault(dbid, Collections.emptyList());
+    }
+
+    public void addAbility(SpeciesAbility speciesAbility) {
+        abilities.computeIfAbsent(speciesAbility.internalGetId().getSpeciesDbid(), k -> new ArrayList<>()).add(speciesAbility);
+    }
+
+    public List<CosmeticForm> getCosmeticForms(int dbid) {
+        return cosmeticForms.getOrDefault(dbid, Collections.emptyList());
+    }
+
+    public void addCosmeticForm(CosmeticForm cosmeticForm) {
+        cosmeticForms.computeIfAbsent(cosmeticForm.getId().getSpeciesDbid(), k -> new ArrayList<>()).add(cosmeticForm);
+    }
+
+    public Evolution getPreEvolution(int evolutionDbid) {
+        return preEvolutions.get(evolutionDbid);
+    }
+
+    public List<Evolution> getEvolutions(int preEvolutionDbid) {
+        return evolutions.getOrDefault(preEvolutionDbid, Collections.emptyList());
+    }
+
+    public void addPreEvolution(Evolution evolution) {
+        preEvolutions.put(evolution.getId().getEvolutionDbid(), evolution);
+    }
+
+    public void addEvolution(Evolution evolution) {
+        EvolutionKey key = evolution.getId();
+        preEvolutions.put(key.getEvolutionDbid(), evolution);
+        evolutions.computeIfAbsent(key.getPreEvolutionDbid(), k -> new ArrayList<>()).add(evolution);
+    }
+
+    public boolean isMegaEvolution(int dbid) {
+        return megaEvolvesFrom.containsKey(dbid);
+    }
+
+    public MegaEvolution getMegaEvolvesFrom(int megaEvolutionDbid) {
+        return megaEvolvesFrom.get(megaEvolutionDbid);
+    }
+
+    public List<MegaEvolution> getMegaEvolutions(int originalDbid) {
+        return megaEvolutions.getOrDefault(originalDbid, Collections.emptyList());
+    }
+
+    public void addMegaEvolution(MegaEvolution megaEvolution) {
+        MegaEvolutionKey key = megaEvolution.getId();
+        megaEvolvesFrom.put(key.getMegaEvolutionDbid(), megaEvolution);
+        megaEvolutions.computeIfAbsent(key.getOriginalDbid(), k -> new ArrayList<>()).add(megaEvolution);
+    }
+}
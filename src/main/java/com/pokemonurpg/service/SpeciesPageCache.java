@@ -0,0 +1,100 @@
+package com.pokemonurpg.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.pokemonurpg.dto.RawJsonDto;
+import com.pokemonurpg.service.SpeciesPageDependencies.Kind;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class SpeciesPageCache {
+
+    static final long MAXIMUM_SIZE = 2048;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Cache<Integer, RawJsonDto> pages = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .removalListener(notification -> {
+                if (notification.wasEvicted()) {
+                    evictions.incrementAndGet();
+                }
+            })
+            .build();
+
+    private final Map<Integer, SpeciesPageDependencies> dependencies = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Integer>> dependents = new ConcurrentHashMap<>();
+
+    public RawJsonDto get(int speciesDbid) {
+        RawJsonDto page = pages.getIfPresent(speciesDbid);
+        if (page != null) {
+            hits.incrementAndGet();
+        }
+        else misses.incrementAndGet();
+        return page;
+    }
+
+    public void put(int speciesDbid, RawJsonDto page, SpeciesPageDependencies pageDependencies) {
+        if (pageDependencies != null) {
+            track(speciesDbid, pageDependencies);
+        }
+        pages.put(speciesDbid, page);
+    }
+
+    public void putIfAbsent(int speciesDbid, RawJsonDto page, SpeciesPageDependencies pageDependencies) {
+        if (pages.asMap().putIfAbsent(speciesDbid, page) == null && pageDependencies != null) {
+            track(speciesDbid, pageDependencies);
+        }
+    }
+
+    public Set<Integer> findDependents(Kind kind, int dbid) {
+        Set<Integer> pageDbids = dependents.get(key(kind, dbid));
+        return pageDbids != null ? new HashSet<>(pageDbids) : Collections.emptySet();
+    }
+
+    public void invalidate(Collection<Integer> speciesDbids) {
+        pages.invalidateAll(speciesDbids);
+        invalidations.addAndGet(speciesDbids.size());
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("size", pages.size());
+        stats.put("tracked", (long) dependencies.size());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private synchronized void track(int speciesDbid, SpeciesPageDependencies pageDependencies) {
+        SpeciesPageDependencies previous = dependencies.put(speciesDbid, pageDependencies);
+        if (previous != null) {
+            for (Kind kind : Kind.values()) {
+                for (int dbid : previous.get(kind)) {
+                    Set<Integer> pageDbids = dependents.get(key(kind, dbid));
+                    if (pageDbids != null) {
+                        pageDbids.remove(speciesDbid);
+                    }
+                }
+            }
+        }
+        for (Kind kind : Kind.values()) {
+            for (int dbid : pageDependencies.get(kind)) {
+                dependents.computeIfAbsent(key(kind, dbid), k -> ConcurrentHashMap.newKeySet()).add(speciesDbid);
+            }
+        }
+    }
+
+    private static long key(Kind kind, int dbid) {
+        return ((long) kind.ordinal() << 32) | (dbid & 0xffffffffL);
+    }
+}
@@ -0,0 +1,80 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.*;
+
+import java.util.*;
+
+public class SpeciesPageDependencies {
+
+    public enum Kind { SPECIES, ATTACK, ABILITY, TYPE }
+
+    private final Map<Kind, Set<Integer>> dbids = new EnumMap<>(Kind.class);
+
+    public SpeciesPageDependencies() {
+        for (Kind kind : Kind.values()) {
+            dbids.put(kind, new TreeSet<>());
+        }
+    }
+
+    public static SpeciesPageDependencies from(SpeciesPage page) {
+        SpeciesPageDependencies dependencies = new SpeciesPageDependencies();
+        for (Species species : page.getAllSpecies()) {
+            dependencies.add(Kind.SPECIES, species.getDbid());
+            addType(dependencies, species.getType1());
+            addType(dependencies, species.getType2());
+            for (SpeciesAttack speciesAttack : page.getAttacks(species.getDbid())) {
+                dependencies.add(Kind.ATTACK, speciesAttack.getAttack().getDbid());
+                addType(dependencies, speciesAttack.getAttack().getType());
+            }
+            for (SpeciesAbility speciesAbility : page.getAbilities(species.getDbid())) {
+                dependencies.add(Kind.ABILITY, speciesAbility.getAbility().getDbid());
+            }
+        }
+        return dependencies;
+    }
+
+    private static void addType(SpeciesPageDependencies dependencies, Type type) {
+        if (type != null) {
+            dependencies.add(Kind.TYPE, type.getDbid());
+        }
+    }
+
+    public void add(Kind kind, int dbid) {
+        dbids.get(kind).add(dbid);
+    }
+
+    public Set<Integer> get(Kind kind) {
+        return Collections.unmodifiableSet(dbids.get(kind));
+    }
+
+    public String encode() {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Kind kind : Kind.values()) {
+            StringJoiner values = new StringJoiner(",", kind.ordinal() + ":", "");
+            for (Integer dbid : dbids.get(kind)) {
+                values.add(dbid.toString());
+            }
+            joiner.add(values.toString());
+        }
+        return joiner.toString();
+    }
+
+    public static SpeciesPageDependencies decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        SpeciesPageDependencies dependencies = new SpeciesPageDependencies();
+        Kind[] kinds = Kind.values();
+        for (String group : encoded.split("\\|")) {
+            int separator = group.indexOf(':');
+            Kind kind = kinds[Integer.parseInt(group.substring(0, separator))];
+            String values = group.substring(separator + 1);
+            if (!values.isEmpty()) {
+                for (String dbid : values.split(",")) {
+                    dependencies.add(kind, Integer.parseInt(dbid));
+                }
+            }
+        }
+        return dependencies;
+    }
+}
@@ -0,0 +1,137 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.*;
+import com.pokemonurpg.repository.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Service
+public class SpeciesPageLoader {
+
+    private SpeciesRepository speciesRepository;
+    private SpeciesAttackRepository speciesAttackRepository;
+    private SpeciesAbilityRepository speciesAbilityRepository;
+    private CosmeticFormRepository cosmeticFormRepository;
+    private SpeciesGraphService speciesGraphService;
+    private AlteredFormMethodService alteredFormMethodService;
+
+    @Autowired
+    public SpeciesPageLoader(SpeciesRepository speciesRepository, SpeciesAttackRepository speciesAttackRepository,
+                             SpeciesAbilityRepository speciesAbilityRepository, CosmeticFormRepository cosmeticFormRepository,
+                             SpeciesGraphService speciesGraphService, AlteredFormMethodService alteredFormMethodService) {
+        this.speciesRepository = speciesRepository;
+        this.speciesAttackRepository = speciesAttackRepository;
+        this.speciesAbilityRepository = speciesAbilityRepository;
+        this.cosmeticFormRepository = cosmeticFormRepository;
+        this.speciesGraphService = speciesGraphService;
+        this.alteredFormMethodService = alteredFormMethodService;
+    }
+
+    @Transactional(readOnly = true)
+    public SpeciesPage load(Species species) {
+        SpeciesPage page = new SpeciesPage(species);
+        SpeciesGraph graph = speciesGraphService.getGraph();
+
+        loadFormsAtThisDex(page);
+        page.setAlteredFormMethod(alteredFormMethodService.findByDexno(species.getDexno()));
+
+        Set<Integer> formDbids = new LinkedHashSet<>();
+        formDbids.add(species.getDbid());
+        for (Species form : page.getSpeciesAtThisDex()) {
+            formDbids.add(form.getDbid());
+        }
+
+        for (int formDbid : formDbids) {
+            loadMegaEvolutions(page, graph, formDbid);
+        }
+
+        Set<Integer> relatedDbids = new HashSet<>(loadEvolutionFamily(page, graph));
+        Set<Integer> abilityDbids = new LinkedHashSet<>(formDbids);
+        for (MegaEvolution mega : page.getMegaEvolutions(species.getDbid())) {
+            relatedDbids.add(mega.getId().getMegaEvolutionDbid());
+            abilityDbids.add(mega.getId().getMegaEvolutionDbid());
+        }
+        MegaEvolution megaEvolvesFrom = page.getMegaEvolvesFrom(species.getDbid());
+        if (megaEvolvesFrom != null) {
+            relatedDbids.add(megaEvolvesFrom.getId().getOriginalDbid());
+        }
+        loadMissingSpecies(page, relatedDbids);
+
+        for (SpeciesAttack speciesAttack : speciesAttackRepository.findByIdSpeciesDbidIn(formDbids)) {
+            page.addAttack(speciesAttack);
+        }
+        for (SpeciesAbility speciesAbility : speciesAbilityRepository.findByIdSpeciesDbidIn(abilityDbids)) {
+            page.addAbility(speciesAbility);
+        }
+        for (CosmeticForm cosmeticForm : cosmeticFormRepository.findByIdSpeciesDbidIn(formDbids)) {
+            page.addCosmeticForm(cosmeticForm);
+        }
+
+        return page;
+    }
+
+    private void loadFormsAtThisDex(SpeciesPage page) {
+        List<Species> speciesAtThisDex = speciesRepository.findByDexnoIn(Collections.singletonList(page.getSpecies().getDexno()));
+        for (Species species : speciesAtThisDex) {
+            page.addSpecies(species);
+        }
+        page.setSpeciesAtThisDex(speciesAtThisDex);
+    }
+
+    private void loadMegaEvolutions(SpeciesPage page, SpeciesGraph graph, int dbid) {
+        for (int megaDbid : graph.getMegaEvolutions(dbid)) {
+            page.addMegaEvolution(new MegaEvolution(megaDbid, dbid, graph.getMegaStone(megaDbid)));
+        }
+        int originalDbid = graph.getMegaOriginal(dbid);
+        if (originalDbid != SpeciesGraph.NONE) {
+            page.addMegaEvolution(new MegaEvolution(dbid, originalDbid, graph.getMegaStone(dbid)));
+        }
+    }
+
+    private Set<Integer> loadEvolutionFamily(SpeciesPage page, SpeciesGraph graph) {
+        Set<Integer> familyDbids = new HashSet<>();
+
+        int basicDbid = page.getSpecies().getDbid();
+        for (int depth = 0; depth < SpeciesGraph.MAX_EVOLUTION_DEPTH; depth++) {
+            int prevoDbid = graph.getPreEvolution(basicDbid);
+            if (prevoDbid == SpeciesGraph.NONE) {
+                break;
+            }
+            page.addPreEvolution(new Evolution(basicDbid, prevoDbid, graph.getEvolutionMethod(basicDbid)));
+            basicDbid = prevoDbid;
+            familyDbids.add(basicDbid);
+        }
+
+        List<Integer> stage = Collections.singletonList(basicDbid);
+        for (int depth = 1; depth < SpeciesGraph.MAX_EVOLUTION_DEPTH && !stage.isEmpty(); depth++) {
+            List<Integer> nextStage = new ArrayList<>();
+            for (int prevoDbid : stage) {
+                for (int evoDbid : graph.getEvolutions(prevoDbid)) {
+                    page.addEvolution(new Evolution(evoDbid, prevoDbid, graph.getEvolutionMethod(evoDbid)));
+                    nextStage.add(evoDbid);
+                }
+            }
+            familyDbids.addAll(nextStage);
+            stage = nextStage;
+        }
+
+        return familyDbids;
+    }
+
+    private void loadMissingSpecies(SpeciesPage page, Set<Integer> dbids) {
+        List<Integer> missing = new ArrayList<>();
+        for (Integer dbid : dbids) {
+            if (!page.hasSpecies(dbid)) {
+                missing.add(dbid);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Species species : speciesRepository.findByDbidIn(missing)) {
+                page.addSpecies(species);
+            }
+        }
+    }
+}
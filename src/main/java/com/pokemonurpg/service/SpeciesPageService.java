@@ -0,0 +1,257 @@
+package com.pokemonurpg.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.pokemonurpg.dto.RawJsonDto;
+import com.pokemonurpg.object.Species;
+import com.pokemonurpg.object.SpeciesPageRecord;
+import com.pokemonurpg.repository.SpeciesPageRecordRepository;
+import com.pokemonurpg.repository.SpeciesRepository;
+import com.pokemonurpg.service.SpeciesPageDependencies.Kind;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+@Service
+public class SpeciesPageService {
+
+    private static final Logger logger = LogManager.getLogger(SpeciesPageService.class);
+
+    private SpeciesService speciesService;
+    private SpeciesPageLoader speciesPageLoader;
+    private SpeciesPageCache speciesPageCache;
+    private SpeciesRepository speciesRepository;
+    private SpeciesPageRecordRepository speciesPageRecordRepository;
+    private SpeciesGraphService speciesGraphService;
+    private DexIndexService dexIndexService;
+    private ObjectMapper mapper;
+
+    private final SingleFlight<RawJsonDto> pageFlights = new SingleFlight<>();
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "species-page-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean warmedUp;
+
+    @Value("${urpg.species-page.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @Autowired
+    public SpeciesPageService(SpeciesService speciesService, SpeciesPageLoader speciesPageLoader, SpeciesPageCache speciesPageCache,
+                              SpeciesRepository speciesRepository, SpeciesPageRecordRepository speciesPageRecordRepository,
+                              SpeciesGraphService speciesGraphService, DexIndexService dexIndexService, ObjectMapper mapper) {
+        this.speciesService = speciesService;
+        this.speciesPageLoader = speciesPageLoader;
+        this.speciesPageCache = speciesPageCache;
+        this.speciesRepository = speciesRepository;
+        this.speciesPageRecordRepository = speciesPageRecordRepository;
+        this.speciesGraphService = speciesGraphService;
+        this.dexIndexService = dexIndexService;
+        this.mapper = mapper;
+    }
+
+    public RawJsonDto findByName(String name) {
+        return pageFlights.execute(name, () -> loadByName(name));
+    }
+
+    private RawJsonDto loadByName(String name) {
+        Integer dbid = speciesService.findDbidByName(name);
+        if (dbid == null) {
+            return null;
+        }
+        RawJsonDto page = speciesPageCache.get(dbid);
+        if (page == null) {
+            page = load(dbid);
+        }
+        return page;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpeciesChanged(SpeciesChangedEvent event) {
+        if (event.isAll() || (!warmedUp && event.getKind() != Kind.SPECIES)) {
+            markStale(speciesRepository.findAllDbids());
+            enqueue(Collections::emptySet);
+        }
+        else if (event.getKind() == Kind.SPECIES) {
+            Set<Integer> affected = new HashSet<>(speciesPageCache.findDependents(Kind.SPECIES, event.getDbid()));
+            affected.add(event.getDbid());
+            markStale(affected);
+            enqueue(() -> findAffectedSpecies(Collections.singleton(event.getDbid())));
+        }
+        else {
+            markStale(speciesPageCache.findDependents(event.getKind(), event.getDbid()));
+            enqueue(Collections::emptySet);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildExecutor.execute(this::initialize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    Set<Integer> findAffectedSpecies(Collection<Integer> dbids) {
+        SpeciesGraph graph = speciesGraphService.getGraph();
+        DexIndex dexIndex = dexIndexService.getIndex();
+
+        Set<Integer> affected = new LinkedHashSet<>();
+        for (int dbid : dbids) {
+            affected.add(dbid);
+
+            int basicDbid = graph.getBasicForm(dbid);
+            affected.add(basicDbid);
+            for (int evoDbid : graph.getEvolutions(basicDbid)) {
+                affected.add(evoDbid);
+                for (int finalDbid : graph.getEvolutions(evoDbid)) {
+                    affected.add(finalDbid);
+                }
+            }
+
+            int originalDbid = graph.getMegaOriginal(dbid);
+            if (originalDbid != SpeciesGraph.NONE) {
+                affected.add(originalDbid);
+                for (int megaDbid : graph.getMegaEvolutions(originalDbid)) {
+                    affected.add(megaDbid);
+                }
+            }
+            for (int megaDbid : graph.getMegaEvolutions(dbid)) {
+                affected.add(megaDbid);
+            }
+
+            int dexno = graph.getDexno(dbid);
+            for (int neighbourDex : new int[] { dexno, dexIndex.getPrevDex(dexno), dexIndex.getNextDex(dexno) }) {
+                for (int formDbid : graph.getSpeciesAtDex(neighbourDex)) {
+                    affected.add(formDbid);
+                }
+            }
+        }
+        return affected;
+    }
+
+    void initialize() {
+        try {
+            if (rebuildOnStartup) {
+                pending.addAll(speciesRepository.findAllDbids());
+            }
+            else warmUp();
+            drain();
+            warmedUp = true;
+        } catch (RuntimeException e) {
+            logger.catching(e);
+        }
+    }
+
+    private void warmUp() {
+        Set<Integer> missing = new HashSet<>(speciesRepository.findAllDbids());
+        for (SpeciesPageRecord record : speciesPageRecordRepository.findAll()) {
+            SpeciesPageDependencies dependencies = SpeciesPageDependencies.decode(record.getDependencies());
+            if (dependencies != null && missing.remove(record.getSpeciesDbid())) {
+                speciesPageCache.put(record.getSpeciesDbid(), new RawJsonDto(record.getJson()), dependencies);
+            }
+        }
+        pending.addAll(missing);
+    }
+
+    private void markStale(Collection<Integer> dbids) {
+        pending.addAll(dbids);
+        speciesPageCache.invalidate(dbids);
+    }
+
+    private void enqueue(Supplier<Collection<Integer>> dbids) {
+        rebuildExecutor.execute(() -> {
+            try {
+                markStale(dbids.get());
+                drain();
+            } catch (RuntimeException e) {
+                logger.catching(e);
+            }
+        });
+    }
+
+    private void drain() {
+        for (Integer dbid : new ArrayList<>(pending)) {
+            if (pending.remove(dbid)) {
+                try {
+                    rebuild(dbid);
+                } catch (RuntimeException e) {
+                    logger.catching(e);
+                }
+            }
+        }
+    }
+
+    private RawJsonDto load(int dbid) {
+        SpeciesPageRecord record = speciesPageRecordRepository.findBySpeciesDbid(dbid);
+        SpeciesPageDependencies dependencies = record != null ? SpeciesPageDependencies.decode(record.getDependencies()) : null;
+        if (dependencies == null) {
+            pending.remove(dbid);
+            return rebuild(dbid);
+        }
+        RawJsonDto page = new RawJsonDto(record.getJson());
+        speciesPageCache.putIfAbsent(dbid, page, dependencies);
+        return page;
+    }
+
+    RawJsonDto rebuild(int dbid) {
+        Species species = speciesRepository.findByDbid(dbid);
+        if (species == null) {
+            return null;
+        }
+
+        SpeciesPage speciesPage = speciesPageLoader.load(species);
+        SpeciesPageDependencies dependencies = SpeciesPageDependencies.from(speciesPage);
+        String json;
+        try {
+            json = mapper.writeValueAsString(speciesService.buildSpeciesDto(speciesPage));
+        } catch (JsonProcessingException e) {
+            logger.catching(e);
+            return null;
+        }
+        String hash = Hashing.sha256().hashString(json, StandardCharsets.UTF_8).toString();
+        RawJsonDto page = new RawJsonDto(json);
+        speciesPageCache.put(dbid, page, dependencies);
+
+        SpeciesPageRecord record = speciesPageRecordRepository.findBySpeciesDbid(dbid);
+        if (record == null) {
+            record = new SpeciesPageRecord(dbid);
+        }
+        else if (hash.equals(record.getHash()) && dependencies.encode().equals(record.getDependencies())) {
+            return page;
+        }
+        if (!hash.equals(record.getHash())) {
+            record.setVersion(record.getVersion() + 1);
+        }
+        record.setJson(json);
+        record.setHash(hash);
+        record.setDependencies(dependencies.encode());
+        record.setBuiltAt(new Date());
+        try {
+            speciesPageRecordRepository.save(record);
+        } catch (DataAccessException e) {
+            logger.warn("Could not store species page for dbid={}: {}", dbid, e.getMessage());
+        }
+        return page;
+    }
+}
@@ -8,7 +8,9 @@ import com.pokemonurpg.dto.species.response.*;
 import com.pokemonurpg.object.*;
 import com.pokemonurpg.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.Errors;
 import org.springframework.validation.MapBindingResult;
 
@@ -34,6 +36,12 @@ public class SpeciesService {
 
     private TypeMatchupService typeMatchupService;
 
+    private SpeciesPageLoader speciesPageLoader;
+    private SpeciesGraphService speciesGraphService;
+    private DexIndexService dexIndexService;
+    private ApplicationEventPublisher eventPublisher;
+    private NameIndex nameIndex;
+
     private TypeRepository typeRepository;
     private StoryRankRepository storyRankRepository;
     private ArtRankRepository artRankRepository;
@@ -47,7 +55,9 @@ public class SpeciesService {
                           EvolutionService evolutionService, MegaEvolutionService megaEvolutionService,
                           TypeMatchupService typeMatchupService, TypeRepository typeRepository,
                           StoryRankRepository storyRankRepository, ArtRankRepository artRankRepository,
-                          ParkRankRepository parkRankRepository, ParkLocationRepository parkLocationRepository) {
+                          ParkRankRepository parkRankRepository, ParkLocationRepository parkLocationRepository,
+                          SpeciesPageLoader speciesPageLoader, SpeciesGraphService speciesGraphService, DexIndexService dexIndexService,
+                          ApplicationEventPublisher eventPublisher) {
         this.speciesRepository = speciesRepository;
         this.speciesAttackService = speciesAttackService;
         this.attackRepository = attackRepository;
@@ -63,6 +73,11 @@ public class SpeciesService {
         this.artRankRepository = artRankRepository;
         this.parkRankRepository = parkRankRepository;
         this.parkLocationRepository = parkLocationRepository;
+        this.speciesPageLoader = speciesPageLoader;
+        this.speciesGraphService = speciesGraphService;
+        this.dexIndexService = dexIndexService;
+        this.eventPublisher = eventPublisher;
+        this.nameIndex = new NameIndex(speciesRepository::findAllNames);
     }
 
     public List<Object> findAll() {
@@ -86,79 +101,89 @@ public class SpeciesService {
     }
 
     public SpeciesDto findByDexno(Integer dexno) {
-        List<Species> results = speciesRepository.findByDexno(dexno);
-        if (results != null && !results.isEmpty()) {
-            return buildSpeciesDto(results.get(0));
+        int dbid = dexIndexService.getIndex().getFirstFormDbid(dexno);
+        if (dbid != DexIndex.NONE) {
+            return buildSpeciesDto(speciesRepository.findByDbid(dbid));
         }
         else return null;
     }
 
+    public List<SpeciesPageTabDto> findPageTabs(int from, int to) {
+        return dexIndexService.getIndex().getPageTabs(from, to);
+    }
+
     public SpeciesDto findByName(String name) {
         Species species = speciesRepository.findByName(name);
         if (species != null) {
             return buildSpeciesDto(species);
         }
         else {
-            List<Species> results = speciesRepository.findByNameStartingWith(name);
-            if (!results.isEmpty()) {
-                return buildSpeciesDto(results.get(0));
+            String match = nameIndex.findFirst(name);
+            if (match != null) {
+                return buildSpeciesDto(speciesRepository.findByName(match));
             }
             else return null;
         }
     }
 
+    public Integer findDbidByName(String name) {
+        Integer dbid = speciesRepository.findDbidByName(name);
+        if (dbid == null) {
+            String match = nameIndex.findFirst(name);
+            if (match != null) {
+                dbid = speciesRepository.findDbidByName(match);
+            }
+        }
+        return dbid;
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        return nameIndex.suggest(prefix, limit);
+    }
+
     public SpeciesDto buildSpeciesDto(Species species) {
         if (species != null) {
-            SpeciesDto speciesDto = new SpeciesDto(species);
-            int dbid = species.getDbid();
-            speciesDto.setAttacks(speciesAttackService.findBySpeciesDbid(dbid));
-
-            List<SpeciesAbilityDto> abilities = speciesAbilityService.findBySpeciesDbid(dbid);
-            Collections.sort(abilities);
-            speciesDto.setAbilities(abilities);
+            return buildSpeciesDto(speciesPageLoader.load(species));
+        }
+        else return new SpeciesDto();
+    }
 
-            int dexno = species.getDexno();
-            List<Species> speciesAtPrevDex = speciesRepository.findByDexno(getPrevDex(dexno));
-            if (speciesAtPrevDex != null && !speciesAtPrevDex.isEmpty()) {
-                speciesDto.setPrevSpecies(buildSpeciesPageTabDto(speciesAtPrevDex.get(0)));
-            }
+    public SpeciesDto buildSpeciesDto(SpeciesPage page) {
+        Species species = page.getSpecies();
+        SpeciesDto speciesDto = new SpeciesDto(species);
+        int dbid = species.getDbid();
+        speciesDto.setAttacks(buildSpeciesAttackDtoList(page.getAttacks(dbid)));
+        speciesDto.setAbilities(buildSpeciesAbilityDtoList(page.getAbilities(dbid)));
 
-            List<Species> speciesAtNextDex = speciesRepository.findByDexno(getNextDex(dexno));
-            if (speciesAtNextDex != null && !speciesAtNextDex.isEmpty()) {
-                speciesDto.setNextSpecies(buildSpeciesPageTabDto(speciesAtNextDex.get(0)));
-            }
+        DexIndex dexIndex = dexIndexService.getIndex();
+        speciesDto.setPrevSpecies(dexIndex.getPageTab(dexIndex.getPrevDex(species.getDexno())));
+        speciesDto.setNextSpecies(dexIndex.getPageTab(dexIndex.getNextDex(species.getDexno())));
 
-            List<Species> speciesAtThisDex = speciesRepository.findByDexno(species.getDexno());
-            String alteredFormMethod = alteredFormMethodService.findByDexno(species.getDexno());
-            List<AlteredFormDto> alteredFormDtos = buildAlteredFormList(speciesAtThisDex, alteredFormMethod);
-            alteredFormDtos.addAll(buildCosmeticForms(species, alteredFormDtos, alteredFormMethod));
-            speciesDto.setAlteredForms(alteredFormDtos);
-            speciesDto.setUniqueMoves(buildUniqueMoveList(alteredFormDtos));
+        List<AlteredFormDto> alteredFormDtos = new ArrayList<>(buildAlteredFormList(page));
+        alteredFormDtos.addAll(buildCosmeticForms(page, alteredFormDtos));
+        speciesDto.setAlteredForms(alteredFormDtos);
+        speciesDto.setUniqueMoves(buildUniqueMoveList(page, alteredFormDtos));
 
-            speciesDto.setEvolutionFamily(buildEvolutionFamily(species));
-            speciesDto.setEvolvesFrom(evolutionService.findByEvolutionDbid(species.getDbid()));
+        speciesDto.setEvolutionFamily(buildEvolutionFamily(page));
+        speciesDto.setEvolvesFrom(buildEvolvesFrom(page));
 
-            speciesDto.setMegaEvolutions(megaEvolutionService.findByOriginalDbid(species.getDbid()));
-            speciesDto.setMegaEvolvesFrom(megaEvolutionService.findByMegaDbid(species.getDbid()));
+        speciesDto.setMegaEvolutions(buildMegaEvolutionList(page));
+        speciesDto.setMegaEvolvesFrom(buildMegaEvolvesFrom(page));
 
-            speciesDto.setTypeMatchups(typeMatchupService.findTypeMatchupsBySpecies(species));
-            for (MegaEvolutionDto megaDto : speciesDto.getMegaEvolutions()) {
-                megaDto.setTypeMatchups(typeMatchupService.findTypeMatchupsBySpeciesTypes(megaDto.getType1(), megaDto.getType2()));
-            }
-
-            return speciesDto;
+        speciesDto.setTypeMatchups(typeMatchupService.findTypeMatchupsBySpecies(species));
+        for (MegaEvolutionDto megaDto : speciesDto.getMegaEvolutions()) {
+            megaDto.setTypeMatchups(typeMatchupService.findTypeMatchupsBySpeciesTypes(megaDto.getType1(), megaDto.getType2()));
         }
-        else return new SpeciesDto();
+
+        return speciesDto;
     }
 
     public int getNextDex(int dexno) {
-        int maxDex = speciesRepository.findMaxDexno();
-        return dexno % maxDex + 1;
+        return dexIndexService.getIndex().getNextDex(dexno);
     }
 
     public int getPrevDex(int dexno) {
-        int maxDex = speciesRepository.findMaxDexno();
-        return (dexno + maxDex - 2) % maxDex + 1;
+        return dexIndexService.getIndex().getPrevDex(dexno);
     }
 
     public SpeciesPageTabDto buildSpeciesPageTabDto(Species species) {
@@ -169,17 +194,33 @@ public class SpeciesService {
         return new AlteredFormDto(species);
     }
 
-    public List<AlteredFormDto> buildAlteredFormList(List<Species> speciesList, String method) {
+    public List<SpeciesAttackDto> buildSpeciesAttackDtoList(List<SpeciesAttack> speciesAttacks) {
+        List<SpeciesAttackDto> dtos = new ArrayList<>();
+        for (SpeciesAttack speciesAttack : speciesAttacks) {
+            dtos.add(new SpeciesAttackDto(speciesAttack));
+        }
+        return dtos;
+    }
+
+    public List<SpeciesAbilityDto> buildSpeciesAbilityDtoList(List<SpeciesAbility> speciesAbilities) {
+        List<SpeciesAbilityDto> dtos = new ArrayList<>();
+        for (SpeciesAbility speciesAbility : speciesAbilities) {
+            dtos.add(new SpeciesAbilityDto(speciesAbility));
+        }
+        Collections.sort(dtos);
+        return dtos;
+    }
+
+    public List<AlteredFormDto> buildAlteredFormList(SpeciesPage page) {
         List<AlteredFormDto> dtos = new ArrayList<>();
+        List<Species> speciesList = page.getSpeciesAtThisDex();
 
         if (speciesList.size() > 1) {
             for (Species species : speciesList) {
-                if (!megaEvolutionService.isMegaEvolution(species.getDbid())) {
+                if (!page.isMegaEvolution(species.getDbid())) {
                     AlteredFormDto dto = buildAlteredFormDto(species);
-                    dto.setMethod(method);
-                    List<SpeciesAbilityDto> abilities = speciesAbilityService.findBySpeciesDbid(dto.getDbid());
-                    Collections.sort(abilities);
-                    dto.setAbilities(abilities);
+                    dto.setMethod(page.getAlteredFormMethod());
+                    dto.setAbilities(buildSpeciesAbilityDtoList(page.getAbilities(dto.getDbid())));
                     dtos.add(dto);
                 }
             }
@@ -192,78 +233,38 @@ public class SpeciesService {
         return dtos;
     }
 
-    public List<String> buildUniqueMoveList(List<AlteredFormDto> alteredFormDtoList) {
-        List<String> uniqueMoves = new ArrayList<>();
-        HashMap<String, String> nonUniqueMovesAndMethods = new HashMap<>();
-
-        List<HashMap<String, String>> allFormAttackMethods = new ArrayList<>();
-
-        if (alteredFormDtoList != null && alteredFormDtoList.size() > 1) {
-            int index = 0;
-            for (AlteredFormDto form : alteredFormDtoList) {
-                HashMap<String, String> formAttackMethods = new HashMap<>();
-                allFormAttackMethods.add(formAttackMethods);
-
-                int dbid = form.getDbid();
-                List<SpeciesAttackDto> attacks = speciesAttackService.findBySpeciesDbid(dbid);
-                for (SpeciesAttackDto attack : attacks) {
-                    String attackName = attack.getName();
-                    String attackMethod = attack.getMethod();
-                    formAttackMethods.put(attackName, attackMethod);
-                    if (!uniqueMoves.contains(attackName) && !nonUniqueMovesAndMethods.containsKey(attackName) && index == 0) {
-                        nonUniqueMovesAndMethods.put(attackName, attackMethod);
-                    }
-                    else if (!uniqueMoves.contains(attackName) && !nonUniqueMovesAndMethods.containsKey(attackName) && index != 0) {
-                        uniqueMoves.add(attackName);
-                    }
-                    else if (nonUniqueMovesAndMethods.containsKey(attackName) && !Objects.equals(attackMethod, nonUniqueMovesAndMethods.get(attackName))) {
-                        uniqueMoves.add(attackName);
-                        nonUniqueMovesAndMethods.remove(attackName);
-                    }
-                    else if (nonUniqueMovesAndMethods.containsKey(attackName) && index == alteredFormDtoList.size() - 1) {
-                        nonUniqueMovesAndMethods.remove(attackName);
-                    }
-                }
-                index++;
-            }
-
-            for (String attackName : nonUniqueMovesAndMethods.keySet()) {
-                uniqueMoves.add(attackName);
-            }
+    public List<String> buildUniqueMoveList(SpeciesPage page, List<AlteredFormDto> alteredFormDtoList) {
+        if (alteredFormDtoList == null || alteredFormDtoList.size() < 2) {
+            return new ArrayList<>();
+        }
 
-            Collections.sort(uniqueMoves);
+        List<List<SpeciesAttack>> learnsets = new ArrayList<>();
+        for (AlteredFormDto form : alteredFormDtoList) {
+            learnsets.add(page.getAttacks(form.getDbid()));
+        }
+        FormLearnsets formLearnsets = new FormLearnsets(learnsets);
+        BitSet unique = formLearnsets.findUnique();
 
-            index = 0;
-            for (AlteredFormDto form : alteredFormDtoList) {
-                HashMap<String, String> formUniqueAttacks = new HashMap<>();
-                for (String attack : uniqueMoves) {
-                    String method = allFormAttackMethods.get(index).get(attack);
-                    formUniqueAttacks.put(attack, method);
-                }
-                form.setUniqueAttacks(formUniqueAttacks);
-                index++;
-            }
+        for (int index = 0; index < alteredFormDtoList.size(); index++) {
+            alteredFormDtoList.get(index).setUniqueAttacks(formLearnsets.getMethods(index, unique));
         }
-        return uniqueMoves;
+        return formLearnsets.getNames(unique);
     }
 
-    public List<AlteredFormDto> buildCosmeticForms(Species species, List<AlteredFormDto> alteredForms, String method) {
+    public List<AlteredFormDto> buildCosmeticForms(SpeciesPage page, List<AlteredFormDto> alteredForms) {
         List<AlteredFormDto> cosmeticFormDtos = new ArrayList<>();
+        Species species = page.getSpecies();
         if (species != null) {
             boolean noAlteredForms = alteredForms == null || alteredForms.isEmpty();
             if (noAlteredForms) {
                 AlteredFormDto dto = new AlteredFormDto(species);
-                List<SpeciesAbilityDto> abilities = speciesAbilityService.findBySpeciesDbid(dto.getDbid());
-                Collections.sort(abilities);
-                dto.setAbilities(abilities);
+                dto.setAbilities(buildSpeciesAbilityDtoList(page.getAbilities(dto.getDbid())));
                 cosmeticFormDtos.add(dto);
             }
 
-            for (CosmeticFormDto cosmeticFormDto : cosmeticFormService.findBySpeciesDbid(species.getDbid())) {
-                AlteredFormDto dto = new AlteredFormDto(species, cosmeticFormDto);
-                List<SpeciesAbilityDto> abilities = speciesAbilityService.findBySpeciesDbid(dto.getDbid());
-                Collections.sort(abilities);
-                dto.setAbilities(abilities);
+            for (CosmeticForm cosmeticForm : page.getCosmeticForms(species.getDbid())) {
+                AlteredFormDto dto = new AlteredFormDto(species, new CosmeticFormDto(cosmeticForm));
+                dto.setAbilities(buildSpeciesAbilityDtoList(page.getAbilities(dto.getDbid())));
                 dto.setCosmetic(true);
                 cosmeticFormDtos.add(dto);
             }
@@ -271,11 +272,9 @@ public class SpeciesService {
             if (alteredForms != null) {
                 for (AlteredFormDto form : alteredForms) {
                     if (form.getDbid() != species.getDbid()) {
-                        for (CosmeticFormDto cosmeticFormDto : cosmeticFormService.findBySpeciesDbid(form.getDbid())) {
-                            AlteredFormDto dto = new AlteredFormDto(form, cosmeticFormDto);
-                            List<SpeciesAbilityDto> abilities = speciesAbilityService.findBySpeciesDbid(dto.getDbid());
-                            Collections.sort(abilities);
-                            dto.setAbilities(abilities);
+                        for (CosmeticForm cosmeticForm : page.getCosmeticForms(form.getDbid())) {
+                            AlteredFormDto dto = new AlteredFormDto(form, new CosmeticFormDto(cosmeticForm));
+                            dto.setAbilities(buildSpeciesAbilityDtoList(page.getAbilities(dto.getDbid())));
                             dto.setCosmetic(true);
                             cosmeticFormDtos.add(dto);
                         }
@@ -301,41 +300,53 @@ public class SpeciesService {
         else return Collections.emptyList();
     }
 
-    public List<List<EvolutionFamilyMemberDto>> buildEvolutionFamily(Species species) {
+    public List<List<EvolutionFamilyMemberDto>> buildEvolutionFamily(SpeciesPage page) {
         List<List<EvolutionFamilyMemberDto>> evolutionFamily = new ArrayList<>();
 
-        List<EvolutionFamilyMemberDto> basicStage = Arrays.asList(findBasicForm(species));
+        List<EvolutionFamilyMemberDto> basicStage = Arrays.asList(findBasicForm(page));
         evolutionFamily.add(basicStage);
 
         List<EvolutionFamilyMemberDto> firstStage = new ArrayList<>();
         for (EvolutionFamilyMemberDto member : basicStage) {
-            firstStage.addAll(evolutionService.findEvolutionsByPreEvolutionDbid(member.getDbid()));
+            firstStage.addAll(buildEvolutionStage(page, member.getDbid()));
         }
         evolutionFamily.add(firstStage);
 
         List<EvolutionFamilyMemberDto> secondStage = new ArrayList<>();
         for (EvolutionFamilyMemberDto member : firstStage) {
-            secondStage.addAll(evolutionService.findEvolutionsByPreEvolutionDbid(member.getDbid()));
+            secondStage.addAll(buildEvolutionStage(page, member.getDbid()));
         }
         evolutionFamily.add(secondStage);
 
         return evolutionFamily;
     }
 
-    public EvolutionFamilyMemberDto findBasicForm(Species species) throws IllegalStateException {
+    public List<EvolutionFamilyMemberDto> buildEvolutionStage(SpeciesPage page, int preEvolutionDbid) {
+        List<EvolutionFamilyMemberDto> dtos = new ArrayList<>();
+        for (Evolution evolution : page.getEvolutions(preEvolutionDbid)) {
+            Species evo = page.getSpecies(evolution.getId().getEvolutionDbid());
+            dtos.add(new EvolutionFamilyMemberDto(evo, evolution.getMethod()));
+        }
+        return dtos;
+    }
+
+    public EvolutionFamilyMemberDto findBasicForm(SpeciesPage page) throws IllegalStateException {
+        Species species = page.getSpecies();
         if (species != null) {
             int dbidOfSpeciesToCheck = species.getDbid();
-            int prevoDbid;
+            Evolution preEvolution = page.getPreEvolution(dbidOfSpeciesToCheck);
 
-            do {
-                prevoDbid = evolutionService.getPreEvolutionDbid(dbidOfSpeciesToCheck);
-                if (prevoDbid != -1 && prevoDbid != 0) {
-                    dbidOfSpeciesToCheck = prevoDbid;
+            while (preEvolution != null) {
+                int prevoDbid = preEvolution.getId().getPreEvolutionDbid();
+                if (prevoDbid == -1 || prevoDbid == 0 || prevoDbid == dbidOfSpeciesToCheck) {
+                    break;
                 }
-            } while (prevoDbid != -1 && prevoDbid != 0);
+                dbidOfSpeciesToCheck = prevoDbid;
+                preEvolution = page.getPreEvolution(dbidOfSpeciesToCheck);
+            }
 
             if (dbidOfSpeciesToCheck != species.getDbid()) {
-                Species prevo = speciesRepository.findByDbid(dbidOfSpeciesToCheck);
+                Species prevo = page.getSpecies(dbidOfSpeciesToCheck);
                 if (prevo != null) {
                     return new EvolutionFamilyMemberDto(prevo, null);
                 } else
@@ -347,6 +358,51 @@ public class SpeciesService {
         else return new EvolutionFamilyMemberDto();
     }
 
+    public EvolutionFamilyMemberBriefDto buildEvolvesFrom(SpeciesPage page) {
+        Evolution evolution = page.getPreEvolution(page.getSpecies().getDbid());
+        if (evolution != null) {
+            Species prevo = page.getSpecies(evolution.getId().getPreEvolutionDbid());
+            if (prevo != null) {
+                EvolutionFamilyMemberBriefDto dto = new EvolutionFamilyMemberBriefDto();
+                dto.setName(prevo.getName());
+                dto.setMethod(evolution.getMethod());
+                return dto;
+            }
+        }
+        return null;
+    }
+
+    public List<MegaEvolutionDto> buildMegaEvolutionList(SpeciesPage page) {
+        List<MegaEvolutionDto> dtos = new ArrayList<>();
+        for (MegaEvolution mega : page.getMegaEvolutions(page.getSpecies().getDbid())) {
+            Species megaSpecies = page.getSpecies(mega.getId().getMegaEvolutionDbid());
+            if (megaSpecies != null) {
+                MegaEvolutionDto dto = new MegaEvolutionDto(megaSpecies, mega.getMegaStone());
+                List<SpeciesAbility> abilityList = page.getAbilities(megaSpecies.getDbid());
+                if (!abilityList.isEmpty()) {
+                    dto.setAbility(new SpeciesAbilityDto(abilityList.get(0)));
+                }
+                dtos.add(dto);
+            }
+        }
+        return dtos;
+    }
+
+    public MegaEvolutionBriefDto buildMegaEvolvesFrom(SpeciesPage page) {
+        MegaEvolution mega = page.getMegaEvolvesFrom(page.getSpecies().getDbid());
+        if (mega != null) {
+            Species original = page.getSpecies(mega.getId().getOriginalDbid());
+            if (original != null) {
+                MegaEvolutionBriefDto dto = new MegaEvolutionBriefDto();
+                dto.setName(original.getName());
+                dto.setMegaStone(mega.getMegaStone());
+                return dto;
+            }
+        }
+        return null;
+    }
+
+    @Transactional
     public Errors createSpecies(SpeciesInputDto input) {
         Errors errors = validateSpeciesCreate(input);
 
@@ -374,27 +430,31 @@ public class SpeciesService {
                 input.setParkLocation("-");
             }
             newSpecies.setParkLocation(parkLocationRepository.findByName(input.getParkLocation()));
-            speciesRepository.save(newSpecies);
-
-            Species savedSpecies = speciesRepository.findByName(input.getName());
+            Species savedSpecies = speciesRepository.save(newSpecies);
             int dbid = savedSpecies.getDbid();
 
-            speciesAttackService.createAll(dbid, input.getAttacks());
-            speciesAbilityService.createAll(dbid, input.getAbilities());
+            speciesAttackService.createAll(savedSpecies, input.getAttacks());
+            speciesAbilityService.createAll(savedSpecies, input.getAbilities());
             alteredFormMethodService.create(dbid, input.getAlteredFormMethod());
             cosmeticFormService.createAll(dbid, input.getCosmeticForms(), input.getAlteredFormMethod());
             evolutionService.create(dbid, input.getEvolvesFrom());
             megaEvolutionService.create(dbid, input.getMegaEvolvesFrom());
+            speciesGraphService.requestRebuild();
+            dexIndexService.requestRebuild();
+            nameIndex.add(savedSpecies.getName());
+            eventPublisher.publishEvent(SpeciesChangedEvent.of(dbid));
         }
 
         return errors;
     }
 
+    @Transactional
     public Errors updateSpecies(SpeciesInputDto input) {
         Errors errors = validateSpeciesUpdate(input);
 
         if (!errors.hasErrors()) {
             Species existingSpecies = speciesRepository.findByName(input.getName());
+            boolean dexnoChanged = input.getDexno() != null && input.getDexno() != existingSpecies.getDexno();
             if (input.getDexno() != null) {
                 existingSpecies.setDexno(input.getDexno());
             }
@@ -407,9 +467,6 @@ public class SpeciesService {
             if (input.getHp() != null) {
                 existingSpecies.setHp(input.getHp());
             }
-            if (input.getHp() != null) {
-                existingSpecies.setHp(input.getHp());
-            }
             if (input.getAttack() != null) {
                 existingSpecies.setAttack(input.getAttack());
             }
@@ -471,12 +528,16 @@ public class SpeciesService {
 
             int dbid = existingSpecies.getDbid();
 
-            speciesAttackService.updateAll(dbid, input.getAttacks());
-            speciesAbilityService.updateAll(dbid, input.getAbilities());
+            speciesAttackService.updateAll(existingSpecies, input.getAttacks());
+            speciesAbilityService.updateAll(existingSpecies, input.getAbilities());
             alteredFormMethodService.update(existingSpecies.getDexno(), input.getAlteredFormMethod());
             cosmeticFormService.updateAll(dbid, input.getCosmeticForms(), input.getAlteredFormMethod());
             evolutionService.update(dbid, input.getEvolvesFrom());
             megaEvolutionService.update(dbid, input.getMegaEvolvesFrom());
+            speciesGraphService.requestRebuild();
+            dexIndexService.requestRebuild();
+            nameIndex.invalidate();
+            eventPublisher.publishEvent(dexnoChanged ? SpeciesChangedEvent.all() : SpeciesChangedEvent.of(dbid));
         }
 
         return errors;
@@ -584,8 +645,9 @@ public class SpeciesService {
             }
 
             if (input.getAttacks() != null) {
+                Map<String, Attack> attacks = speciesAttackService.findAttacksByName(input.getAttacks());
                 for (SpeciesAttackInputDto speciesAttackInputDto : input.getAttacks()) {
-                    if (speciesAttackInputDto.getName() == null || attackRepository.findByName(speciesAttackInputDto.getName()) == null) {
+                    if (speciesAttackInputDto.getName() == null || !attacks.containsKey(speciesAttackInputDto.getName())) {
                         errors.reject("Attack name " + speciesAttackInputDto.getName() + " is invalid.");
                     }
                     if (speciesAttackInputDto.getMethod() == null) {
@@ -595,8 +657,9 @@ public class SpeciesService {
             }
 
             if (input.getAbilities() != null) {
+                Map<String, Ability> abilities = speciesAbilityService.findAbilitiesByName(input.getAbilities());
                 for (SpeciesAbilityInputDto speciesAbilityInputDto : input.getAbilities()) {
-                    if (speciesAbilityInputDto.getName() == null || abilityRepository.findByName((speciesAbilityInputDto.getName())) == null) {
+                    if (speciesAbilityInputDto.getName() == null || !abilities.containsKey(speciesAbilityInputDto.getName())) {
                         errors.reject("Ability name " + speciesAbilityInputDto.getName() + " is invalid.");
                     }
                     if (speciesAbilityInputDto.isHidden() == null) {
@@ -756,8 +819,9 @@ public class SpeciesService {
             attackMethods.add("SPECIAL");
 
             if (input.getAttacks() != null) {
+                Map<String, Attack> attacks = speciesAttackService.findAttacksByName(input.getAttacks());
                 for (SpeciesAttackInputDto speciesAttackInputDto : input.getAttacks()) {
-                    if (speciesAttackInputDto.getName() != null && attackRepository.findByName(speciesAttackInputDto.getName()) == null) {
+                    if (speciesAttackInputDto.getName() != null && !attacks.containsKey(speciesAttackInputDto.getName())) {
                         errors.reject("Attack name " + speciesAttackInputDto.getName() + " is invalid.");
                     }
                     if (speciesAttackInputDto.getMethod() != null && !attackMethods.contains(speciesAttackInputDto.getMethod())) {
@@ -767,8 +831,9 @@ public class SpeciesService {
             }
 
             if (input.getAbilities() != null) {
+                Map<String, Ability> abilities = speciesAbilityService.findAbilitiesByName(input.getAbilities());
                 for (SpeciesAbilityInputDto speciesAbilityInputDto : input.getAbilities()) {
-                    if (speciesAbilityInputDto.getName() != null && abilityRepository.findByName((speciesAbilityInputDto.getName())) == null) {
+                    if (speciesAbilityInputDto.getName() != null && !abilities.containsKey(speciesAbilityInputDto.getName())) {
                         errors.reject("Ability name " + speciesAbilityInputDto.getName() + " is invalid.");
                     }
                     if (speciesAbilityInputDto.isHidden() == null) {
@@ -6,14 +6,15 @@ import com.pokemonurpg.dto.stats.response.*;
 import com.pokemonurpg.object.*;
 import com.pokemonurpg.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.Errors;
 import org.springframework.validation.MapBindingResult;
 
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.List;
+import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,6 +26,24 @@ public class StatsService {
     private ItemRepository itemRepository;
     private OwnedItemService ownedItemService;
     private TypeRepository typeRepository;
+    private MemberService memberService;
+    private TrainerStatsLoader trainerStatsLoader;
+    private LedgerService ledgerService;
+    private final SingleFlight<StatsDto> statsFlights = new SingleFlight<>();
+    private final SingleFlight<StatsDto> summaryFlights = new SingleFlight<>();
+
+    static final int DEFAULT_POKEMON_PAGE_SIZE = 50;
+    static final int MAX_POKEMON_PAGE_SIZE = 200;
+    static final int MAX_STAT_VALUE = 9999999;
+    private static final String DEFAULT_POKEMON_SORT = "obtained";
+    private static final Map<String, String> POKEMON_SORT_PROPERTIES = new LinkedHashMap<>();
+    static {
+        POKEMON_SORT_PROPERTIES.put("obtained", "dbid");
+        POKEMON_SORT_PROPERTIES.put("dex", "species.dexno");
+        POKEMON_SORT_PROPERTIES.put("species", "species.name");
+        POKEMON_SORT_PROPERTIES.put("nickname", "nickname");
+        POKEMON_SORT_PROPERTIES.put("exp", "exp");
+    }
 
     private static final Pattern POKEMON_URPG_FORUM_THREAD_PATTERN = Pattern.compile("^(https://)?forum\\.pokemonurpg\\.com/showthread\\.php\\?tid=\\d+(&page=\\d+)?$");
     private static final Pattern POKEMON_URPG_FORUM_POST_PATTERN = Pattern.compile("^(https://)?forum\\.pokemonurpg\\.com/showthread\\.php\\?tid=\\d+&pid=\\d+#pid\\d+$");
@@ -33,27 +52,92 @@ public class StatsService {
 
     @Autowired
     public StatsService(MemberRepository memberRepository, OwnedPokemonRepository ownedPokemonRepository, LogService logService,
-                        ItemRepository itemRepository, OwnedItemService ownedItemService, TypeRepository typeRepository) {
+                        ItemRepository itemRepository, OwnedItemService ownedItemService, TypeRepository typeRepository,
+                        MemberService memberService, TrainerStatsLoader trainerStatsLoader, LedgerService ledgerService) {
         this.memberRepository = memberRepository;
         this.ownedPokemonRepository = ownedPokemonRepository;
         this.logService = logService;
         this.itemRepository = itemRepository;
         this.ownedItemService = ownedItemService;
         this.typeRepository = typeRepository;
+        this.memberService = memberService;
+        this.trainerStatsLoader = trainerStatsLoader;
+        this.ledgerService = ledgerService;
     }
 
     public StatsDto findByName(String name) {
-        Member trainer = memberRepository.findByUsername(name);
+        return statsFlights.execute(name, () -> loadByName(name));
+    }
+
+    public StatsDto findSummaryByName(String name) {
+        return summaryFlights.execute(name, () -> {
+            Member trainer = findTrainer(name);
+            if (trainer != null) {
+                StatsDto dto = trainerStatsLoader.loadSummary(trainer.getDbid(), buildPokemonPageRequest(0, DEFAULT_POKEMON_PAGE_SIZE, null));
+                if (dto != null) {
+                    attachFirstLogPage(dto, trainer);
+                }
+                return dto;
+            }
+            else return null;
+        });
+    }
+
+    public OwnedPokemonPageDto findOwnedPokemonPage(String name, int page, int size, String sort, String species, String type) {
+        Member trainer = findTrainer(name);
+        if (trainer != null) {
+            return trainerStatsLoader.loadPokemonPage(trainer.getDbid(), emptyToNull(species), emptyToNull(type), buildPokemonPageRequest(page, size, sort));
+        }
+        else return null;
+    }
+
+    private StatsDto loadByName(String name) {
+        Member trainer = findTrainer(name);
         if (trainer != null) {
             return buildStatsDto(trainer);
         }
-        else {
-            List<Member> results = memberRepository.findByUsernameStartingWith(name);
-            if (!results.isEmpty()) {
-                return buildStatsDto(results.get(0));
+        else return null;
+    }
+
+    private Member findTrainer(String name) {
+        Member trainer = memberRepository.findByUsername(name);
+        if (trainer != null) {
+            return trainer;
+        }
+        else return memberService.findByUsernameStartingWith(name);
+    }
+
+    Pageable buildPokemonPageRequest(int page, int size, String sort) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page " + page + " is invalid.");
+        }
+        if (size < 1 || size > MAX_POKEMON_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_POKEMON_PAGE_SIZE + ".");
+        }
+
+        Sort.Direction direction = Sort.Direction.ASC;
+        String property = POKEMON_SORT_PROPERTIES.get(DEFAULT_POKEMON_SORT);
+        if (sort != null && !sort.isEmpty()) {
+            String[] parts = sort.split(",");
+            property = POKEMON_SORT_PROPERTIES.get(parts[0].trim().toLowerCase(Locale.ROOT));
+            if (property == null || parts.length > 2) {
+                throw new IllegalArgumentException("Sort " + sort + " is invalid. Valid sorts are " + POKEMON_SORT_PROPERTIES.keySet() + ", optionally followed by ,asc or ,desc.");
+            }
+            if (parts.length == 2) {
+                direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new IllegalArgumentException("Sort direction " + parts[1] + " is invalid."));
             }
-            else return null;
         }
+
+        Sort order = Sort.by(direction, property);
+        if (!"dbid".equals(property)) {
+            order = order.and(Sort.by(Sort.Direction.ASC, "dbid"));
+        }
+        return PageRequest.of(page, size, order);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
     }
 
     public Member getPokemonOwner(int dbid) {
@@ -62,23 +146,11 @@ public class StatsService {
     }
 
     public StatsDto buildStatsDto(Member trainer) {
-        StatsDto dto = new StatsDto(trainer);
-        dto.setPokemon(buildOwnedPokemonDtoList(trainer));
-        dto.setItems(buildOwnedItemsDtoList(trainer));
-        dto.setLogs(buildLogRecordDtoList(trainer));
-        return dto;
-    }
-
-    public List<OwnedPokemonBriefDto> buildOwnedPokemonDtoList(Member trainer) {
-        List<OwnedPokemon> ownedPokemonRecords = trainer.getPokemon();
-        List<OwnedPokemonBriefDto> result = new ArrayList<>();
-
-        for (OwnedPokemon pokemon : ownedPokemonRecords) {
-            OwnedPokemonBriefDto dto = new OwnedPokemonBriefDto(pokemon);
-            result.add(dto);
+        StatsDto dto = trainerStatsLoader.load(trainer.getDbid());
+        if (dto != null) {
+            attachFirstLogPage(dto, trainer);
         }
-
-        return result;
+        return dto;
     }
 
     public OwnedPokemonDto findOwnedPokemonByDbid(int dbid) {
@@ -121,30 +193,113 @@ public class StatsService {
         return result;
     }
 
-    public List<OwnedItemDto> buildOwnedItemsDtoList(Member trainer) {
-        List<OwnedItem> ownedItemRecords = trainer.getItems();
-        List<OwnedItemDto> result = new ArrayList<>();
+    public LogPageDto findLogPage(String name, String before, int limit) {
+        Member trainer = findTrainer(name);
+        if (trainer != null) {
+            return logService.findPageForMember(trainer.getDbid(), before, limit);
+        }
+        else return null;
+    }
 
-        for (OwnedItem item : ownedItemRecords) {
-            OwnedItemDto dto = new OwnedItemDto(item);
-            result.add(dto);
+    public LedgerBalanceDto findBalance(String name, String item, Long at) {
+        Member trainer = findTrainer(name);
+        if (trainer == null) {
+            return null;
         }
 
-        return result;
+        int itemDbid = LedgerService.MONEY;
+        String asset = "money";
+        if (item != null && !item.isEmpty()) {
+            Item itemRecord = itemRepository.findByName(item);
+            if (itemRecord == null) {
+                throw new IllegalArgumentException("Item " + item + " doesn't exist.");
+            }
+            itemDbid = itemRecord.getDbid();
+            asset = itemRecord.getName();
+        }
+
+        if (at != null) {
+            Long balance = ledgerService.getBalanceAt(trainer.getDbid(), itemDbid, new Date(at));
+            if (balance == null) {
+                throw new IllegalStateException("The ledger has no history of " + asset + " for " + trainer.getUsername() + " at that time.");
+            }
+            return new LedgerBalanceDto(trainer.getUsername(), asset, balance, at);
+        }
+
+        Long balance = ledgerService.getBalance(trainer.getDbid(), itemDbid);
+        if (balance == null && itemDbid == LedgerService.MONEY) {
+            balance = trainer.getMoney() != null ? trainer.getMoney().longValue() : 0L;
+        }
+        else if (balance == null) {
+            balance = (long) ownedItemService.findQuantity(trainer.getDbid(), itemDbid);
+        }
+        return new LedgerBalanceDto(trainer.getUsername(), asset, balance, System.currentTimeMillis());
     }
 
-    public List<LogRecordDto> buildLogRecordDtoList(Member trainer) {
-        Date date = getDateDaysAgo(30);
-        List<LogRecordDto> dtos = logService.findLogsSinceDateForMember(date, trainer);
-        return dtos;
+    private void attachFirstLogPage(StatsDto dto, Member trainer) {
+        LogPageDto logPage = logService.findPageForMember(trainer.getDbid(), null, LogService.DEFAULT_LOG_PAGE_SIZE);
+        dto.setLogs(logPage.getLogs());
+        dto.setLogsCursor(logPage.getNextCursor());
     }
 
-    public Date getDateDaysAgo(int days) {
-        long DAY_IN_MS = 1000 * 60 * 60 * 24;
-        return new Date(System.currentTimeMillis() - (days * DAY_IN_MS));
+    @Transactional
+    public StatsDeltaDto applyDelta(String updater, String name, String stat, Integer delta, String reason) {
+        if (delta == null || delta == 0 || Math.abs(delta) > MAX_STAT_VALUE) {
+            throw new IllegalArgumentException("Delta must be a non-zero number between -" + MAX_STAT_VALUE + " and " + MAX_STAT_VALUE + ".");
+        }
+        if (reason != null && reason.length() > LedgerService.MAX_REASON_LENGTH) {
+            throw new IllegalArgumentException("Reason must be at most " + LedgerService.MAX_REASON_LENGTH + " characters.");
+        }
+        Member trainer = memberRepository.findByUsername(name);
+        if (trainer == null) {
+            return null;
+        }
+
+        int dbid = trainer.getDbid();
+        int amount = Math.abs(delta);
+        int updated;
+        int column;
+        String message;
+        switch (stat) {
+            case "money":
+                updated = memberRepository.addMoney(dbid, delta, 0, Integer.MAX_VALUE);
+                column = 0;
+                message = delta > 0 ? updater + " added $" + amount : updater + " subtracted $" + amount;
+                break;
+            case "wins":
+                updated = memberRepository.addWins(dbid, delta, 0, MAX_STAT_VALUE);
+                column = 1;
+                message = delta > 0 ? updater + " added " + amount + " won games." : updater + " removed " + amount + " wins";
+                break;
+            case "losses":
+                updated = memberRepository.addLosses(dbid, delta, 0, MAX_STAT_VALUE);
+                column = 2;
+                message = delta > 0 ? updater + " added " + amount + " lost games." : updater + " removed " + amount + " losses";
+                break;
+            case "draws":
+                updated = memberRepository.addDraws(dbid, delta, 0, MAX_STAT_VALUE);
+                column = 3;
+                message = delta > 0 ? updater + " added " + amount + " drawn games." : updater + " removed " + amount + " draws";
+                break;
+            default:
+                throw new IllegalArgumentException("Stat " + stat + " cannot be adjusted.");
+        }
+
+        if (updated == 0) {
+            throw new IllegalStateException("Changing " + stat + " by " + delta + " would take " + trainer.getUsername() + " below zero or past the maximum.");
+        }
+        logService.logInCurrentTransaction(trainer, message);
+        Object[] counters = memberRepository.findCountersByDbid(dbid).get(0);
+        int value = ((Number) counters[column]).intValue();
+        if (column == 0) {
+            ledgerService.record(dbid, LedgerService.MONEY, delta, value, reason != null && !reason.isEmpty() ? reason : LedgerService.REASON_ADJUSTMENT, updater);
+        }
+        return new StatsDeltaDto(trainer.getUsername(), stat, delta, value);
     }
 
+    @Transactional
     public Errors updateStats(String updater, StatsInputDto input, String name) {
+        memberRepository.findByUsernameForUpdate(name);
         Errors errors = validateStatsUpdate(input, name);
 
         if (!errors.hasErrors()) {
@@ -167,6 +322,7 @@ public class StatsService {
                     logs.add(new LogRecord(existingRecord, updater + " subtracted $" + (difference * -1)));
                 }
                 existingRecord.setMoney(input.getMoney());
+                ledgerService.record(existingRecord.getDbid(), LedgerService.MONEY, difference, input.getMoney(), LedgerService.REASON_STATS_UPDATE, updater);
             }
 
             if (input.getWins() != null) {
@@ -0,0 +1,101 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.stats.response.OwnedItemDto;
+import com.pokemonurpg.dto.stats.response.OwnedPokemonBriefDto;
+import com.pokemonurpg.dto.stats.response.OwnedPokemonPageDto;
+import com.pokemonurpg.dto.stats.response.StatsDto;
+import com.pokemonurpg.object.Member;
+import com.pokemonurpg.object.OwnedItem;
+import com.pokemonurpg.object.OwnedPokemon;
+import com.pokemonurpg.repository.MemberRepository;
+import com.pokemonurpg.repository.OwnedPokemonRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Service
+public class TrainerStatsLoader {
+
+    private MemberRepository memberRepository;
+    private OwnedPokemonRepository ownedPokemonRepository;
+
+    @Autowired
+    public TrainerStatsLoader(MemberRepository memberRepository, OwnedPokemonRepository ownedPokemonRepository) {
+        this.memberRepository = memberRepository;
+        this.ownedPokemonRepository = ownedPokemonRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public StatsDto load(int trainerDbid) {
+        Member trainer = memberRepository.fetchPokemonByDbid(trainerDbid);
+        if (trainer == null) {
+            return null;
+        }
+        StatsDto dto = buildStatsDto(trainer);
+        dto.setPokemon(buildOwnedPokemonDtoList(trainer.getPokemon() != null ? trainer.getPokemon() : Collections.emptyList()));
+        dto.setPokemonCount(dto.getPokemon().size());
+        return dto;
+    }
+
+    @Transactional(readOnly = true)
+    public StatsDto loadSummary(int trainerDbid, Pageable firstPage) {
+        Member trainer = memberRepository.findByDbid(trainerDbid);
+        if (trainer == null) {
+            return null;
+        }
+        Page<OwnedPokemon> page = ownedPokemonRepository.findPageByTrainerDbid(trainerDbid, null, null, firstPage);
+        StatsDto dto = buildStatsDto(trainer);
+        dto.setPokemon(buildOwnedPokemonDtoList(page.getContent()));
+        dto.setPokemonCount((int) page.getTotalElements());
+        return dto;
+    }
+
+    @Transactional(readOnly = true)
+    public OwnedPokemonPageDto loadPokemonPage(int trainerDbid, String species, String type, Pageable pageable) {
+        Page<OwnedPokemon> page = ownedPokemonRepository.findPageByTrainerDbid(trainerDbid, species, type, pageable);
+        OwnedPokemonPageDto dto = new OwnedPokemonPageDto();
+        dto.setPage(page.getNumber());
+        dto.setSize(page.getSize());
+        dto.setTotalElements(page.getTotalElements());
+        dto.setTotalPages(page.getTotalPages());
+        dto.setPokemon(buildOwnedPokemonDtoList(page.getContent()));
+        return dto;
+    }
+
+    private StatsDto buildStatsDto(Member trainer) {
+        int trainerDbid = trainer.getDbid();
+        memberRepository.fetchRolesByDbid(trainerDbid);
+        memberRepository.fetchBadgesByDbid(trainerDbid);
+        memberRepository.fetchChampionRecordsByDbid(trainerDbid);
+        memberRepository.fetchEarnedLegendariesByDbid(trainerDbid);
+        memberRepository.fetchLegendaryProgressByDbid(trainerDbid);
+        memberRepository.fetchItemsByDbid(trainerDbid);
+
+        StatsDto dto = new StatsDto(trainer);
+        dto.setItems(buildOwnedItemsDtoList(trainer));
+        return dto;
+    }
+
+    private List<OwnedPokemonBriefDto> buildOwnedPokemonDtoList(List<OwnedPokemon> ownedPokemonRecords) {
+        List<OwnedPokemonBriefDto> result = new ArrayList<>(ownedPokemonRecords.size());
+        for (OwnedPokemon pokemon : ownedPokemonRecords) {
+            result.add(new OwnedPokemonBriefDto(pokemon));
+        }
+        return result;
+    }
+
+    private List<OwnedItemDto> buildOwnedItemsDtoList(Member trainer) {
+        List<OwnedItem> ownedItemRecords = trainer.getItems() != null ? trainer.getItems() : Collections.emptyList();
+        List<OwnedItemDto> result = new ArrayList<>(ownedItemRecords.size());
+        for (OwnedItem item : ownedItemRecords) {
+            result.add(new OwnedItemDto(item));
+        }
+        return result;
+    }
+}
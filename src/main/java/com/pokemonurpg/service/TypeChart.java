@@ -0,0 +1,91 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.species.response.TypeMatchupDto;
+import com.pokemonurpg.object.Type;
+import com.pokemonurpg.object.TypeMatchup;
+
+import java.util.*;
+
+public class TypeChart {
+
+    private static final double NEUTRAL = 1.0;
+
+    private final List<Type> types;
+    private final Map<String, Type> typesByName;
+    private final double[][] multipliers;
+
+    public TypeChart(List<Type> allTypes, List<TypeMatchup> matchups) {
+        List<Type> types = new ArrayList<>();
+        Map<String, Type> typesByName = new HashMap<>();
+        int maxDbid = 0;
+        for (Type type : allTypes) {
+            if (type.getDbid() != null && type.getDbid() != -1) {
+                types.add(type);
+                typesByName.put(type.getName(), type);
+                maxDbid = Math.max(maxDbid, type.getDbid());
+            }
+        }
+        types.sort(Comparator.comparing(Type::getDbid));
+
+        double[][] multipliers = new double[maxDbid + 1][maxDbid + 1];
+        for (double[] row : multipliers) {
+            Arrays.fill(row, NEUTRAL);
+        }
+        for (TypeMatchup matchup : matchups) {
+            int attackTypeDbid = matchup.getId().getAttackTypeDbid();
+            int defendTypeDbid = matchup.getId().getDefendTypeDbid();
+            if (isIndexed(attackTypeDbid, maxDbid) && isIndexed(defendTypeDbid, maxDbid)) {
+                multipliers[attackTypeDbid][defendTypeDbid] = matchup.getMultiplier();
+            }
+        }
+
+        this.types = Collections.unmodifiableList(types);
+        this.typesByName = typesByName;
+        this.multipliers = multipliers;
+    }
+
+    private static boolean isIndexed(int dbid, int maxDbid) {
+        return dbid >= 0 && dbid <= maxDbid;
+    }
+
+    public List<Type> getTypes() {
+        return types;
+    }
+
+    public Type findByName(String name) {
+        return name == null ? null : typesByName.get(name);
+    }
+
+    public double getMultiplier(int attackTypeDbid, int defendTypeDbid) {
+        if (isIndexed(attackTypeDbid, multipliers.length - 1) && isIndexed(defendTypeDbid, multipliers.length - 1)) {
+            return multipliers[attackTypeDbid][defendTypeDbid];
+        }
+        else return NEUTRAL;
+    }
+
+    public double getMultiplier(int attackTypeDbid, Type type1, Type type2) {
+        double multiplier = getMultiplier(attackTypeDbid, type1.getDbid());
+        if (type2 != null && type2.getDbid() != -1) {
+            multiplier *= getMultiplier(attackTypeDbid, type2.getDbid());
+        }
+        return multiplier;
+    }
+
+    public List<TypeMatchupDto> findTypeMatchups(Type type1, Type type2) {
+        List<TypeMatchupDto> matchups = new ArrayList<>(types.size());
+        for (Type type : types) {
+            matchups.add(new TypeMatchupDto(type.getName(), getMultiplier(type.getDbid(), type1, type2)));
+        }
+        return matchups;
+    }
+
+    public double[][] toMatrix() {
+        double[][] matrix = new double[types.size()][types.size()];
+        for (int i = 0; i < types.size(); i++) {
+            for (int j = 0; j < types.size(); j++) {
+                matrix[i][j] = getMultiplier(types.get(i).getDbid(), types.get(j).getDbid());
+            }
+        }
+        return matrix;
+    }
+}
@@ -1,14 +1,19 @@
 package com.pokemonurpg.service;
 
 import com.pokemonurpg.dto.species.response.TypeMatchupDto;
+import com.pokemonurpg.dto.type.TypeChartDto;
+import com.pokemonurpg.dto.type.TypePairDto;
 import com.pokemonurpg.object.Species;
 import com.pokemonurpg.object.Type;
 import com.pokemonurpg.object.TypeMatchup;
 import com.pokemonurpg.repository.TypeMatchupRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Service
@@ -16,11 +21,35 @@ public class TypeMatchupService {
 
     private TypeMatchupRepository typeMatchupRepository;
     private TypeService typeService;
+    private ApplicationEventPublisher eventPublisher;
+
+    private volatile TypeChart typeChart;
 
     @Autowired
-    public TypeMatchupService (TypeMatchupRepository typeMatchupRepository, TypeService typeService) {
+    public TypeMatchupService (TypeMatchupRepository typeMatchupRepository, TypeService typeService, ApplicationEventPublisher eventPublisher) {
         this.typeMatchupRepository = typeMatchupRepository;
         this.typeService = typeService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public synchronized void rebuild() {
+        typeChart = new TypeChart(typeService.findAllFull(), typeMatchupRepository.findAll());
+    }
+
+    public TypeChart getTypeChart() {
+        TypeChart chart = typeChart;
+        if (chart == null) {
+            rebuild();
+            chart = typeChart;
+        }
+        return chart;
+    }
+
+    public void save(TypeMatchup typeMatchup) {
+        typeMatchupRepository.save(typeMatchup);
+        rebuild();
+        eventPublisher.publishEvent(SpeciesChangedEvent.of(SpeciesPageDependencies.Kind.TYPE, typeMatchup.getId().getDefendTypeDbid()));
     }
 
     List<TypeMatchupDto> findTypeMatchupsBySpecies(Species species) {
@@ -28,36 +57,32 @@ public class TypeMatchupService {
     }
 
     public List<TypeMatchupDto> findTypeMatchupsBySpeciesTypes(String type1Name, String type2Name) {
-        Type type1 = typeService.findByName(type1Name);
-        Type type2 = typeService.findByName(type2Name);
-        return findTypeMatchupsBySpeciesTypes(type1, type2);
+        TypeChart chart = getTypeChart();
+        return findTypeMatchupsBySpeciesTypes(chart, chart.findByName(type1Name), chart.findByName(type2Name));
     }
 
     public List<TypeMatchupDto> findTypeMatchupsBySpeciesTypes(Type type1, Type type2) {
-        List<TypeMatchupDto> matchups = new ArrayList<>();
-
-        List<Type> types = typeService.findAllFull();
-        int type1Dbid = type1.getDbid();
-        for (Type type : types) {
-            if (type.getDbid() != -1) {
-                TypeMatchup matchup = typeMatchupRepository.findByIdAttackTypeDbidAndIdDefendTypeDbid(type.getDbid(), type1Dbid);
-                matchups.add(new TypeMatchupDto(type.getName(), matchup.getMultiplier()));
-            }
-        }
+        return findTypeMatchupsBySpeciesTypes(getTypeChart(), type1, type2);
+    }
 
-        if (type2 != null && type2.getDbid() != -1) {
-            int type2Dbid = type2.getDbid();
-            int index = 0;
-            for (Type type : types) {
-                if (type.getDbid() != -1) {
-                    TypeMatchup matchup = typeMatchupRepository.findByIdAttackTypeDbidAndIdDefendTypeDbid(type.getDbid(), type2Dbid);
-                    TypeMatchupDto dto = matchups.get(index);
-                    dto.setMultiplier(dto.getMultiplier() * matchup.getMultiplier());
-                    index++;
-                }
-            }
+    private List<TypeMatchupDto> findTypeMatchupsBySpeciesTypes(TypeChart chart, Type type1, Type type2) {
+        if (type1 != null) {
+            return chart.findTypeMatchups(type1, type2);
         }
+        else return Collections.emptyList();
+    }
 
-        return matchups;
+    public TypeChartDto buildTypeChartDto() {
+        return new TypeChartDto(getTypeChart());
+    }
+
+    public List<TypePairDto> findTypeMatchupsByTypePairs(List<TypePairDto> pairs) {
+        TypeChart chart = getTypeChart();
+        List<TypePairDto> dtos = new ArrayList<>();
+        for (TypePairDto pair : pairs) {
+            List<TypeMatchupDto> matchups = findTypeMatchupsBySpeciesTypes(chart, chart.findByName(pair.getType1()), chart.findByName(pair.getType2()));
+            dtos.add(new TypePairDto(pair.getType1(), pair.getType2(), matchups));
+        }
+        return dtos;
     }
 }
@@ -3,6 +3,7 @@ package com.pokemonurpg.service;
 import com.pokemonurpg.object.Type;
 import com.pokemonurpg.repository.TypeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,10 +13,12 @@ import java.util.Optional;
 public class TypeService {
 
     private TypeRepository typeRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public TypeService(TypeRepository typeRepository) {
+    public TypeService(TypeRepository typeRepository, ApplicationEventPublisher eventPublisher) {
         this.typeRepository = typeRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<Object> findAll() {
@@ -40,6 +43,9 @@ public class TypeService {
 
     public void save(Type type) {
         typeRepository.save(type);
+        if (type.getDbid() != null) {
+            eventPublisher.publishEvent(SpeciesChangedEvent.of(SpeciesPageDependencies.Kind.TYPE, type.getDbid()));
+        }
     }
 
     public void delete(Type type) {
@@ -0,0 +1,110 @@
+package com.pokemonurpg.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.pokemonurpg.dto.security.SessionDto;
+import com.pokemonurpg.object.Member;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class VerifiedSessionCache {
+
+    static final long MAXIMUM_SIZE = 10000;
+    static final long MAXIMUM_AGE_MINUTES = 30;
+    static final long EXPIRY_MARGIN_SECONDS = 60;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Cache<String, VerifiedSession> sessions = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(MAXIMUM_AGE_MINUTES, TimeUnit.MINUTES)
+            .removalListener(notification -> {
+                if (notification.wasEvicted()) {
+                    evictions.incrementAndGet();
+                }
+            })
+            .build();
+
+    public boolean isVerified(SessionDto input) {
+        String key = key(input.getAccessToken());
+        VerifiedSession session = sessions.getIfPresent(key);
+        if (session == null) {
+            misses.incrementAndGet();
+            return false;
+        }
+
+        if (!session.isActive()) {
+            sessions.invalidate(key);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return false;
+        }
+
+        if (session.matches(input)) {
+            hits.incrementAndGet();
+            return true;
+        }
+        else {
+            misses.incrementAndGet();
+            return false;
+        }
+    }
+
+    public void put(SessionDto input, Member member) {
+        if (member.getSessionExpire() != null) {
+            sessions.put(key(input.getAccessToken()), new VerifiedSession(member.getDiscordId(), member.getUsername(), member.getSessionExpire()));
+        }
+    }
+
+    public void invalidate(String discordId) {
+        if (discordId != null) {
+            sessions.asMap().values().removeIf(session -> discordId.equals(session.discordId));
+        }
+    }
+
+    public void invalidateAll() {
+        sessions.invalidateAll();
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put("size", sessions.size());
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("evictions", evictions.get());
+        return stats;
+    }
+
+    private String key(String accessToken) {
+        return Hashing.sha256().hashString(accessToken, StandardCharsets.UTF_8).toString();
+    }
+
+    private static class VerifiedSession {
+        private final String discordId;
+        private final String username;
+        private final long sessionExpire;
+
+        VerifiedSession(String discordId, String username, long sessionExpire) {
+            this.discordId = discordId;
+            this.username = username;
+            this.sessionExpire = sessionExpire;
+        }
+
+        boolean isActive() {
+            return (System.currentTimeMillis() / 1000) < sessionExpire - EXPIRY_MARGIN_SECONDS;
+        }
+
+        boolean matches(SessionDto input) {
+            return discordId.equals(input.getId()) && username.equals(input.getUsername());
+        }
+    }
+}
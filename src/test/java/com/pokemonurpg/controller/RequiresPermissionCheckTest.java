@@ -0,0 +1,58 @@
+package com.pokemonurpg.controller;
+
+import com.pokemonurpg.RestResponse;
+import com.pokemonurpg.dto.security.Authenticated;
+import org.junit.Test;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class RequiresPermissionCheckTest {
+
+    private final GuardedController controller = new GuardedController();
+
+    @Test
+    public void acceptsHandlersThatReadAnAuthenticatedBody() throws Exception {
+        RequiresPermissionCheck.verify(Arrays.asList(
+                new HandlerMethod(controller, GuardedController.class.getMethod("update", Authenticated.class, String.class)),
+                new HandlerMethod(controller, GuardedController.class.getMethod("find", String.class))
+        ));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsHandlersWithoutABody() throws Exception {
+        RequiresPermissionCheck.verify(Collections.singletonList(
+                new HandlerMethod(controller, GuardedController.class.getMethod("delete", String.class))));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsHandlersWithAnUnauthenticatedBody() throws Exception {
+        RequiresPermissionCheck.verify(Collections.singletonList(
+                new HandlerMethod(controller, GuardedController.class.getMethod("create", String.class))));
+    }
+
+    static class GuardedController {
+
+        @RequiresPermission("Write User")
+        public RestResponse update(@RequestBody Authenticated<Object> input, @PathVariable("name") String name) {
+            return null;
+        }
+
+        public RestResponse find(@PathVariable("name") String name) {
+            return null;
+        }
+
+        @RequiresPermission("Write User")
+        public RestResponse delete(@PathVariable("name") String name) {
+            return null;
+        }
+
+        @RequiresPermission("Write User")
+        public RestResponse create(@RequestBody String input) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.*;
+import com.pokemonurpg.repository.MemberRoleRepository;
+import com.pokemonurpg.repository.PermissionRepository;
+import com.pokemonurpg.repository.RolePermissionRepository;
+import com.pokemonurpg.repository.RoleRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class AclServiceTest {
+
+    private static final int MEMBER_DBID = 1;
+    private static final int STAFF_ROLE_DBID = 2;
+    private static final int BANNED_ROLE_DBID = 3;
+
+    private AclService aclService;
+    private MemberRoleRepository memberRoleRepository = mock(MemberRoleRepository.class);
+    private RoleRepository roleRepository = mock(RoleRepository.class);
+    private RolePermissionRepository rolePermissionRepository = mock(RolePermissionRepository.class);
+    private PermissionRepository permissionRepository = mock(PermissionRepository.class);
+
+    @Before
+    public void init() {
+        aclService = new AclService(memberRoleRepository, roleRepository, rolePermissionRepository, permissionRepository);
+
+        when(permissionRepository.findAll()).thenReturn(Arrays.asList(buildPermission(4, "Write Pokemon"), buildPermission(5, "Invite User")));
+        when(memberRoleRepository.findByIdMemberDbid(MEMBER_DBID)).thenReturn(Collections.singletonList(new MemberRole(new MemberRoleKey(MEMBER_DBID, STAFF_ROLE_DBID))));
+        when(roleRepository.findAllById(any())).thenReturn(Collections.singletonList(buildRole(STAFF_ROLE_DBID, "Staff")));
+        when(rolePermissionRepository.findByIdRoleDbidIn(any())).thenReturn(Collections.singletonList(new RolePermission(new RolePermissionKey(STAFF_ROLE_DBID, 4))));
+    }
+
+    @Test
+    public void authorizeChecksEveryPermission() {
+        assertTrue(aclService.authorize(MEMBER_DBID, "Write Pokemon"));
+        assertFalse(aclService.authorize(MEMBER_DBID, "Write Pokemon", "Invite User"));
+        assertFalse(aclService.authorize(MEMBER_DBID, "Unknown Permission"));
+        assertFalse(aclService.isBanned(MEMBER_DBID));
+    }
+
+    @Test
+    public void permissionsAreResolvedOncePerMember() {
+        aclService.authorize(MEMBER_DBID, "Write Pokemon");
+        aclService.isBanned(MEMBER_DBID);
+        aclService.authorize(MEMBER_DBID, "Invite User");
+
+        verify(memberRoleRepository, times(1)).findByIdMemberDbid(anyInt());
+        verify(permissionRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void invalidateMemberPicksUpNewRoles() {
+        assertFalse(aclService.isBanned(MEMBER_DBID));
+
+        when(roleRepository.findAllById(any())).thenReturn(Collections.singletonList(buildRole(BANNED_ROLE_DBID, "Banned")));
+        aclService.invalidateMember(MEMBER_DBID);
+
+        assertTrue(aclService.isBanned(MEMBER_DBID));
+    }
+
+    private Permission buildPermission(int dbid, String name) {
+        Permission permission = new Permission(name);
+        permission.setDbid(dbid);
+        return permission;
+    }
+
+    private Role buildRole(int dbid, String name) {
+        Role role = new Role();
+        role.setDbid(dbid);
+        role.setName(name);
+        return role;
+    }
+}
@@ -0,0 +1,53 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.security.SessionDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class AuthenticationContextTest {
+
+    private AuthenticationContext authenticationContext;
+    private MemberService memberService = mock(MemberService.class);
+    private AclService aclService = mock(AclService.class);
+
+    private SessionDto session = new SessionDto("Ash", "1234", "access", "refresh");
+    private MemberPermissions permissions = new MemberPermissions(new BitSet(), false);
+
+    @Before
+    public void init() {
+        authenticationContext = new AuthenticationContext(memberService, aclService);
+    }
+
+    @Test
+    public void sessionIsAuthenticatedOncePerRequest() {
+        when(memberService.authenticate(session)).thenReturn(new AuthenticatedMember(1, "Ash", permissions));
+        when(aclService.authorize(permissions, "Write User")).thenReturn(true);
+
+        authenticationContext.resolve(session);
+        authenticationContext.resolve(session);
+
+        assertTrue(authenticationContext.isAuthenticated());
+        assertTrue(authenticationContext.isCurrentUser("Ash"));
+        assertFalse(authenticationContext.isCurrentUser("Gary"));
+        assertTrue(authenticationContext.hasPermissions("Write User"));
+        verify(memberService, times(1)).authenticate(any());
+    }
+
+    @Test
+    public void failedAuthenticationGrantsNothing() {
+        authenticationContext.resolve(session);
+        authenticationContext.resolve(session);
+
+        assertFalse(authenticationContext.isAuthenticated());
+        assertFalse(authenticationContext.isCurrentUser("Ash"));
+        assertFalse(authenticationContext.hasPermissions());
+        verify(memberService, times(1)).authenticate(any());
+        verify(aclService, never()).authorize(any(MemberPermissions.class));
+    }
+}
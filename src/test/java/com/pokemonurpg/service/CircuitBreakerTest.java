@@ -0,0 +1,39 @@
+package com.pokemonurpg.service;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class CircuitBreakerTest {
+
+    private AtomicLong now = new AtomicLong(1000);
+    private CircuitBreaker circuitBreaker = new CircuitBreaker(2, 100, now::get);
+
+    @Test
+    public void opensAfterConsecutiveFailuresAndProbesAfterCoolDown() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        assertTrue(circuitBreaker.allowRequest());
+
+        circuitBreaker.recordFailure();
+        assertFalse(circuitBreaker.allowRequest());
+
+        now.addAndGet(100);
+        assertTrue(circuitBreaker.allowRequest());
+        assertFalse(circuitBreaker.allowRequest());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+
+        circuitBreaker.recordFailure();
+        assertFalse(circuitBreaker.allowRequest());
+
+        now.addAndGet(100);
+        assertTrue(circuitBreaker.allowRequest());
+        circuitBreaker.recordSuccess();
+        assertTrue(circuitBreaker.allowRequest());
+        assertTrue(circuitBreaker.allowRequest());
+        assertEquals(2, circuitBreaker.getOpenedCount());
+    }
+}
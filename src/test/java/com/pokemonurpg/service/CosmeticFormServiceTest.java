@@ -1,5 +1,6 @@
 package com.pokemonurpg.service;
 
+import com.pokemonurpg.dto.species.input.CosmeticFormInputDto;
 import com.pokemonurpg.dto.species.response.CosmeticFormDto;
 import com.pokemonurpg.factory.TestObjectFactory;
 import com.pokemonurpg.object.CosmeticForm;
@@ -7,12 +8,13 @@ import com.pokemonurpg.repository.CosmeticFormRepository;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.*;
 
 public class CosmeticFormServiceTest {
 
@@ -50,4 +52,52 @@ public class CosmeticFormServiceTest {
         assertEquals(0, responseList.size());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void updateAllSkipsUnchangedForms() {
+        int speciesDbid = TestObjectFactory.TEST_SPECIES_DBID;
+        when(cosmeticFormRepository.findByIdSpeciesDbid(speciesDbid)).thenReturn(Collections.singletonList(spikyEaredPikachu));
+
+        cosmeticFormService.updateAll(speciesDbid, Collections.singletonList(buildInput(spikyEaredPikachu.getName(), spikyEaredPikachu.getFormName(), false)), spikyEaredPikachu.getMethod());
+
+        verify(cosmeticFormRepository, never()).saveAll(any());
+        verify(cosmeticFormRepository, never()).insertAll(any());
+        verify(cosmeticFormRepository, never()).deleteBySpeciesDbidAndNameIn(anyInt(), anyCollection());
+    }
+
+    @Test
+    public void updateAllAppliesOnlyTheDifference() {
+        int speciesDbid = TestObjectFactory.TEST_SPECIES_DBID;
+        when(cosmeticFormRepository.findByIdSpeciesDbid(speciesDbid)).thenReturn(Collections.singletonList(spikyEaredPikachu));
+
+        cosmeticFormService.updateAll(speciesDbid, Arrays.asList(
+                buildInput(spikyEaredPikachu.getName(), null, true),
+                buildInput("Pikachu-Cap", "Cap Pikachu", false)
+        ), null);
+
+        verify(cosmeticFormRepository, times(1)).deleteBySpeciesDbidAndNameIn(speciesDbid, Collections.singleton(spikyEaredPikachu.getName()));
+        verify(cosmeticFormRepository, never()).saveAll(any());
+        verify(cosmeticFormRepository, times(1)).insertAll(any());
+    }
+
+    @Test
+    public void updateAllKeepsFormsListedAgainAfterADelete() {
+        int speciesDbid = TestObjectFactory.TEST_SPECIES_DBID;
+        when(cosmeticFormRepository.findByIdSpeciesDbid(speciesDbid)).thenReturn(Collections.singletonList(spikyEaredPikachu));
+
+        cosmeticFormService.updateAll(speciesDbid, Arrays.asList(
+                buildInput(spikyEaredPikachu.getName(), null, true),
+                buildInput(spikyEaredPikachu.getName(), spikyEaredPikachu.getFormName(), false)
+        ), spikyEaredPikachu.getMethod());
+
+        verify(cosmeticFormRepository, never()).deleteBySpeciesDbidAndNameIn(anyInt(), anyCollection());
+        verify(cosmeticFormRepository, never()).saveAll(any());
+    }
+
+    private CosmeticFormInputDto buildInput(String name, String formName, boolean deleted) {
+        CosmeticFormInputDto input = new CosmeticFormInputDto();
+        input.setName(name);
+        input.setFormName(formName);
+        input.setDeleted(deleted);
+        return input;
+    }
+}
@@ -0,0 +1,60 @@
+package com.pokemonurpg.service;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class DataSourceMetricsServiceTest {
+
+    private DataSourceMetricsService dataSourceMetricsService = new DataSourceMetricsService();
+
+    @Test
+    public void countsValuesAtABoundaryInThatBucket() {
+        for (long millis : DataSourceMetricsService.ACQUIRE_BUCKETS_MILLIS) {
+            dataSourceMetricsService.recordAcquire(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        assertEquals(Arrays.asList(1L, 1L, 1L, 1L, 1L, 1L, 1L, 0L), bucketCounts());
+    }
+
+    @Test
+    public void countsValuesJustAboveABoundaryInTheNextBucket() {
+        for (long millis : DataSourceMetricsService.ACQUIRE_BUCKETS_MILLIS) {
+            dataSourceMetricsService.recordAcquire(TimeUnit.MILLISECONDS.toNanos(millis) + 1);
+        }
+
+        assertEquals(Arrays.asList(0L, 1L, 1L, 1L, 1L, 1L, 1L, 1L), bucketCounts());
+    }
+
+    @Test
+    public void countsValuesAboveTheLastBoundaryAsOverflow() {
+        dataSourceMetricsService.recordAcquire(TimeUnit.MILLISECONDS.toNanos(1001));
+        dataSourceMetricsService.recordAcquire(TimeUnit.SECONDS.toNanos(30));
+        dataSourceMetricsService.recordAcquire(0);
+
+        assertEquals(Arrays.asList(1L, 0L, 0L, 0L, 0L, 0L, 0L, 2L), bucketCounts());
+        Map<String, Object> stats = dataSourceMetricsService.getStats();
+        assertEquals(3L, stats.get("acquireCount"));
+        assertEquals(30000.0, (Double) stats.get("acquireMaxMillis"), 0.0);
+    }
+
+    @Test
+    public void labelsBucketsByTheirUpperBound() {
+        assertEquals(Arrays.asList("<=1ms", "<=5ms", "<=10ms", "<=50ms", "<=100ms", "<=500ms", "<=1000ms", ">1000ms"),
+                Arrays.asList(histogram().keySet().toArray()));
+    }
+
+    private List<Object> bucketCounts() {
+        return Arrays.asList(histogram().values().toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> histogram() {
+        return (Map<String, Long>) dataSourceMetricsService.getStats().get("acquireHistogram");
+    }
+}
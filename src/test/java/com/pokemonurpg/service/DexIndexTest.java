@@ -0,0 +1,53 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.species.response.SpeciesPageTabDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DexIndexTest {
+
+    private DexIndex dexIndex;
+
+    @Before
+    public void init() {
+        dexIndex = new DexIndex(Arrays.asList(
+                new Object[] { 1, 1, "Bulbasaur", "Bulbasaur" },
+                new Object[] { 25, 999, "Pikachu", "Pikachu" },
+                new Object[] { 25, 1001, "Pikachu-Belle", "Pikachu" },
+                new Object[] { 26, 1000, "Raichu", "Raichu" },
+                new Object[] { 151, 151, "Mew", "Mew" }
+        ));
+    }
+
+    @Test
+    public void keepsFirstFormPerDexno() {
+        assertEquals(4, dexIndex.size());
+        assertEquals(999, dexIndex.getFirstFormDbid(25));
+        assertEquals("Pikachu", dexIndex.getFirstFormName(25));
+        assertEquals(DexIndex.NONE, dexIndex.getFirstFormDbid(2));
+    }
+
+    @Test
+    public void prevAndNextWrapAround() {
+        assertEquals(151, dexIndex.getPrevDex(1));
+        assertEquals(1, dexIndex.getNextDex(151));
+        assertEquals(26, dexIndex.getNextDex(25));
+        assertEquals(25, dexIndex.getPrevDex(26));
+        assertEquals(DexIndex.NONE, dexIndex.getNextDex(2));
+    }
+
+    @Test
+    public void returnsPageTabsWithinRange() {
+        List<SpeciesPageTabDto> tabs = dexIndex.getPageTabs(2, 100);
+        assertEquals(2, tabs.size());
+        assertEquals(25, tabs.get(0).getDexno());
+        assertEquals("Raichu", tabs.get(1).getName());
+        assertTrue(dexIndex.getPageTabs(152, 200).isEmpty());
+        assertEquals(4, dexIndex.getPageTabs(1, 151).size());
+    }
+}
@@ -26,7 +26,7 @@ public class EvolutionServiceTest {
 
     @Before
     public void init() {
-        evolutionService = new EvolutionService(evolutionRepository, speciesRepository);
+        evolutionService = new EvolutionService(evolutionRepository, speciesRepository, mock(SpeciesGraphService.class));
     }
 
     @Test
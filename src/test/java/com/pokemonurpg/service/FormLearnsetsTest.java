@@ -0,0 +1,61 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.factory.TestObjectFactory;
+import com.pokemonurpg.object.Attack;
+import com.pokemonurpg.object.Species;
+import com.pokemonurpg.object.SpeciesAttack;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class FormLearnsetsTest {
+
+    private Attack thundershock = TestObjectFactory.createThundershock();
+    private Attack thunder = TestObjectFactory.createThunder();
+    private Attack voltTackle = TestObjectFactory.createVoltTackle();
+    private Attack icicleCrash = TestObjectFactory.createIcicleCrash();
+
+    @Test
+    public void movesLearnedTheSameWayByEveryFormAreNotUnique() {
+        FormLearnsets formLearnsets = new FormLearnsets(Arrays.asList(
+                learnset(TestObjectFactory.TEST_SPECIES_DBID, thundershock, "LEVEL-UP", thunder, "TM", voltTackle, "LEVEL-UP"),
+                learnset(TestObjectFactory.TEST_ALTERNATE_FORM_DBID, thundershock, "LEVEL-UP", thunder, "LEVEL-UP", icicleCrash, "TM")
+        ));
+
+        BitSet unique = formLearnsets.findUnique();
+
+        assertEquals(Arrays.asList(TestObjectFactory.TEST_ATTACK_4_NAME, TestObjectFactory.TEST_ATTACK_2_NAME, TestObjectFactory.TEST_ATTACK_3_NAME), formLearnsets.getNames(unique));
+
+        HashMap<String, String> first = formLearnsets.getMethods(0, unique);
+        assertEquals("TM", first.get(TestObjectFactory.TEST_ATTACK_2_NAME));
+        assertEquals("LEVEL-UP", first.get(TestObjectFactory.TEST_ATTACK_3_NAME));
+        assertTrue(first.containsKey(TestObjectFactory.TEST_ATTACK_4_NAME));
+        assertNull(first.get(TestObjectFactory.TEST_ATTACK_4_NAME));
+        assertFalse(first.containsKey(TestObjectFactory.TEST_ATTACK_1_NAME));
+    }
+
+    @Test
+    public void moveMissingFromAMiddleFormIsUnique() {
+        FormLearnsets formLearnsets = new FormLearnsets(Arrays.asList(
+                learnset(TestObjectFactory.TEST_SPECIES_DBID, thundershock, "LEVEL-UP"),
+                learnset(TestObjectFactory.TEST_ALTERNATE_FORM_DBID, thunder, "TM"),
+                learnset(TestObjectFactory.TEST_MEGA_EVOLUTION_DBID, thundershock, "LEVEL-UP")
+        ));
+
+        assertEquals(Arrays.asList(TestObjectFactory.TEST_ATTACK_2_NAME, TestObjectFactory.TEST_ATTACK_1_NAME), formLearnsets.getNames(formLearnsets.findUnique()));
+    }
+
+    private List<SpeciesAttack> learnset(int speciesDbid, Object... attacksAndMethods) {
+        Species species = new Species();
+        species.setDbid(speciesDbid);
+        List<SpeciesAttack> learnset = new ArrayList<>();
+        for (int i = 0; i < attacksAndMethods.length; i += 2) {
+            SpeciesAttack speciesAttack = TestObjectFactory.buildSpeciesAttack((Attack) attacksAndMethods[i], species);
+            speciesAttack.setMethod((String) attacksAndMethods[i + 1]);
+            learnset.add(speciesAttack);
+        }
+        return learnset;
+    }
+}
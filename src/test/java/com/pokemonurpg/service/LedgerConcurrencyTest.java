@@ -0,0 +1,126 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.stats.input.StatsInputDto;
+import com.pokemonurpg.dto.stats.response.OwnedItemDto;
+import com.pokemonurpg.object.Item;
+import com.pokemonurpg.object.Member;
+import com.pokemonurpg.repository.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class LedgerConcurrencyTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private OwnedItemRepository ownedItemRepository;
+    @Autowired
+    private LogRecordRepository logRecordRepository;
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+    @Autowired
+    private LedgerSnapshotRepository ledgerSnapshotRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactions;
+    private LedgerService ledgerService;
+    private StatsService statsService;
+    private Member ash;
+    private Item rareCandy;
+
+    @Before
+    public void init() {
+        transactions = new TransactionTemplate(transactionManager);
+        ledgerService = new LedgerService(ledgerEntryRepository, ledgerSnapshotRepository, true, 0, 100);
+        LogService logService = new LogService(logRecordRepository, mock(LogArchiveService.class), false, 1, 1, 1, 1);
+        OwnedItemService ownedItemService = new OwnedItemService(itemRepository, ownedItemRepository, logService, ledgerService);
+        statsService = new StatsService(memberRepository, mock(OwnedPokemonRepository.class), logService, itemRepository, ownedItemService,
+                mock(TypeRepository.class), mock(MemberService.class), mock(TrainerStatsLoader.class), ledgerService);
+
+        ash = new Member();
+        ash.setUsername("Ash");
+        ash.setMoney(1000);
+        ash.setWins(0);
+        ash.setLosses(0);
+        ash.setDraws(0);
+        ash = memberRepository.save(ash);
+        rareCandy = new Item();
+        rareCandy.setName("Rare Candy");
+        rareCandy = itemRepository.save(rareCandy);
+    }
+
+    @After
+    public void cleanUp() {
+        logRecordRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        ledgerSnapshotRepository.deleteAll();
+        ownedItemRepository.deleteAll();
+        itemRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    public void ledgerMatchesTheLiveBalancesUnderConcurrentEdits() {
+        List<CompletableFuture<Void>> writers = new ArrayList<>();
+        for (int writer = 0; writer < 2; writer++) {
+            int base = 2000 + writer * 1000;
+            writers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < ROUNDS; i++) {
+                    StatsInputDto input = new StatsInputDto();
+                    input.setName("Ash");
+                    input.setMoney(base + i);
+                    OwnedItemDto candies = new OwnedItemDto();
+                    candies.setName("Rare Candy");
+                    candies.setQuantity(base / 1000 + i);
+                    input.setItems(Collections.singletonList(candies));
+                    transactions.execute(status -> statsService.updateStats("Referee", input, "Ash"));
+                }
+            }));
+        }
+        writers.add(CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < ROUNDS; i++) {
+                transactions.execute(status -> statsService.applyDelta("Referee", "Ash", "money", 10, null));
+            }
+        }));
+        CompletableFuture.allOf(writers.toArray(new CompletableFuture[0])).join();
+
+        Member stored = memberRepository.findByDbid(ash.getDbid());
+        int quantity = ownedItemRepository.findByIdTrainerDbidAndIdItemDbid(ash.getDbid(), rareCandy.getDbid()).getQuantity();
+        assertEquals(Long.valueOf(stored.getMoney()), ledgerService.getBalance(ash.getDbid(), LedgerService.MONEY));
+        assertEquals(Long.valueOf(quantity), ledgerService.getBalance(ash.getDbid(), rareCandy.getDbid()));
+
+        ledgerService.compact(new Date(System.currentTimeMillis() + 1000));
+        assertEquals(Long.valueOf(stored.getMoney()), ledgerService.getBalance(ash.getDbid(), LedgerService.MONEY));
+    }
+}
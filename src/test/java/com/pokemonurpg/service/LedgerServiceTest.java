@@ -0,0 +1,101 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.LedgerEntry;
+import com.pokemonurpg.object.LedgerSnapshot;
+import com.pokemonurpg.repository.LedgerEntryRepository;
+import com.pokemonurpg.repository.LedgerSnapshotRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.MockitoAnnotations;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class LedgerServiceTest {
+
+    private static final int ASH = 7;
+    private static final int RARE_CANDY = 12;
+
+    private LedgerEntryRepository ledgerEntryRepository = mock(LedgerEntryRepository.class);
+    private LedgerSnapshotRepository ledgerSnapshotRepository = mock(LedgerSnapshotRepository.class);
+    private LedgerService ledgerService = new LedgerService(ledgerEntryRepository, ledgerSnapshotRepository, true, 60000, 100);
+
+    @Captor
+    private ArgumentCaptor<List<LedgerSnapshot>> saved;
+
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    public void firstEntryOpensTheAssetWithItsPriorBalance() {
+        ledgerService.record(ASH, LedgerService.MONEY, 500, 1500, LedgerService.REASON_ADJUSTMENT, "Referee");
+
+        ArgumentCaptor<LedgerSnapshot> opening = ArgumentCaptor.forClass(LedgerSnapshot.class);
+        verify(ledgerSnapshotRepository).save(opening.capture());
+        assertEquals(1000, opening.getValue().getBalance());
+        assertEquals(0, opening.getValue().getLastEntryDbid());
+        verify(ledgerEntryRepository).save(any(LedgerEntry.class));
+    }
+
+    @Test
+    public void laterEntriesOnlyAppend() {
+        when(ledgerSnapshotRepository.findOpeningForUpdate(ASH, LedgerService.MONEY))
+                .thenReturn(new LedgerSnapshot(ASH, LedgerService.MONEY, 1000, 0, new Date(0)));
+
+        ledgerService.record(ASH, LedgerService.MONEY, -200, 800, LedgerService.REASON_ADJUSTMENT, "Referee");
+
+        verify(ledgerSnapshotRepository, never()).save(any(LedgerSnapshot.class));
+        verify(ledgerEntryRepository).save(any(LedgerEntry.class));
+    }
+
+    @Test
+    public void balanceIsTheLatestSnapshotPlusTheTail() {
+        when(ledgerSnapshotRepository.findFirstByMemberDbidAndItemDbidOrderByDbidDesc(ASH, RARE_CANDY))
+                .thenReturn(new LedgerSnapshot(ASH, RARE_CANDY, 4, 40, new Date(0)));
+        when(ledgerEntryRepository.sumAfter(ASH, RARE_CANDY, 40)).thenReturn(-1L);
+
+        assertEquals(Long.valueOf(3), ledgerService.getBalance(ASH, RARE_CANDY));
+        assertNull(ledgerService.getBalance(ASH, LedgerService.MONEY));
+    }
+
+    @Test
+    public void compactionFoldsSettledEntriesIntoNewSnapshots() {
+        Date settled = new Date(10000);
+        when(ledgerSnapshotRepository.findCompactedThrough()).thenReturn(100);
+        when(ledgerEntryRepository.findLastSettledDbid(settled)).thenReturn(250);
+        when(ledgerEntryRepository.sumByAssetBetween(100, 200)).thenReturn(Arrays.asList(
+                new Object[] { ASH, LedgerService.MONEY, 300L, new Date(5000) },
+                new Object[] { ASH, RARE_CANDY, 2L, new Date(6000) }));
+        when(ledgerEntryRepository.sumByAssetBetween(200, 250)).thenReturn(Collections.emptyList());
+        when(ledgerSnapshotRepository.findLatestForMembers(Collections.singletonList(ASH))).thenReturn(Collections.singletonList(
+                new LedgerSnapshot(ASH, LedgerService.MONEY, 1000, 100, new Date(4000))));
+
+        assertEquals(2, ledgerService.compact(settled));
+
+        verify(ledgerSnapshotRepository).saveAll(saved.capture());
+        LedgerSnapshot money = saved.getValue().get(0);
+        LedgerSnapshot candy = saved.getValue().get(1);
+        assertEquals(1300, money.getBalance());
+        assertEquals(200, money.getLastEntryDbid());
+        assertEquals(new Date(5000), money.getTimestamp());
+        assertEquals(2, candy.getBalance());
+        assertEquals(250, ledgerService.getStats().get("compactedThrough"));
+    }
+
+    @Test
+    public void nothingSettledMeansNothingWritten() {
+        when(ledgerEntryRepository.findLastSettledDbid(any(Date.class))).thenReturn(null);
+
+        assertEquals(0, ledgerService.compact(new Date()));
+        verify(ledgerEntryRepository, never()).sumByAssetBetween(anyInt(), anyInt());
+        verify(ledgerSnapshotRepository, never()).saveAll(any());
+    }
+}
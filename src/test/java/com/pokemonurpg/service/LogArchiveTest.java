@@ -0,0 +1,130 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.stats.response.LogRecordDto;
+import com.pokemonurpg.repository.LogRecordRepository;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class LogArchiveTest {
+
+    private static final int ASH = 1;
+    private static final int MISTY = 2;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private LogArchive logArchive;
+
+    @Before
+    public void init() throws IOException {
+        directory = folder.getRoot().toPath();
+        logArchive = new LogArchive(directory);
+    }
+
+    @Test
+    public void readsAcrossMonthlySegmentsNewestFirst() throws IOException {
+        Map<Integer, List<LogRecordDto>> logs = new HashMap<>();
+        logs.put(ASH, Arrays.asList(log(1, 2026, 1, 5), log(2, 2026, 1, 20), log(3, 2026, 2, 1)));
+        logs.put(MISTY, Collections.singletonList(log(4, 2026, 1, 6)));
+        logArchive.append(logs);
+        logArchive.append(Collections.singletonMap(ASH, Collections.singletonList(log(5, 2026, 2, 10))));
+
+        assertEquals(Arrays.asList(5, 3, 2, 1), dbids(logArchive.readBefore(ASH, Long.MAX_VALUE, Integer.MAX_VALUE, 10)));
+        assertEquals(Arrays.asList(3, 2), dbids(logArchive.readBefore(ASH, millis(2026, 2, 10), 5, 2)));
+        assertEquals(Collections.singletonList(4), dbids(logArchive.readBefore(MISTY, Long.MAX_VALUE, Integer.MAX_VALUE, 10)));
+        assertTrue(Files.exists(directory.resolve("log-2026-01.seg")));
+        assertTrue(Files.exists(directory.resolve("log-2026-02.idx")));
+        assertEquals(2, logArchive.getStats().get("segments"));
+    }
+
+    @Test
+    public void reopensFromDiskAndIgnoresTornIndexWrites() throws IOException {
+        logArchive.append(Collections.singletonMap(ASH, Arrays.asList(log(1, 2026, 3, 1), log(2, 2026, 3, 2))));
+        Files.write(directory.resolve("log-2026-03.idx"), new byte[] { 0, 0, 0, 1, 0 }, StandardOpenOption.APPEND);
+
+        LogArchive reopened = new LogArchive(directory);
+        reopened.append(Collections.singletonMap(ASH, Collections.singletonList(log(3, 2026, 3, 3))));
+
+        assertEquals(Arrays.asList(3, 2, 1), dbids(new LogArchive(directory).readBefore(ASH, Long.MAX_VALUE, Integer.MAX_VALUE, 10)));
+    }
+
+    @Test
+    public void disabledArchivingLeavesAMissingDirectoryAlone() throws IOException {
+        Path missing = directory.resolve("disabled");
+
+        LogArchive disabled = LogArchiveService.openArchive(false, missing);
+
+        assertFalse(Files.exists(missing));
+        assertTrue(disabled.readBefore(ASH, Long.MAX_VALUE, Integer.MAX_VALUE, 10).isEmpty());
+        assertEquals(0, disabled.getStats().get("segments"));
+
+        LogArchiveService.openArchive(true, missing);
+        assertTrue(Files.isDirectory(missing));
+    }
+
+    @Test
+    public void disabledArchivingStillReadsAnExistingDirectory() throws IOException {
+        logArchive.append(Collections.singletonMap(ASH, Collections.singletonList(log(1, 2026, 3, 1))));
+
+        LogArchive disabled = LogArchiveService.openArchive(false, directory);
+
+        assertEquals(Collections.singletonList(1), dbids(disabled.readBefore(ASH, Long.MAX_VALUE, Integer.MAX_VALUE, 10)));
+    }
+
+    @Test
+    public void recordsArchivedTwiceAreReturnedOnce() throws IOException {
+        Map<Integer, List<LogRecordDto>> logs = Collections.singletonMap(ASH, Collections.singletonList(log(1, 2026, 4, 1)));
+        logArchive.append(logs);
+        logArchive.append(logs);
+
+        assertEquals(Collections.singletonList(1), dbids(logArchive.readBefore(ASH, Long.MAX_VALUE, Integer.MAX_VALUE, 10)));
+    }
+
+    @Test
+    public void archivingMovesExpiredRowsAndDeletesThem() throws IOException {
+        LogRecordRepository logRecordRepository = mock(LogRecordRepository.class);
+        List<Object[]> rows = Arrays.asList(
+                new Object[] { 11, ASH, new Date(millis(2026, 5, 1)), "added $100" },
+                new Object[] { 12, null, new Date(millis(2026, 5, 2)), "system message" });
+        when(logRecordRepository.findArchivableBefore(any(Date.class), any(Pageable.class))).thenReturn(rows);
+        LogArchiveService logArchiveService = new LogArchiveService(logRecordRepository, logArchive, true, 90, 500);
+
+        assertEquals(2, logArchiveService.archiveOlderThan(new Date(millis(2026, 6, 1))));
+
+        verify(logRecordRepository).deleteByDbidIn(Arrays.asList(11, 12));
+        assertEquals("added $100", logArchiveService.findBefore(ASH, Long.MAX_VALUE, Integer.MAX_VALUE, 10).get(0).getMessage());
+        assertEquals(1, logArchiveService.findBefore(LogArchiveService.NO_MEMBER, Long.MAX_VALUE, Integer.MAX_VALUE, 10).size());
+    }
+
+    private static LogRecordDto log(int dbid, int year, int month, int day) {
+        return new LogRecordDto(dbid, new Date(millis(year, month, day)), "log " + dbid);
+    }
+
+    private static long millis(int year, int month, int day) {
+        return LocalDateTime.of(year, month, day, 12, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static List<Integer> dbids(List<LogRecordDto> logs) {
+        List<Integer> dbids = new ArrayList<>();
+        for (LogRecordDto log : logs) {
+            dbids.add(log.getDbid());
+        }
+        return dbids;
+    }
+}
@@ -0,0 +1,160 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.stats.response.LogPageDto;
+import com.pokemonurpg.dto.stats.response.LogRecordDto;
+import com.pokemonurpg.object.LogRecord;
+import com.pokemonurpg.object.Member;
+import com.pokemonurpg.repository.LogRecordRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.*;
+
+public class LogServiceTest {
+
+    private LogRecordRepository logRecordRepository = mock(LogRecordRepository.class);
+    private LogArchiveService logArchiveService = mock(LogArchiveService.class);
+    @Captor
+    private ArgumentCaptor<List<LogRecord>> batch;
+
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    public void writesSynchronouslyWhenWriteBehindIsDisabled() {
+        LogService logService = new LogService(logRecordRepository, logArchiveService, false, 100, 10, 500, 1000);
+
+        logService.log(new Member(), "added $100");
+
+        verify(logRecordRepository).save(any(LogRecord.class));
+        verify(logRecordRepository, never()).insertBatch(any());
+    }
+
+    @Test
+    public void batchesWritesOffTheCallingThreadAndFlushesOnShutdown() {
+        LogService logService = new LogService(logRecordRepository, logArchiveService, true, 100, 10, 60000, 5000);
+        LogRecord log = new LogRecord(new Member(), "added $100");
+
+        logService.log(log);
+        logService.shutdown();
+
+        verify(logRecordRepository).insertBatch(Collections.singletonList(log));
+        verify(logRecordRepository, never()).save(any(LogRecord.class));
+    }
+
+    @Test
+    public void batchesWritesInsideTheCallersTransactionUntilCommit() {
+        LogService logService = new LogService(logRecordRepository, logArchiveService, true, 100, 10, 60000, 5000);
+        LogRecord first = new LogRecord(new Member(), "added $100");
+        LogRecord second = new LogRecord(new Member(), "added 1 win");
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            logService.log(first);
+            logService.log(second);
+            logService.logInCurrentTransaction(new Member(), "added 1 loss");
+            verify(logRecordRepository, never()).insertBatch(any());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.beforeCommit(false);
+            }
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        logService.shutdown();
+
+        verify(logRecordRepository).insertBatch(batch.capture());
+        assertEquals(3, batch.getValue().size());
+        assertSame(first, batch.getValue().get(0));
+        assertSame(second, batch.getValue().get(1));
+        verify(logRecordRepository, never()).save(any(LogRecord.class));
+    }
+
+    @Test
+    public void discardsTheTransactionBufferOnRollback() {
+        LogService logService = new LogService(logRecordRepository, logArchiveService, true, 100, 10, 60000, 5000);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            logService.log(new Member(), "added $100");
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        logService.shutdown();
+
+        verify(logRecordRepository, never()).insertBatch(any());
+        verify(logRecordRepository, never()).save(any(LogRecord.class));
+    }
+
+    @Test
+    public void fallsBackToSynchronousWritesAfterShutdown() {
+        LogService logService = new LogService(logRecordRepository, logArchiveService, true, 100, 10, 60000, 5000);
+        logService.shutdown();
+
+        logService.log(new Member(), "added $100");
+
+        verify(logRecordRepository).save(any(LogRecord.class));
+    }
+
+    @Test
+    public void pagesBackwardsWithATimestampAndDbidCursor() {
+        LogService logService = new LogService(logRecordRepository, logArchiveService, false, 100, 10, 500, 1000);
+        when(logRecordRepository.findLatestForMember(eq(7), any(Pageable.class))).thenReturn(new ArrayList<>(Arrays.asList(
+                new LogRecordDto(30, new Date(3000), "third"), new LogRecordDto(20, new Date(2000), "second"),
+                new LogRecordDto(10, new Date(2000), "first"))));
+
+        LogPageDto page = logService.findPageForMember(7, null, 2);
+
+        assertEquals(2, page.getLogs().size());
+        assertEquals("2000:20", page.getNextCursor());
+        verify(logRecordRepository).findLatestForMember(7, PageRequest.of(0, 3));
+
+        when(logRecordRepository.findBeforeForMember(eq(7), any(Date.class), anyInt(), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(new LogRecordDto(10, new Date(2000), "first")));
+
+        page = logService.findPageForMember(7, page.getNextCursor(), 2);
+
+        assertEquals(1, page.getLogs().size());
+        assertNull(page.getNextCursor());
+        verify(logRecordRepository).findBeforeForMember(7, new Date(2000), 20, PageRequest.of(0, 3));
+    }
+
+    @Test
+    public void continuesIntoTheArchiveWhenTheHotTableRunsOut() {
+        LogService logService = new LogService(logRecordRepository, logArchiveService, false, 100, 10, 500, 1000);
+        when(logRecordRepository.findLatestForMember(eq(7), any(Pageable.class)))
+                .thenReturn(Collections.singletonList(new LogRecordDto(50, new Date(5000), "recent")));
+        when(logArchiveService.findBefore(7, 5000, 50, 2)).thenReturn(Arrays.asList(
+                new LogRecordDto(10, new Date(1000), "archived"), new LogRecordDto(9, new Date(900), "older")));
+
+        LogPageDto page = logService.findPageForMember(7, null, 2);
+
+        assertEquals(Arrays.asList("recent", "archived"), Arrays.asList(page.getLogs().get(0).getMessage(), page.getLogs().get(1).getMessage()));
+        assertEquals("1000:10", page.getNextCursor());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsMalformedCursors() {
+        new LogService(logRecordRepository, logArchiveService, false, 100, 10, 500, 1000).findPageForMember(7, "yesterday", 10);
+    }
+}
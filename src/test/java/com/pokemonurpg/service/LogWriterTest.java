@@ -0,0 +1,113 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.LogRecord;
+import com.pokemonurpg.object.Member;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class LogWriterTest {
+
+    private List<List<LogRecord>> batches = new CopyOnWriteArrayList<>();
+    private List<LogRecord> singles = new CopyOnWriteArrayList<>();
+    private LogWriter logWriter;
+
+    @After
+    public void tearDown() {
+        if (logWriter != null) {
+            logWriter.shutdown(1000);
+        }
+    }
+
+    @Test
+    public void flushesFullBatchesWithoutWaitingForTheInterval() throws Exception {
+        CountDownLatch twoBatches = new CountDownLatch(2);
+        logWriter = new LogWriter(batch -> {
+            batches.add(new ArrayList<>(batch));
+            twoBatches.countDown();
+        }, singles::add, 100, 10, TimeUnit.MINUTES.toMillis(1));
+        logWriter.start();
+
+        for (int i = 0; i < 25; i++) {
+            assertTrue(logWriter.offer(record("log " + i)));
+        }
+
+        assertTrue(twoBatches.await(5, TimeUnit.SECONDS));
+        assertEquals(10, batches.get(0).size());
+        assertEquals("log 0", batches.get(0).get(0).getMessage());
+    }
+
+    @Test
+    public void flushesPartialBatchesOnTheInterval() throws Exception {
+        CountDownLatch flushed = new CountDownLatch(1);
+        logWriter = new LogWriter(batch -> {
+            batches.add(new ArrayList<>(batch));
+            flushed.countDown();
+        }, singles::add, 100, 50, 20);
+        logWriter.start();
+
+        logWriter.offer(record("one"));
+        logWriter.offer(record("two"));
+
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, batches.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    public void rejectsOffersWhenFull() {
+        logWriter = new LogWriter(batches::add, singles::add, 2, 10, TimeUnit.MINUTES.toMillis(1));
+        logWriter.start();
+
+        assertTrue(logWriter.offer(record("one")));
+        assertTrue(logWriter.offer(record("two")));
+        assertFalse(logWriter.offer(record("three")));
+        assertEquals(1L, logWriter.getStats().get("rejected"));
+    }
+
+    @Test
+    public void shutdownWritesEverythingStillQueued() {
+        logWriter = new LogWriter(batch -> batches.add(new ArrayList<>(batch)), singles::add, 100, 50, TimeUnit.MINUTES.toMillis(1));
+        logWriter.start();
+        for (int i = 0; i < 7; i++) {
+            logWriter.offer(record("log " + i));
+        }
+
+        logWriter.shutdown(5000);
+
+        assertEquals(7, batches.stream().mapToInt(List::size).sum());
+        assertFalse(logWriter.offer(record("late")));
+    }
+
+    @Test
+    public void failedBatchFallsBackToSingleWrites() {
+        logWriter = new LogWriter(batch -> {
+            throw new IllegalStateException("batch rejected");
+        }, record -> {
+            if ("bad".equals(record.getMessage())) {
+                throw new IllegalStateException("row rejected");
+            }
+            singles.add(record);
+        }, 100, 50, TimeUnit.MINUTES.toMillis(1));
+        logWriter.start();
+        logWriter.offer(record("good"));
+        logWriter.offer(record("bad"));
+
+        logWriter.shutdown(5000);
+
+        assertEquals(Collections.singletonList("good"), Collections.singletonList(singles.get(0).getMessage()));
+        assertEquals(1L, logWriter.getStats().get("written"));
+        assertEquals(1L, logWriter.getStats().get("lost"));
+    }
+
+    private static LogRecord record(String message) {
+        return new LogRecord(new Member(), message);
+    }
+}
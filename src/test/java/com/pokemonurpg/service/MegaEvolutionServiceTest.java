@@ -9,7 +9,9 @@ import com.pokemonurpg.repository.SpeciesRepository;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -22,13 +24,14 @@ public class MegaEvolutionServiceTest {
     private MegaEvolutionRepository megaEvolutionRepository = mock(MegaEvolutionRepository.class);
     private SpeciesRepository speciesRepository = mock(SpeciesRepository.class);
     private SpeciesAbilityService speciesAbilityService = mock(SpeciesAbilityService.class);
+    private SpeciesGraphService speciesGraphService = mock(SpeciesGraphService.class);
 
     private MegaEvolution megaCharizardXRecord = TestObjectFactory.createMegaCharizardXRecord();
     private Species megaCharizardX = TestObjectFactory.createMegaCharizardX();
 
     @Before
     public void init() {
-        megaEvolutionService = new MegaEvolutionService(megaEvolutionRepository, speciesRepository, speciesAbilityService);
+        megaEvolutionService = new MegaEvolutionService(megaEvolutionRepository, speciesRepository, speciesAbilityService, speciesGraphService);
     }
 
     @Test
@@ -42,8 +45,8 @@ public class MegaEvolutionServiceTest {
     }
 
     @Test
-    public void findByMegaDbid() {
-        when(megaEvolutionRepository.findByIdMegaEvolutionDbid(TestObjectFactory.TEST_MEGA_EVOLUTION_DBID)).thenReturn(megaCharizardXRecord);
+    public void isMegaEvolution() {
+        when(speciesGraphService.getGraph()).thenReturn(new SpeciesGraph(new ArrayList<>(), new ArrayList<>(), Collections.singletonList(megaCharizardXRecord)));
 
         boolean isMega = megaEvolutionService.isMegaEvolution(TestObjectFactory.TEST_MEGA_EVOLUTION_DBID);
         assertTrue(isMega);
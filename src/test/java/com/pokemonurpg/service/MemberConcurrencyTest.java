@@ -0,0 +1,133 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.security.MemberInputDto;
+import com.pokemonurpg.dto.security.MemberRoleInputDto;
+import com.pokemonurpg.object.Member;
+import com.pokemonurpg.object.OAuthAccessTokenResponse;
+import com.pokemonurpg.object.Role;
+import com.pokemonurpg.repository.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(SpringRunner.class)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+public class MemberConcurrencyTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberRoleRepository memberRoleRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private RolePermissionRepository rolePermissionRepository;
+    @Autowired
+    private PermissionRepository permissionRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Member ash;
+
+    @Before
+    public void init() {
+        ash = new Member();
+        ash.setUsername("Ash");
+        ash.setSalt(42);
+        ash.setMoney(1000);
+        ash.setWins(0);
+        ash.setLosses(0);
+        ash.setDraws(0);
+        ash = memberRepository.save(ash);
+    }
+
+    @After
+    public void cleanUp() {
+        memberRoleRepository.deleteAll();
+        roleRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    public void sessionSaveKeepsAConcurrentDelta() throws Exception {
+        Member staleCopy = memberRepository.findByDbid(ash.getDbid());
+        memberRepository.addMoney(ash.getDbid(), 500, 0, Integer.MAX_VALUE);
+
+        SessionTokenService sessionTokenService = mock(SessionTokenService.class);
+        MemberService memberService = new MemberService(memberRepository, mock(RoleRepository.class), mock(MemberRoleService.class),
+                mock(MemberRoleRepository.class), mock(OAuthService.class), mock(VerifiedSessionCache.class), mock(AclService.class),
+                sessionTokenService, mock(RemoteWorkExecutor.class));
+        OAuthAccessTokenResponse tokens = new OAuthAccessTokenResponse();
+        tokens.setAccessToken("access");
+        tokens.setRefreshToken("refresh");
+        tokens.setExpiresIn("604800");
+        memberService.startSecureSession(staleCopy, tokens);
+
+        Member stored = memberRepository.findByDbid(ash.getDbid());
+        assertEquals(1500, stored.getMoney().intValue());
+        assertEquals(staleCopy.getAccessToken(), stored.getAccessToken());
+    }
+
+    @Test
+    public void managedSaveWritesOnlyChangedColumns() {
+        new TransactionTemplate(transactionManager).execute(status -> {
+            Member managed = memberRepository.findByUsername("Ash");
+            CompletableFuture.runAsync(() -> memberRepository.addWins(ash.getDbid(), 3, 0, StatsService.MAX_STAT_VALUE)).join();
+            managed.setUsername("Ash Ketchum");
+            memberRepository.save(managed);
+            return null;
+        });
+
+        Member stored = memberRepository.findByDbid(ash.getDbid());
+        assertEquals("Ash Ketchum", stored.getUsername());
+        assertEquals(3, stored.getWins().intValue());
+    }
+
+    @Test
+    public void roleChangeIsNotMaskedByAResolveBeforeCommit() {
+        Role banned = new Role();
+        banned.setName(AclService.BANNED_ROLE);
+        roleRepository.save(banned);
+
+        AclService aclService = new AclService(memberRoleRepository, roleRepository, rolePermissionRepository, permissionRepository);
+        VerifiedSessionCache verifiedSessionCache = mock(VerifiedSessionCache.class);
+        MemberService memberService = new MemberService(memberRepository, roleRepository, new MemberRoleService(memberRoleRepository, roleRepository, aclService),
+                memberRoleRepository, mock(OAuthService.class), verifiedSessionCache, aclService,
+                mock(SessionTokenService.class), mock(RemoteWorkExecutor.class));
+        MemberRoleInputDto role = new MemberRoleInputDto();
+        role.setName(AclService.BANNED_ROLE);
+        MemberInputDto input = new MemberInputDto();
+        input.setName("Ash");
+        input.setRoles(Collections.singletonList(role));
+
+        new TransactionTemplate(transactionManager).execute(status -> {
+            assertFalse(memberService.updateMember(input).hasErrors());
+            assertFalse(CompletableFuture.supplyAsync(() -> aclService.isBanned(ash.getDbid())).join());
+            verify(verifiedSessionCache, never()).invalidate(any());
+            return null;
+        });
+
+        assertTrue(aclService.isBanned(ash.getDbid()));
+        verify(verifiedSessionCache).invalidate(ash.getDiscordId());
+    }
+}
@@ -0,0 +1,80 @@
+package com.pokemonurpg.service;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NameIndexTest {
+
+    private NameIndex nameIndex;
+    private List<Object> names = new ArrayList<>(Arrays.asList("Pikachu", "Pichu", "Pikachu-Belle", "Raichu", "pidgey"));
+
+    @Before
+    public void init() {
+        nameIndex = new NameIndex(() -> names);
+    }
+
+    @Test
+    public void findFirstPrefersExactMatchThenAlphabetical() {
+        assertEquals("Pikachu", nameIndex.findFirst("pikachu"));
+        assertEquals("Pichu", nameIndex.findFirst("Pi"));
+        assertEquals("pidgey", nameIndex.findFirst("PID"));
+        assertNull(nameIndex.findFirst("Mew"));
+    }
+
+    @Test
+    public void suggestIsOrderedAndLimited() {
+        assertEquals(Arrays.asList("Pichu", "pidgey", "Pikachu"), nameIndex.suggest("pi", 3));
+        assertEquals(1, nameIndex.suggest("pi", 0).size());
+        assertTrue(nameIndex.suggest("z", 10).isEmpty());
+    }
+
+    @Test
+    public void addAndInvalidateUpdateTheIndex() {
+        assertEquals(5, nameIndex.size());
+        nameIndex.add("Pichu-Spiky");
+        assertEquals(Arrays.asList("Pichu", "Pichu-Spiky"), nameIndex.suggest("pich", 10));
+
+        names.add("Mew");
+        assertNull(nameIndex.findFirst("Mew"));
+        nameIndex.invalidate();
+        assertEquals("Mew", nameIndex.findFirst("Mew"));
+    }
+
+    @Test
+    public void reloadDoesNotPublishNamesInvalidatedWhileLoading() {
+        NameIndex[] index = new NameIndex[1];
+        index[0] = new NameIndex(() -> {
+            List<Object> loaded = new ArrayList<>(names);
+            if (!names.contains("Mew")) {
+                names.add("Mew");
+                index[0].invalidate();
+            }
+            return loaded;
+        });
+
+        assertNull(index[0].findFirst("Mew"));
+        assertEquals("Mew", index[0].findFirst("Mew"));
+    }
+
+    @Test
+    public void reloadDoesNotDropNamesAddedWhileLoading() {
+        NameIndex[] index = new NameIndex[1];
+        index[0] = new NameIndex(() -> {
+            List<Object> loaded = new ArrayList<>(names);
+            if (!names.contains("Mew")) {
+                names.add("Mew");
+                index[0].add("Mew");
+            }
+            return loaded;
+        });
+
+        assertEquals(5, index[0].size());
+        assertEquals("Mew", index[0].findFirst("Mew"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.OAuthAccessTokenResponse;
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class OAuthServiceTest {
+
+    private StubDiscordServer discord;
+    private OkHttpClient httpClient;
+    private OAuthService oAuthService;
+
+    @Before
+    public void init() throws Exception {
+        discord = new StubDiscordServer().start(0);
+        httpClient = new OkHttpClient.Builder()
+                .readTimeout(200, TimeUnit.MILLISECONDS)
+                .callTimeout(500, TimeUnit.MILLISECONDS)
+                .build();
+        oAuthService = new OAuthService(httpClient, discord.getBaseUrl(), new CircuitBreaker(3, 60000));
+    }
+
+    @After
+    public void shutdown() throws Exception {
+        discord.close();
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+
+    @Test
+    public void exchangesCodeAndLooksUpIdAsynchronously() throws Exception {
+        discord.addUser("stub-access-1", "42");
+
+        OAuthAccessTokenResponse token = oAuthService.exchangeCodeForAccessTokenAsync("code").get(5, TimeUnit.SECONDS);
+        assertEquals("stub-access-1", token.getAccessToken());
+        assertEquals("42", oAuthService.getDiscordIdAsync(token.getAccessToken()).get(5, TimeUnit.SECONDS));
+        assertEquals(StubDiscordServer.DEFAULT_DISCORD_ID, oAuthService.getDiscordId("someone-else"));
+        assertEquals(3L, oAuthService.getStats().get("calls"));
+    }
+
+    @Test
+    public void clientErrorsFailTheCallWithoutOpeningTheCircuit() {
+        for (int i = 0; i < 5; i++) {
+            assertNull(oAuthService.getDiscordId("invalid"));
+        }
+        assertEquals("CLOSED", oAuthService.getStats().get("circuit"));
+        assertEquals(5, discord.getRequestCount());
+    }
+
+    @Test
+    public void repeatedServerErrorsOpenTheCircuitAndFailFast() {
+        discord.setFailureStatus(503);
+        for (int i = 0; i < 3; i++) {
+            assertNull(oAuthService.refreshAccessToken("refresh"));
+        }
+
+        try {
+            oAuthService.getDiscordIdAsync("stub-access-1").get();
+            fail();
+        } catch (ExecutionException | InterruptedException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(3, discord.getRequestCount());
+        assertEquals("OPEN", oAuthService.getStats().get("circuit"));
+        assertEquals(1L, oAuthService.getStats().get("rejected"));
+    }
+
+    @Test
+    public void slowResponsesTimeOut() {
+        discord.setLatencyMillis(1000);
+
+        assertNull(oAuthService.getDiscordId("stub-access-1"));
+        assertEquals(1L, oAuthService.getStats().get("timeouts"));
+    }
+}
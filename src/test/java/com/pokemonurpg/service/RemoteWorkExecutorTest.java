@@ -0,0 +1,61 @@
+package com.pokemonurpg.service;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class RemoteWorkExecutorTest {
+
+    private RemoteWorkExecutor executor = new RemoteWorkExecutor(1, 1);
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void suppliesResultsOffTheCallingThread() throws Exception {
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Thread> worker = executor.supply(Thread::currentThread);
+        assertNotSame(caller, worker.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void saturatedPoolFailsFastInsteadOfBlocking() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = executor.supply(() -> {
+            awaitQuietly(release);
+            return "running";
+        });
+        CompletableFuture<String> queued = executor.supply(() -> "queued");
+        CompletableFuture<String> rejected = executor.supply(() -> "rejected");
+
+        assertTrue(rejected.isCompletedExceptionally());
+        try {
+            rejected.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        assertEquals(1L, executor.getStats().get("rejected"));
+
+        release.countDown();
+        assertEquals("running", running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.pokemonurpg.service;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+public class SessionTokenServiceTest {
+
+    private static final String SECRET = "test-secret";
+
+    private SessionTokenService sessionTokenService = new SessionTokenService(true, 900, SECRET);
+
+    @Test
+    public void issuedTokenVerifiesWithoutLookups() {
+        BitSet bits = new BitSet();
+        bits.set(4);
+        bits.set(70);
+        String token = sessionTokenService.issue(new AuthenticatedMember(12, "Ash|Ketchum", new MemberPermissions(bits, false)));
+
+        AuthenticatedMember member = sessionTokenService.verify(token);
+
+        assertNotNull(member);
+        assertEquals(12, member.getDbid());
+        assertEquals("Ash|Ketchum", member.getUsername());
+        assertTrue(member.getPermissions().hasPermission(4));
+        assertTrue(member.getPermissions().hasPermission(70));
+        assertFalse(member.getPermissions().hasPermission(5));
+    }
+
+    @Test
+    public void tamperedExpiredOrForeignTokensAreRejected() {
+        AuthenticatedMember ash = new AuthenticatedMember(12, "Ash", new MemberPermissions(new BitSet(), false));
+        String token = sessionTokenService.issue(ash);
+
+        assertNull(sessionTokenService.verify("x" + token));
+        assertNull(sessionTokenService.verify(token + "x"));
+        assertNull(sessionTokenService.verify("garbage"));
+        assertNull(new SessionTokenService(true, 900, "other-secret").verify(token));
+        assertNull(new SessionTokenService(false, 900, SECRET).verify(token));
+
+        SessionTokenService expiring = new SessionTokenService(true, 0, SECRET);
+        assertNull(expiring.verify(expiring.issue(ash)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.pokemonurpg.service;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class SingleFlightTest {
+
+    private SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    @Test
+    public void concurrentCallersForTheSameNameShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.execute("Pikachu", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "page";
+            }));
+            loading.await();
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (String name : new String[] { "pikachu", " PIKACHU ", "Pikachu" }) {
+                followers.add(executor.submit(() -> singleFlight.execute(name, () -> {
+                    loads.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            assertEquals("page", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("page", follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(0, singleFlight.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failedLoadIsNotRemembered() {
+        try {
+            singleFlight.execute("Pikachu", () -> {
+                throw new IllegalStateException("db down");
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("db down", e.getMessage());
+        }
+        assertEquals("page", singleFlight.execute("Pikachu", () -> "page"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
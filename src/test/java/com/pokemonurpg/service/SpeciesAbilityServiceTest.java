@@ -0,0 +1,93 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.species.input.SpeciesAbilityInputDto;
+import com.pokemonurpg.object.Ability;
+import com.pokemonurpg.object.Species;
+import com.pokemonurpg.object.SpeciesAbility;
+import com.pokemonurpg.repository.SpeciesAbilityRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class SpeciesAbilityServiceTest {
+
+    private static final int SPECIES_DBID = 25;
+
+    private SpeciesAbilityRepository repository = mock(SpeciesAbilityRepository.class);
+    private AbilityService abilityService = mock(AbilityService.class);
+    private SpeciesAbilityService service = new SpeciesAbilityService(repository, abilityService);
+    private Species pikachu = new Species();
+    private SpeciesAbility existing;
+
+    @Before
+    public void init() {
+        pikachu.setDbid(SPECIES_DBID);
+        Map<String, Ability> abilities = new HashMap<>();
+        abilities.put("Static", new Ability(1, "Static", null));
+        abilities.put("Lightning Rod", new Ability(2, "Lightning Rod", null));
+        existing = new SpeciesAbility(SPECIES_DBID, 1, false);
+        when(repository.findByIdSpeciesDbid(SPECIES_DBID)).thenReturn(Collections.singletonList(existing));
+        when(abilityService.findByNameIn(anyCollection())).thenReturn(abilities);
+    }
+
+    @Test
+    public void updateAllInsertsNewAbilities() {
+        service.updateAll(pikachu, Collections.singletonList(buildInput("Lightning Rod", true, false)));
+
+        verify(repository, times(1)).insertAll(any());
+        verify(repository, never()).saveAll(any());
+        verify(repository, never()).deleteBySpeciesDbidAndAbilityDbidIn(anyInt(), anyCollection());
+    }
+
+    @Test
+    public void updateAllSavesChangedAbilities() {
+        service.updateAll(pikachu, Collections.singletonList(buildInput("Static", true, false)));
+
+        assertTrue(existing.getHidden());
+        verify(repository, times(1)).saveAll(any());
+        verify(repository, never()).insertAll(any());
+        verify(repository, never()).deleteBySpeciesDbidAndAbilityDbidIn(anyInt(), anyCollection());
+    }
+
+    @Test
+    public void updateAllSkipsUnchangedAbilities() {
+        service.updateAll(pikachu, Collections.singletonList(buildInput("Static", false, false)));
+
+        verify(repository, never()).saveAll(any());
+        verify(repository, never()).insertAll(any());
+        verify(repository, never()).deleteBySpeciesDbidAndAbilityDbidIn(anyInt(), anyCollection());
+    }
+
+    @Test
+    public void updateAllDeletesRemovedAbilities() {
+        service.updateAll(pikachu, Collections.singletonList(buildInput("Static", null, true)));
+
+        verify(repository, times(1)).deleteBySpeciesDbidAndAbilityDbidIn(SPECIES_DBID, Collections.singleton(1));
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    public void updateAllKeepsAbilitiesListedAgainAfterADelete() {
+        service.updateAll(pikachu, Arrays.asList(
+                buildInput("Static", null, true),
+                buildInput("Static", false, false)));
+
+        verify(repository, never()).deleteBySpeciesDbidAndAbilityDbidIn(anyInt(), anyCollection());
+        verify(repository, never()).saveAll(any());
+    }
+
+    private SpeciesAbilityInputDto buildInput(String name, Boolean hidden, boolean deleted) {
+        SpeciesAbilityInputDto input = new SpeciesAbilityInputDto();
+        input.setName(name);
+        input.setHidden(hidden);
+        input.setDeleted(deleted);
+        return input;
+    }
+}
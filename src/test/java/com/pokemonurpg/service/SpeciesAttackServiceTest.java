@@ -1,21 +1,22 @@
 package com.pokemonurpg.service;
 
+import com.pokemonurpg.dto.species.input.SpeciesAttackInputDto;
 import com.pokemonurpg.object.Attack;
 import com.pokemonurpg.object.Species;
 import com.pokemonurpg.object.SpeciesAttack;
 import com.pokemonurpg.object.SpeciesAttackKey;
+import com.pokemonurpg.repository.AttackRepository;
 import com.pokemonurpg.repository.SpeciesAttackRepository;
 import org.junit.Before;
 import org.junit.Test;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.*;
-import static org.mockito.Mockito.times;
 
 public class SpeciesAttackServiceTest {
 /*
@@ -148,4 +149,81 @@ public class SpeciesAttackServiceTest {
     @Test
     public void delete() {
     }*/
-}
\ No newline at end of file
+
+    private static final int SPECIES_DBID = 25;
+
+    private SpeciesAttackRepository repository = mock(SpeciesAttackRepository.class);
+    private AttackRepository attackRepository = mock(AttackRepository.class);
+    private SpeciesAttackService service = new SpeciesAttackService(repository, attackRepository);
+    private Species pikachu = new Species();
+    private Attack thunderbolt = new Attack();
+    private Attack surf = new Attack();
+    private SpeciesAttack existing;
+
+    @Before
+    public void init() {
+        pikachu.setDbid(SPECIES_DBID);
+        thunderbolt.setDbid(1);
+        thunderbolt.setName("Thunderbolt");
+        surf.setDbid(2);
+        surf.setName("Surf");
+        existing = new SpeciesAttack(SPECIES_DBID, thunderbolt.getDbid(), "TM", 4);
+        when(repository.findByIdSpeciesDbid(SPECIES_DBID)).thenReturn(Collections.singletonList(existing));
+        when(attackRepository.findByNameIn(anyCollection())).thenReturn(Arrays.asList(thunderbolt, surf));
+    }
+
+    @Test
+    public void updateAllInsertsNewAttacks() {
+        service.updateAll(pikachu, Collections.singletonList(buildInput("Surf", "Event", 7, false)));
+
+        verify(repository, times(1)).insertAll(any());
+        verify(repository, never()).saveAll(any());
+        verify(repository, never()).deleteBySpeciesDbidAndAttackDbidIn(anyInt(), anyCollection());
+    }
+
+    @Test
+    public void updateAllSavesChangedAttacks() {
+        service.updateAll(pikachu, Collections.singletonList(buildInput("Thunderbolt", "Level Up", null, false)));
+
+        assertEquals("Level Up", existing.getMethod());
+        verify(repository, times(1)).saveAll(any());
+        verify(repository, never()).insertAll(any());
+        verify(repository, never()).deleteBySpeciesDbidAndAttackDbidIn(anyInt(), anyCollection());
+    }
+
+    @Test
+    public void updateAllSkipsUnchangedAttacks() {
+        service.updateAll(pikachu, Collections.singletonList(buildInput("Thunderbolt", "TM", 4, false)));
+
+        verify(repository, never()).saveAll(any());
+        verify(repository, never()).insertAll(any());
+        verify(repository, never()).deleteBySpeciesDbidAndAttackDbidIn(anyInt(), anyCollection());
+    }
+
+    @Test
+    public void updateAllDeletesRemovedAttacks() {
+        service.updateAll(pikachu, Collections.singletonList(buildInput("Thunderbolt", null, null, true)));
+
+        verify(repository, times(1)).deleteBySpeciesDbidAndAttackDbidIn(SPECIES_DBID, Collections.singleton(thunderbolt.getDbid()));
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    public void updateAllKeepsAttacksListedAgainAfterADelete() {
+        service.updateAll(pikachu, Arrays.asList(
+                buildInput("Thunderbolt", null, null, true),
+                buildInput("Thunderbolt", "TM", 4, false)));
+
+        verify(repository, never()).deleteBySpeciesDbidAndAttackDbidIn(anyInt(), anyCollection());
+        verify(repository, never()).saveAll(any());
+    }
+
+    private SpeciesAttackInputDto buildInput(String name, String method, Integer generation, boolean deleted) {
+        SpeciesAttackInputDto input = new SpeciesAttackInputDto();
+        input.setName(name);
+        input.setMethod(method);
+        input.setGeneration(generation);
+        input.setDeleted(deleted);
+        return input;
+    }
+}
@@ -0,0 +1,127 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.Evolution;
+import com.pokemonurpg.object.MegaEvolution;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class SpeciesGraphTest {
+
+    private SpeciesGraph graph;
+
+    @Before
+    public void init() {
+        graph = new SpeciesGraph(
+                Arrays.asList(
+                        new Object[] { 1, 1 },
+                        new Object[] { 2, 2 },
+                        new Object[] { 3, 3 },
+                        new Object[] { 4, 3 },
+                        new Object[] { 6, 6 }
+                ),
+                Arrays.asList(
+                        new Evolution(2, 1, "Level 16"),
+                        new Evolution(3, 2, "Level 32"),
+                        new Evolution(4, 2, "Trade")
+                ),
+                Arrays.asList(
+                        new MegaEvolution(7, 6, "Stone X"),
+                        new MegaEvolution(8, 6, "Stone Y")
+                ));
+    }
+
+    @Test
+    public void fillsEvolutionSlicesInRowOrder() {
+        assertArrayEquals(new int[] { 2 }, graph.getEvolutions(1));
+        assertArrayEquals(new int[] { 3, 4 }, graph.getEvolutions(2));
+        assertArrayEquals(new int[0], graph.getEvolutions(3));
+        assertArrayEquals(new int[0], graph.getEvolutions(0));
+        assertEquals(2, graph.getPreEvolution(4));
+        assertEquals("Trade", graph.getEvolutionMethod(4));
+    }
+
+    @Test
+    public void slicesAreEmptyAtAndBeyondTheTableBounds() {
+        assertArrayEquals(new int[0], graph.getEvolutions(8));
+        assertArrayEquals(new int[0], graph.getEvolutions(9));
+        assertArrayEquals(new int[0], graph.getEvolutions(-1));
+        assertArrayEquals(new int[0], graph.getMegaEvolutions(9));
+        assertArrayEquals(new int[0], graph.getSpeciesAtDex(7));
+        assertArrayEquals(new int[0], graph.getSpeciesAtDex(-1));
+    }
+
+    @Test
+    public void slicesAreCopies() {
+        graph.getEvolutions(2)[0] = 99;
+        assertArrayEquals(new int[] { 3, 4 }, graph.getEvolutions(2));
+    }
+
+    @Test
+    public void missingDbidsResolveToNone() {
+        assertEquals(SpeciesGraph.NONE, graph.getDexno(5));
+        assertEquals(SpeciesGraph.NONE, graph.getDexno(7));
+        assertEquals(SpeciesGraph.NONE, graph.getDexno(100));
+        assertEquals(SpeciesGraph.NONE, graph.getPreEvolution(100));
+        assertNull(graph.getEvolutionMethod(100));
+        assertEquals(SpeciesGraph.NONE, graph.getMegaOriginal(100));
+        assertNull(graph.getMegaStone(100));
+        assertEquals(100, graph.getBasicForm(100));
+    }
+
+    @Test
+    public void findsMegaOriginals() {
+        assertEquals(6, graph.getMegaOriginal(7));
+        assertEquals(6, graph.getMegaOriginal(8));
+        assertEquals("Stone Y", graph.getMegaStone(8));
+        assertTrue(graph.isMegaEvolution(7));
+        assertFalse(graph.isMegaEvolution(6));
+        assertArrayEquals(new int[] { 7, 8 }, graph.getMegaEvolutions(6));
+    }
+
+    @Test
+    public void groupsSpeciesByDexno() {
+        assertEquals(3, graph.getDexno(4));
+        assertArrayEquals(new int[] { 3, 4 }, graph.getSpeciesAtDex(3));
+        assertArrayEquals(new int[] { 6 }, graph.getSpeciesAtDex(6));
+        assertArrayEquals(new int[0], graph.getSpeciesAtDex(4));
+    }
+
+    @Test
+    public void walksBackToTheBasicForm() {
+        assertEquals(1, graph.getBasicForm(1));
+        assertEquals(1, graph.getBasicForm(2));
+        assertEquals(1, graph.getBasicForm(4));
+    }
+
+    @Test
+    public void basicFormStopsOnCycles() {
+        SpeciesGraph cyclic = new SpeciesGraph(Collections.emptyList(), Arrays.asList(
+                new Evolution(2, 1, "Level"),
+                new Evolution(1, 2, "Level"),
+                new Evolution(5, 5, "Level")
+        ), Collections.emptyList());
+
+        assertEquals(2, cyclic.getBasicForm(1));
+        assertEquals(1, cyclic.getBasicForm(2));
+        assertEquals(5, cyclic.getBasicForm(5));
+    }
+
+    @Test
+    public void lastParentWinsForTheBasicForm() {
+        SpeciesGraph merged = new SpeciesGraph(Collections.emptyList(), Arrays.asList(
+                new Evolution(3, 1, "Level"),
+                new Evolution(3, 2, "Stone")
+        ), Collections.emptyList());
+
+        assertArrayEquals(new int[] { 3 }, merged.getEvolutions(1));
+        assertArrayEquals(new int[] { 3 }, merged.getEvolutions(2));
+        assertEquals(2, merged.getPreEvolution(3));
+        assertEquals("Stone", merged.getEvolutionMethod(3));
+        assertEquals(2, merged.getBasicForm(3));
+    }
+}
@@ -0,0 +1,46 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.RawJsonDto;
+import com.pokemonurpg.service.SpeciesPageDependencies.Kind;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.*;
+
+public class SpeciesPageDependenciesTest {
+
+    @Test
+    public void encodeRoundTrips() {
+        SpeciesPageDependencies dependencies = new SpeciesPageDependencies();
+        dependencies.add(Kind.SPECIES, 25);
+        dependencies.add(Kind.SPECIES, 26);
+        dependencies.add(Kind.ATTACK, 85);
+        dependencies.add(Kind.TYPE, 13);
+
+        SpeciesPageDependencies decoded = SpeciesPageDependencies.decode(dependencies.encode());
+
+        assertEquals(new HashSet<>(Arrays.asList(25, 26)), decoded.get(Kind.SPECIES));
+        assertEquals(Collections.singleton(85), decoded.get(Kind.ATTACK));
+        assertTrue(decoded.get(Kind.ABILITY).isEmpty());
+        assertEquals(Collections.singleton(13), decoded.get(Kind.TYPE));
+        assertNull(SpeciesPageDependencies.decode(null));
+    }
+
+    @Test
+    public void cacheForgetsDependenciesThatAPageNoLongerHas() {
+        SpeciesPageCache cache = new SpeciesPageCache();
+        SpeciesPageDependencies before = new SpeciesPageDependencies();
+        before.add(Kind.ABILITY, 9);
+        cache.put(25, new RawJsonDto("{}"), before);
+
+        SpeciesPageDependencies after = new SpeciesPageDependencies();
+        after.add(Kind.ABILITY, 31);
+        cache.put(25, new RawJsonDto("{}"), after);
+
+        assertTrue(cache.findDependents(Kind.ABILITY, 9).isEmpty());
+        assertEquals(Collections.singleton(25), cache.findDependents(Kind.ABILITY, 31));
+    }
+}
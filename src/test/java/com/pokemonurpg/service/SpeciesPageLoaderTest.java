@@ -0,0 +1,90 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.factory.TestObjectFactory;
+import com.pokemonurpg.object.*;
+import com.pokemonurpg.repository.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SpeciesPageLoaderTest {
+
+    private SpeciesPageLoader speciesPageLoader;
+    private SpeciesRepository speciesRepository = mock(SpeciesRepository.class);
+    private SpeciesAttackRepository speciesAttackRepository = mock(SpeciesAttackRepository.class);
+    private SpeciesAbilityRepository speciesAbilityRepository = mock(SpeciesAbilityRepository.class);
+    private CosmeticFormRepository cosmeticFormRepository = mock(CosmeticFormRepository.class);
+    private SpeciesGraphService speciesGraphService = mock(SpeciesGraphService.class);
+    private AlteredFormMethodService alteredFormMethodService = mock(AlteredFormMethodService.class);
+
+    private Species pikachu = TestObjectFactory.createPikachu();
+    private Species pikachuBelle = TestObjectFactory.createPikachuBelle();
+    private Species pichu = TestObjectFactory.createPichu();
+    private Species raichu = TestObjectFactory.createRaichu();
+    private CosmeticForm spikyEaredPikachu = TestObjectFactory.createSpikyEaredPikachu();
+
+    @Before
+    public void init() {
+        speciesPageLoader = new SpeciesPageLoader(speciesRepository, speciesAttackRepository, speciesAbilityRepository,
+                cosmeticFormRepository, speciesGraphService, alteredFormMethodService);
+        when(speciesGraphService.getGraph()).thenReturn(new SpeciesGraph(new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+
+        when(speciesRepository.findByDexnoIn(any())).thenReturn(Arrays.asList(pikachu, pikachuBelle));
+        when(alteredFormMethodService.findByDexno(TestObjectFactory.TEST_SPECIES_DEXNO)).thenReturn(TestObjectFactory.TEST_ALTERNATE_FORM_METHOD);
+    }
+
+    @Test
+    public void loadsFormsAndCosmeticsAtThisDex() {
+        when(cosmeticFormRepository.findByIdSpeciesDbidIn(any())).thenReturn(Collections.singletonList(spikyEaredPikachu));
+
+        SpeciesPage page = speciesPageLoader.load(pikachu);
+
+        assertEquals(2, page.getSpeciesAtThisDex().size());
+        assertEquals(TestObjectFactory.TEST_ALTERNATE_FORM_METHOD, page.getAlteredFormMethod());
+        assertEquals(1, page.getCosmeticForms(pikachu.getDbid()).size());
+        assertTrue(page.getCosmeticForms(pikachuBelle.getDbid()).isEmpty());
+    }
+
+    @Test
+    public void loadsEvolutionFamilyInOneSpeciesQuery() {
+        List<Evolution> evolutions = Arrays.asList(buildEvolution(pichu, pikachu), buildEvolution(pikachu, raichu));
+        when(speciesGraphService.getGraph()).thenReturn(new SpeciesGraph(new ArrayList<>(), evolutions, new ArrayList<>()));
+        when(speciesRepository.findByDbidIn(any())).thenReturn(Arrays.asList(pichu, raichu));
+
+        SpeciesPage page = speciesPageLoader.load(pikachu);
+
+        assertEquals(pichu.getDbid(), (int) page.getPreEvolution(pikachu.getDbid()).getId().getPreEvolutionDbid());
+        assertEquals(1, page.getEvolutions(pikachu.getDbid()).size());
+        assertEquals(raichu, page.getSpecies(raichu.getDbid()));
+        assertEquals(pichu, page.getSpecies(pichu.getDbid()));
+    }
+
+    @Test
+    public void loadsMegaEvolutionsFromGraph() {
+        MegaEvolution mega = new MegaEvolution(TestObjectFactory.TEST_MEGA_EVOLUTION_DBID, pikachu.getDbid(), TestObjectFactory.TEST_MEGA_STONE);
+        when(speciesGraphService.getGraph()).thenReturn(new SpeciesGraph(new ArrayList<>(), new ArrayList<>(), Collections.singletonList(mega)));
+
+        SpeciesPage page = speciesPageLoader.load(pikachu);
+
+        assertEquals(1, page.getMegaEvolutions(pikachu.getDbid()).size());
+        assertTrue(page.isMegaEvolution(TestObjectFactory.TEST_MEGA_EVOLUTION_DBID));
+        assertEquals(TestObjectFactory.TEST_MEGA_STONE, page.getMegaEvolvesFrom(TestObjectFactory.TEST_MEGA_EVOLUTION_DBID).getMegaStone());
+    }
+
+    private Evolution buildEvolution(Species prevo, Species evo) {
+        EvolutionKey key = new EvolutionKey();
+        key.setEvolutionDbid(evo.getDbid());
+        key.setPreEvolutionDbid(prevo.getDbid());
+
+        Evolution evolution = new Evolution();
+        evolution.setId(key);
+        evolution.setMethod(TestObjectFactory.TEST_EVOLUTION_METHOD);
+        return evolution;
+    }
+}
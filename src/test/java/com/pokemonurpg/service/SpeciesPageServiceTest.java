@@ -0,0 +1,130 @@
+package com.pokemonurpg.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.pokemonurpg.dto.RawJsonDto;
+import com.pokemonurpg.dto.species.response.SpeciesDto;
+import com.pokemonurpg.factory.TestObjectFactory;
+import com.pokemonurpg.object.Evolution;
+import com.pokemonurpg.object.Species;
+import com.pokemonurpg.object.SpeciesPageRecord;
+import com.pokemonurpg.repository.SpeciesPageRecordRepository;
+import com.pokemonurpg.repository.SpeciesRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class SpeciesPageServiceTest {
+
+    private SpeciesPageService speciesPageService;
+    private SpeciesService speciesService = mock(SpeciesService.class);
+    private SpeciesPageLoader speciesPageLoader = mock(SpeciesPageLoader.class);
+    private SpeciesPageCache speciesPageCache = new SpeciesPageCache();
+    private SpeciesRepository speciesRepository = mock(SpeciesRepository.class);
+    private SpeciesPageRecordRepository speciesPageRecordRepository = mock(SpeciesPageRecordRepository.class);
+    private SpeciesGraphService speciesGraphService = mock(SpeciesGraphService.class);
+    private DexIndexService dexIndexService = mock(DexIndexService.class);
+    private ObjectMapper mapper = new ObjectMapper();
+
+    private Species pikachu = TestObjectFactory.createPikachu();
+
+    @Before
+    public void init() {
+        speciesPageService = new SpeciesPageService(speciesService, speciesPageLoader, speciesPageCache, speciesRepository, speciesPageRecordRepository,
+                speciesGraphService, dexIndexService, mapper);
+    }
+
+    @Test
+    public void findByNameServesStoredJsonWithoutBuilding() {
+        when(speciesService.findDbidByName(pikachu.getName())).thenReturn(pikachu.getDbid());
+        SpeciesPageRecord record = new SpeciesPageRecord(pikachu.getDbid());
+        record.setJson("{\"name\":\"Pikachu\"}");
+        record.setDependencies(new SpeciesPageDependencies().encode());
+        when(speciesPageRecordRepository.findBySpeciesDbid(pikachu.getDbid())).thenReturn(record);
+
+        RawJsonDto dto = speciesPageService.findByName(pikachu.getName());
+        assertEquals("{\"name\":\"Pikachu\"}", dto.getJson());
+        assertSame(dto, speciesPageService.findByName(pikachu.getName()));
+
+        verify(speciesPageRecordRepository, times(1)).findBySpeciesDbid(pikachu.getDbid());
+        verify(speciesPageLoader, never()).load(any());
+    }
+
+    @Test
+    public void attackEditEvictsOnlyDependentPages() {
+        speciesPageService.initialize();
+
+        SpeciesPageDependencies pikachuDependencies = new SpeciesPageDependencies();
+        pikachuDependencies.add(SpeciesPageDependencies.Kind.ATTACK, TestObjectFactory.TEST_ATTACK_1_DBID);
+        speciesPageCache.put(pikachu.getDbid(), new RawJsonDto("{}"), pikachuDependencies);
+        speciesPageCache.put(TestObjectFactory.TEST_ALTERNATE_FORM_DBID, new RawJsonDto("{}"), new SpeciesPageDependencies());
+
+        speciesPageService.onSpeciesChanged(SpeciesChangedEvent.of(SpeciesPageDependencies.Kind.ATTACK, TestObjectFactory.TEST_ATTACK_1_DBID));
+
+        assertNull(speciesPageCache.get(pikachu.getDbid()));
+        assertNotNull(speciesPageCache.get(TestObjectFactory.TEST_ALTERNATE_FORM_DBID));
+    }
+
+    @Test
+    public void stalePageIsServedFromItsStoredRowWhileTheWorkerRebuildsIt() {
+        speciesPageService.initialize();
+        when(speciesService.findDbidByName(pikachu.getName())).thenReturn(pikachu.getDbid());
+        SpeciesPageDependencies dependencies = new SpeciesPageDependencies();
+        dependencies.add(SpeciesPageDependencies.Kind.ATTACK, TestObjectFactory.TEST_ATTACK_1_DBID);
+        SpeciesPageRecord record = new SpeciesPageRecord(pikachu.getDbid());
+        record.setJson("{\"name\":\"Pikachu\"}");
+        record.setDependencies(dependencies.encode());
+        when(speciesPageRecordRepository.findBySpeciesDbid(pikachu.getDbid())).thenReturn(record);
+        speciesPageCache.put(pikachu.getDbid(), new RawJsonDto("{}"), dependencies);
+
+        speciesPageService.onSpeciesChanged(SpeciesChangedEvent.of(SpeciesPageDependencies.Kind.ATTACK, TestObjectFactory.TEST_ATTACK_1_DBID));
+
+        assertEquals("{\"name\":\"Pikachu\"}", speciesPageService.findByName(pikachu.getName()).getJson());
+        verify(speciesPageLoader, never()).load(any());
+    }
+
+    @Test
+    public void rebuildSkipsWriteWhenContentIsUnchanged() throws Exception {
+        SpeciesPage page = new SpeciesPage(pikachu);
+        SpeciesDto speciesDto = new SpeciesDto(pikachu);
+        String json = mapper.writeValueAsString(speciesDto);
+        SpeciesPageRecord record = new SpeciesPageRecord(pikachu.getDbid());
+        record.setJson(json);
+        record.setHash(Hashing.sha256().hashString(json, StandardCharsets.UTF_8).toString());
+        record.setDependencies(SpeciesPageDependencies.from(page).encode());
+        record.setVersion(3);
+
+        when(speciesRepository.findByDbid(pikachu.getDbid())).thenReturn(pikachu);
+        when(speciesPageLoader.load(pikachu)).thenReturn(page);
+        when(speciesService.buildSpeciesDto(page)).thenReturn(speciesDto);
+        when(speciesPageRecordRepository.findBySpeciesDbid(pikachu.getDbid())).thenReturn(record);
+
+        assertEquals(json, speciesPageService.rebuild(pikachu.getDbid()).getJson());
+        verify(speciesPageRecordRepository, never()).save(any(SpeciesPageRecord.class));
+
+        pikachu.setClassification("Changed Pokemon");
+        when(speciesService.buildSpeciesDto(page)).thenReturn(new SpeciesDto(pikachu));
+        speciesPageService.rebuild(pikachu.getDbid());
+        verify(speciesPageRecordRepository, times(1)).save(record);
+        assertEquals(4, record.getVersion());
+    }
+
+    @Test
+    public void affectedSpeciesCoverFamilyAndDexNeighbours() {
+        List<Object[]> dexnos = Arrays.asList(new Object[] { 1, 24 }, new Object[] { 2, 25 }, new Object[] { 3, 26 }, new Object[] { 4, 25 }, new Object[] { 5, 30 });
+        List<Evolution> evolutions = Arrays.asList(new Evolution(2, 1, "Level"), new Evolution(3, 2, "Stone"));
+        when(speciesGraphService.getGraph()).thenReturn(new SpeciesGraph(dexnos, evolutions, new ArrayList<>()));
+        when(dexIndexService.getIndex()).thenReturn(new DexIndex(Arrays.asList(
+                new Object[] { 24, 1, "A", "A" }, new Object[] { 25, 2, "B", "B" }, new Object[] { 26, 3, "C", "C" }, new Object[] { 30, 5, "E", "E" })));
+
+        Set<Integer> affected = speciesPageService.findAffectedSpecies(Collections.singleton(1));
+
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4, 5)), affected);
+    }
+}
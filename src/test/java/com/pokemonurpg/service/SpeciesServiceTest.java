@@ -9,6 +9,7 @@ import com.pokemonurpg.object.*;
 import com.pokemonurpg.repository.*;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
@@ -35,6 +36,9 @@ public class SpeciesServiceTest {
     private ArtRankRepository artRankRepository;
     private ParkRankRepository parkRankRepository;
     private ParkLocationRepository parkLocationRepository;
+    private SpeciesPageLoader speciesPageLoader = mock(SpeciesPageLoader.class);
+    private SpeciesGraphService speciesGraphService = mock(SpeciesGraphService.class);
+    private DexIndexService dexIndexService = mock(DexIndexService.class);
 
     private Species pikachu = TestObjectFactory.createPikachu();
     private CosmeticForm spikyEaredPikachu = TestObjectFactory.createSpikyEaredPikachu();
@@ -57,7 +61,8 @@ public class SpeciesServiceTest {
     public void initService() {
         speciesService = new SpeciesService(speciesRepository, speciesAttackService, attackRepository, speciesAbilityService, abilityRepository,
                 alteredFormMethodService, cosmeticFormService, evolutionService, megaEvolutionService, typeMatchupService, typeRepository,
-                storyRankRepository, artRankRepository, parkRankRepository, parkLocationRepository);
+                storyRankRepository, artRankRepository, parkRankRepository, parkLocationRepository,
+                speciesPageLoader, speciesGraphService, dexIndexService, mock(ApplicationEventPublisher.class));
     }
 
     /*@Test
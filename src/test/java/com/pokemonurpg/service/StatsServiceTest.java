@@ -0,0 +1,126 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.stats.response.StatsDeltaDto;
+import com.pokemonurpg.object.Member;
+import com.pokemonurpg.repository.*;
+import org.junit.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class StatsServiceTest {
+
+    private MemberRepository memberRepository = mock(MemberRepository.class);
+    private LogService logService = mock(LogService.class);
+    private LedgerService ledgerService = mock(LedgerService.class);
+    private StatsService statsService = new StatsService(memberRepository, mock(OwnedPokemonRepository.class),
+            logService, mock(ItemRepository.class), mock(OwnedItemService.class), mock(TypeRepository.class),
+            mock(MemberService.class), mock(TrainerStatsLoader.class), ledgerService);
+
+    @Test
+    public void defaultsToObtainedOrder() {
+        Pageable pageable = statsService.buildPokemonPageRequest(0, StatsService.DEFAULT_POKEMON_PAGE_SIZE, null);
+
+        assertEquals(StatsService.DEFAULT_POKEMON_PAGE_SIZE, pageable.getPageSize());
+        assertEquals(Sort.by(Sort.Direction.ASC, "dbid"), pageable.getSort());
+    }
+
+    @Test
+    public void mapsSortKeysAndBreaksTiesByDbid() {
+        Pageable pageable = statsService.buildPokemonPageRequest(2, 25, "Dex,desc");
+
+        assertEquals(2, pageable.getPageNumber());
+        assertEquals(Sort.by(Sort.Direction.DESC, "species.dexno").and(Sort.by(Sort.Direction.ASC, "dbid")), pageable.getSort());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsUnknownSortProperties() {
+        statsService.buildPokemonPageRequest(0, 25, "trainer.accessToken");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOversizedPages() {
+        statsService.buildPokemonPageRequest(0, StatsService.MAX_POKEMON_PAGE_SIZE + 1, null);
+    }
+
+    @Test
+    public void appliesMoneyDeltaInOneConditionalUpdateAndLogsIt() {
+        Member ash = trainer();
+        when(memberRepository.addMoney(ash.getDbid(), 500, 0, Integer.MAX_VALUE)).thenReturn(1);
+        when(memberRepository.findCountersByDbid(ash.getDbid())).thenReturn(Collections.singletonList(new Object[] { 1500, 3, 2, 1 }));
+
+        StatsDeltaDto dto = statsService.applyDelta("Referee", "Ash", "money", 500, "Gym payout");
+
+        assertEquals(1500, dto.getValue());
+        verify(logService).logInCurrentTransaction(ash, "Referee added $500");
+        verify(ledgerService).record(ash.getDbid(), LedgerService.MONEY, 500, 1500, "Gym payout", "Referee");
+        verify(memberRepository, never()).save(any(Member.class));
+    }
+
+    @Test
+    public void rejectsDeltasThatWouldCrossTheFloor() {
+        Member ash = trainer();
+        when(memberRepository.addWins(ash.getDbid(), -5, 0, StatsService.MAX_STAT_VALUE)).thenReturn(0);
+
+        try {
+            statsService.applyDelta("Referee", "Ash", "wins", -5, null);
+            fail();
+        } catch (IllegalStateException e) {
+            verify(logService, never()).logInCurrentTransaction(any(Member.class), anyString());
+            verifyZeroInteractions(ledgerService);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroDeltas() {
+        statsService.applyDelta("Referee", "Ash", "money", 0, null);
+    }
+
+    @Test
+    public void unknownTrainerIsNotUpdated() {
+        assertNull(statsService.applyDelta("Referee", "Nobody", "draws", 1, null));
+        verify(memberRepository, never()).addDraws(anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void countersStayOutOfTheLedger() {
+        Member ash = trainer();
+        when(memberRepository.addLosses(ash.getDbid(), 1, 0, StatsService.MAX_STAT_VALUE)).thenReturn(1);
+        when(memberRepository.findCountersByDbid(ash.getDbid())).thenReturn(Collections.singletonList(new Object[] { 1000, 3, 3, 1 }));
+
+        assertEquals(3, statsService.applyDelta("Referee", "Ash", "losses", 1, null).getValue());
+        verifyZeroInteractions(ledgerService);
+    }
+
+    @Test
+    public void reconstructsHistoricalBalancesFromTheLedger() {
+        Member ash = trainer();
+        when(ledgerService.getBalanceAt(ash.getDbid(), LedgerService.MONEY, new Date(1000L))).thenReturn(250L);
+
+        assertEquals(250L, statsService.findBalance("Ash", null, 1000L).getBalance());
+    }
+
+    @Test
+    public void currentBalanceFallsBackToTheLiveColumnBeforeAnyLedgerHistory() {
+        Member ash = trainer();
+        when(ledgerService.getBalance(ash.getDbid(), LedgerService.MONEY)).thenReturn(null);
+
+        assertEquals(1000L, statsService.findBalance("Ash", null, null).getBalance());
+    }
+
+    private Member trainer() {
+        Member ash = new Member();
+        ash.setDbid(7);
+        ash.setUsername("Ash");
+        ash.setMoney(1000);
+        when(memberRepository.findByUsername("Ash")).thenReturn(ash);
+        return ash;
+    }
+}
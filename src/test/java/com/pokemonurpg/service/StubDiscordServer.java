@@ -0,0 +1,106 @@
+package com.pokemonurpg.service;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StubDiscordServer implements Closeable {
+
+    public static final String DEFAULT_DISCORD_ID = "100000000000000001";
+
+    private final MockWebServer server = new MockWebServer();
+    private final Map<String, String> discordIds = new ConcurrentHashMap<>();
+    private final AtomicInteger issued = new AtomicInteger();
+    private volatile long latencyMillis;
+    private volatile int failureStatus;
+
+    public StubDiscordServer() {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                MockResponse response = respond(request);
+                return latencyMillis > 0 ? response.setBodyDelay(latencyMillis, TimeUnit.MILLISECONDS) : response;
+            }
+        });
+    }
+
+    public StubDiscordServer start(int port) throws IOException {
+        server.start(port);
+        return this;
+    }
+
+    public String getBaseUrl() {
+        String url = server.url("/api").toString();
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public int getRequestCount() {
+        return server.getRequestCount();
+    }
+
+    public void addUser(String accessToken, String discordId) {
+        discordIds.put(accessToken, discordId);
+    }
+
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void setFailureStatus(int failureStatus) {
+        this.failureStatus = failureStatus;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse respond(RecordedRequest request) {
+        if (failureStatus != 0) {
+            return json(failureStatus, "{\"message\":\"stubbed failure\"}");
+        }
+
+        String path = request.getPath();
+        if ("POST".equals(request.getMethod()) && "/api/oauth2/token".equals(path)) {
+            String form = request.getBody().readUtf8();
+            if (form.contains("code=invalid") || form.contains("refresh_token=invalid")) {
+                return json(400, "{\"error\":\"invalid_grant\"}");
+            }
+            int n = issued.incrementAndGet();
+            return json(200, "{\"access_token\":\"stub-access-" + n + "\",\"refresh_token\":\"stub-refresh-" + n
+                    + "\",\"expires_in\":\"604800\",\"token_type\":\"Bearer\",\"scope\":\"identify\"}");
+        }
+        if ("GET".equals(request.getMethod()) && "/api/users/@me".equals(path)) {
+            String authorization = request.getHeader("Authorization");
+            String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : "";
+            if (accessToken.isEmpty() || accessToken.equals("invalid")) {
+                return json(401, "{\"message\":\"401: Unauthorized\",\"code\":0}");
+            }
+            String id = discordIds.getOrDefault(accessToken, DEFAULT_DISCORD_ID);
+            return json(200, "{\"id\":\"" + id + "\",\"username\":\"stub\",\"discriminator\":\"0001\"}");
+        }
+        return json(404, "{\"message\":\"404: Not Found\"}");
+    }
+
+    private static MockResponse json(int status, String body) {
+        return new MockResponse().setResponseCode(status).setHeader("Content-Type", "application/json").setBody(body);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8099;
+        StubDiscordServer stub = new StubDiscordServer().start(port);
+        if (args.length > 1) {
+            stub.setLatencyMillis(Long.parseLong(args[1]));
+        }
+        System.out.println("Stub Discord API listening at " + stub.getBaseUrl());
+        Thread.currentThread().join();
+    }
+}
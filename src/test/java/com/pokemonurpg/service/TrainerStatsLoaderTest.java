@@ -0,0 +1,104 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.stats.response.StatsDto;
+import com.pokemonurpg.factory.TestObjectFactory;
+import com.pokemonurpg.object.Item;
+import com.pokemonurpg.object.Member;
+import com.pokemonurpg.object.OwnedItem;
+import com.pokemonurpg.object.OwnedPokemon;
+import com.pokemonurpg.repository.MemberRepository;
+import com.pokemonurpg.repository.OwnedPokemonRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class TrainerStatsLoaderTest {
+
+    private static final int TRAINER_DBID = 42;
+
+    private MemberRepository memberRepository = mock(MemberRepository.class);
+    private OwnedPokemonRepository ownedPokemonRepository = mock(OwnedPokemonRepository.class);
+    private TrainerStatsLoader trainerStatsLoader = new TrainerStatsLoader(memberRepository, ownedPokemonRepository);
+    private Member trainer = new Member();
+
+    @Before
+    public void init() {
+        trainer.setDbid(TRAINER_DBID);
+        trainer.setUsername("Ash");
+        trainer.setMoney(1000);
+        trainer.setWins(10);
+        trainer.setLosses(2);
+        trainer.setDraws(1);
+
+        List<OwnedPokemon> pokemon = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            OwnedPokemon ownedPokemon = new OwnedPokemon();
+            ownedPokemon.setDbid(i);
+            ownedPokemon.setSpecies(TestObjectFactory.createPikachu());
+            pokemon.add(ownedPokemon);
+        }
+        trainer.setPokemon(pokemon);
+
+        Item item = new Item();
+        item.setName("Rare Candy");
+        OwnedItem ownedItem = new OwnedItem();
+        ownedItem.setItem(item);
+        ownedItem.setQuantity(3);
+        trainer.setItems(Collections.singletonList(ownedItem));
+
+        when(memberRepository.fetchPokemonByDbid(TRAINER_DBID)).thenReturn(trainer);
+    }
+
+    @Test
+    public void loadsTheWholeTrainerGraphInOneQueryPerAssociation() {
+        StatsDto dto = trainerStatsLoader.load(TRAINER_DBID);
+
+        assertEquals("Ash", dto.getName());
+        assertEquals(600, dto.getPokemon().size());
+        assertEquals(TestObjectFactory.createPikachu().getName(), dto.getPokemon().get(599).getName());
+        assertEquals(1, dto.getItems().size());
+        assertEquals(3, dto.getItems().get(0).getQuantity());
+
+        verify(memberRepository).fetchPokemonByDbid(TRAINER_DBID);
+        verify(memberRepository).fetchRolesByDbid(TRAINER_DBID);
+        verify(memberRepository).fetchBadgesByDbid(TRAINER_DBID);
+        verify(memberRepository).fetchChampionRecordsByDbid(TRAINER_DBID);
+        verify(memberRepository).fetchEarnedLegendariesByDbid(TRAINER_DBID);
+        verify(memberRepository).fetchLegendaryProgressByDbid(TRAINER_DBID);
+        verify(memberRepository).fetchItemsByDbid(TRAINER_DBID);
+        verifyNoMoreInteractions(memberRepository);
+        verifyZeroInteractions(ownedPokemonRepository);
+    }
+
+    @Test
+    public void summaryLoadsOnlyTheFirstPageAndTheCount() {
+        Pageable firstPage = PageRequest.of(0, 50);
+        when(memberRepository.findByDbid(TRAINER_DBID)).thenReturn(trainer);
+        when(ownedPokemonRepository.findPageByTrainerDbid(TRAINER_DBID, null, null, firstPage))
+                .thenReturn(new PageImpl<>(trainer.getPokemon().subList(0, 50), firstPage, 600));
+
+        StatsDto dto = trainerStatsLoader.loadSummary(TRAINER_DBID, firstPage);
+
+        assertEquals(50, dto.getPokemon().size());
+        assertEquals(600, dto.getPokemonCount());
+        assertEquals(1, dto.getItems().size());
+        verify(memberRepository, never()).fetchPokemonByDbid(TRAINER_DBID);
+    }
+
+    @Test
+    public void missingTrainerLoadsNothingElse() {
+        assertNull(trainerStatsLoader.load(TRAINER_DBID + 1));
+
+        verify(memberRepository).fetchPokemonByDbid(TRAINER_DBID + 1);
+        verifyNoMoreInteractions(memberRepository);
+    }
+}
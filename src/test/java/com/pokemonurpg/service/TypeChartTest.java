@@ -0,0 +1,66 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.species.response.TypeMatchupDto;
+import com.pokemonurpg.object.Type;
+import com.pokemonurpg.object.TypeMatchup;
+import com.pokemonurpg.object.TypeMatchupKey;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TypeChartTest {
+
+    private static final double DELTA = 0.0001;
+
+    private Type none = buildType(-1, "None");
+    private Type fire = buildType(1, "Fire");
+    private Type water = buildType(2, "Water");
+    private Type grass = buildType(3, "Grass");
+
+    private TypeChart typeChart;
+
+    @Before
+    public void init() {
+        typeChart = new TypeChart(Arrays.asList(grass, none, fire, water), Arrays.asList(
+                new TypeMatchup(new TypeMatchupKey(1, 3), 2.0),
+                new TypeMatchup(new TypeMatchupKey(2, 1), 2.0),
+                new TypeMatchup(new TypeMatchupKey(3, 3), 0.5),
+                new TypeMatchup(new TypeMatchupKey(3, 2), 2.0)
+        ));
+    }
+
+    @Test
+    public void typesAreOrderedByDbidAndSkipNone() {
+        assertEquals(Arrays.asList(fire, water, grass), typeChart.getTypes());
+    }
+
+    @Test
+    public void dualTypeMultipliersAreMultiplied() {
+        List<TypeMatchupDto> matchups = typeChart.findTypeMatchups(grass, water);
+
+        assertEquals("Fire", matchups.get(0).getName());
+        assertEquals(2.0, matchups.get(0).getMultiplier(), DELTA);
+        assertEquals(1.0, matchups.get(1).getMultiplier(), DELTA);
+        assertEquals(1.0, matchups.get(2).getMultiplier(), DELTA);
+    }
+
+    @Test
+    public void noneSecondTypeIsIgnored() {
+        assertEquals(0.5, typeChart.getMultiplier(3, grass, none), DELTA);
+    }
+
+    @Test
+    public void unknownDbidIsNeutral() {
+        assertEquals(1.0, typeChart.getMultiplier(42, 1), DELTA);
+    }
+
+    private Type buildType(int dbid, String name) {
+        Type type = new Type(name);
+        type.setDbid(dbid);
+        return type;
+    }
+}
@@ -0,0 +1,113 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.object.Attack;
+import com.pokemonurpg.object.SpeciesAttack;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueMoveListBenchmark {
+
+    private static final String[] METHODS = { "LEVEL-UP", "TM", "HM", "BREEDING", "TUTOR" };
+
+    @Param({ "2", "9", "63" })
+    private int forms;
+
+    @Param({ "120" })
+    private int movesPerForm;
+
+    private List<List<SpeciesAttack>> learnsets;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Attack[] attacks = new Attack[900];
+        for (int dbid = 1; dbid < attacks.length; dbid++) {
+            attacks[dbid] = new Attack("Attack " + dbid);
+            attacks[dbid].setDbid(dbid);
+        }
+
+        learnsets = new ArrayList<>();
+        for (int form = 0; form < forms; form++) {
+            List<SpeciesAttack> learnset = new ArrayList<>();
+            Set<Integer> seen = new HashSet<>();
+            for (int i = 0; i < movesPerForm; i++) {
+                int dbid = i < movesPerForm * 3 / 4 ? i + 1 : 1 + random.nextInt(attacks.length - 1);
+                if (seen.add(dbid)) {
+                    String method = i % 10 == 0 ? METHODS[random.nextInt(METHODS.length)] : METHODS[dbid % METHODS.length];
+                    SpeciesAttack speciesAttack = new SpeciesAttack(form, dbid, method, 8);
+                    speciesAttack.setAttack(attacks[dbid]);
+                    learnset.add(speciesAttack);
+                }
+            }
+            learnsets.add(learnset);
+        }
+    }
+
+    @Benchmark
+    public List<String> formLearnsets() {
+        FormLearnsets formLearnsets = new FormLearnsets(learnsets);
+        BitSet unique = formLearnsets.findUnique();
+        List<HashMap<String, String>> formMethods = new ArrayList<>();
+        for (int form = 0; form < learnsets.size(); form++) {
+            formMethods.add(formLearnsets.getMethods(form, unique));
+        }
+        return formLearnsets.getNames(unique);
+    }
+
+    @Benchmark
+    public List<String> hashMapLists() {
+        List<String> uniqueMoves = new ArrayList<>();
+        HashMap<String, String> nonUniqueMovesAndMethods = new HashMap<>();
+        List<HashMap<String, String>> allFormAttackMethods = new ArrayList<>();
+
+        int index = 0;
+        for (List<SpeciesAttack> learnset : learnsets) {
+            HashMap<String, String> formAttackMethods = new HashMap<>();
+            allFormAttackMethods.add(formAttackMethods);
+            for (SpeciesAttack attack : learnset) {
+                String attackName = attack.getAttack().getName();
+                String attackMethod = attack.getMethod();
+                formAttackMethods.put(attackName, attackMethod);
+                if (!uniqueMoves.contains(attackName) && !nonUniqueMovesAndMethods.containsKey(attackName) && index == 0) {
+                    nonUniqueMovesAndMethods.put(attackName, attackMethod);
+                }
+                else if (!uniqueMoves.contains(attackName) && !nonUniqueMovesAndMethods.containsKey(attackName) && index != 0) {
+                    uniqueMoves.add(attackName);
+                }
+                else if (nonUniqueMovesAndMethods.containsKey(attackName) && !Objects.equals(attackMethod, nonUniqueMovesAndMethods.get(attackName))) {
+                    uniqueMoves.add(attackName);
+                    nonUniqueMovesAndMethods.remove(attackName);
+                }
+                else if (nonUniqueMovesAndMethods.containsKey(attackName) && index == learnsets.size() - 1) {
+                    nonUniqueMovesAndMethods.remove(attackName);
+                }
+            }
+            index++;
+        }
+        uniqueMoves.addAll(nonUniqueMovesAndMethods.keySet());
+        Collections.sort(uniqueMoves);
+
+        for (HashMap<String, String> formAttackMethods : allFormAttackMethods) {
+            HashMap<String, String> formUniqueAttacks = new HashMap<>();
+            for (String attack : uniqueMoves) {
+                formUniqueAttacks.put(attack, formAttackMethods.get(attack));
+            }
+        }
+        return uniqueMoves;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(UniqueMoveListBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,55 @@
+package com.pokemonurpg.service;
+
+import com.pokemonurpg.dto.security.SessionDto;
+import com.pokemonurpg.object.Member;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class VerifiedSessionCacheTest {
+
+    private VerifiedSessionCache verifiedSessionCache;
+    private Member member = new Member();
+    private SessionDto session = new SessionDto("Ash", "123456789", "access-token", "refresh-token");
+
+    @Before
+    public void init() {
+        verifiedSessionCache = new VerifiedSessionCache();
+        member.setUsername("Ash");
+        member.setDiscordId("123456789");
+        member.setSessionExpire(System.currentTimeMillis() / 1000 + 3600);
+    }
+
+    @Test
+    public void verifiedSessionIsCached() {
+        assertFalse(verifiedSessionCache.isVerified(session));
+        verifiedSessionCache.put(session, member);
+        assertTrue(verifiedSessionCache.isVerified(session));
+
+        assertEquals(1L, (long) verifiedSessionCache.getStats().get("hits"));
+        assertEquals(1L, (long) verifiedSessionCache.getStats().get("misses"));
+    }
+
+    @Test
+    public void sessionPastExpiryIsNotVerified() {
+        member.setSessionExpire(System.currentTimeMillis() / 1000 + 30);
+        verifiedSessionCache.put(session, member);
+
+        assertFalse(verifiedSessionCache.isVerified(session));
+        assertEquals(1L, (long) verifiedSessionCache.getStats().get("evictions"));
+    }
+
+    @Test
+    public void differentUserWithSameTokenIsNotVerified() {
+        verifiedSessionCache.put(session, member);
+        assertFalse(verifiedSessionCache.isVerified(new SessionDto("Gary", "987654321", "access-token", "refresh-token")));
+    }
+
+    @Test
+    public void invalidateRemovesSessionsForMember() {
+        verifiedSessionCache.put(session, member);
+        verifiedSessionCache.invalidate(member.getDiscordId());
+        assertFalse(verifiedSessionCache.isVerified(session));
+    }
+}